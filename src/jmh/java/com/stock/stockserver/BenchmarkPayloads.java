@@ -0,0 +1,82 @@
+package com.stock.stockserver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.DailyPriceSeries;
+import com.stock.stockserver.dto.StockDataDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 입력 데이터 (src/jmh/resources/payloads).
+ *
+ * KIS 응답은 실제 응답과 같은 필드 구성(output1/output2, 문자열 숫자)을 그대로 담고,
+ * LLM 응답은 프롬프트 규칙대로 작성된 분석 본문 + 마지막 줄 JSON 형태다.
+ */
+public final class BenchmarkPayloads {
+
+    public static final String KIS_DOMESTIC_DAILY = "kis-domestic-daily.json";
+    public static final String KIS_OVERSEAS_DAILY = "kis-overseas-daily.json";
+    public static final String LLM_RESPONSE = "llm-response.txt";
+
+    private BenchmarkPayloads() {
+    }
+
+    public static String read(String name) {
+        try (InputStream in = BenchmarkPayloads.class.getResourceAsStream("/payloads/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("벤치마크 데이터 없음: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 국내 일봉 응답으로 만든 분석 입력 1건 (프롬프트 생성, 캐시 직렬화용)
+     */
+    @SuppressWarnings("unchecked")
+    public static StockDataDto domesticStockData(ObjectMapper objectMapper) {
+        try {
+            Map<String, Object> response = objectMapper.readValue(read(KIS_DOMESTIC_DAILY), Map.class);
+            List<Map<String, Object>> rows = (List<Map<String, Object>>) response.get("output2");
+
+            DailyPriceSeries.Builder builder = DailyPriceSeries.builder(rows.size());
+            for (Map<String, Object> row : rows) {
+                builder.add(LocalDate.parse((String) row.get("stck_bsop_date"), DateTimeFormatter.BASIC_ISO_DATE),
+                        Double.parseDouble((String) row.get("stck_oprc")),
+                        Double.parseDouble((String) row.get("stck_clpr")),
+                        Double.parseDouble((String) row.get("stck_hgpr")),
+                        Double.parseDouble((String) row.get("stck_lwpr")),
+                        Long.parseLong((String) row.get("acml_vol")));
+            }
+            DailyPriceSeries series = builder.build();
+
+            return StockDataDto.builder()
+                    .target(AnalysisTarget.DOMESTIC)
+                    .exchangeCode("KRX")
+                    .stockCode("005930")
+                    .stockName("삼성전자")
+                    .currentPrice(new BigDecimal("97900"))
+                    .changePercent(new BigDecimal("1.24"))
+                    .tradingVolume(21_432_567L)
+                    .tradingAmount(2_098_123_456_789L)
+                    .priceHigh52Week(BigDecimal.valueOf(series.maxHighPrice()))
+                    .priceLow52Week(BigDecimal.valueOf(series.minLowPrice()))
+                    .analysisDate(LocalDate.of(2025, 10, 17))
+                    .dailyPrices(series)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.stock.stockserver.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.BenchmarkPayloads;
+import com.stock.stockserver.domain.DailyPriceSeries;
+import com.stock.stockserver.dto.DailyPriceDto;
+import com.stock.stockserver.infrastructure.external.KisResponseParsingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * 수집/분석 단계의 종목 단위 변환.
+ *
+ * 일봉 DTO → 열 단위 시계열 → 저장 형식(encode), 분석 본문의 JSON 코드블럭 제거
+ */
+@State(Scope.Benchmark)
+public class AnalysisMappingBenchmark {
+
+    private List<DailyPriceDto> dailyPrices;
+    private byte[] encodedSeries;
+    private String responseText;
+
+    @Setup
+    public void setUp() throws Exception {
+        KisResponseParsingBenchmark kisBenchmark = new KisResponseParsingBenchmark();
+        kisBenchmark.setUp();
+        dailyPrices = kisBenchmark.mapDomesticDaily();
+
+        encodedSeries = BenchmarkPayloads.domesticStockData(new ObjectMapper()).dailyPrices().encode();
+        responseText = BenchmarkPayloads.read(BenchmarkPayloads.LLM_RESPONSE);
+    }
+
+    @Benchmark
+    public DailyPriceSeries toSeries() {
+        return StockDataCollectionService.toSeries(dailyPrices);
+    }
+
+    @Benchmark
+    public byte[] toSeriesAndEncode() {
+        return StockDataCollectionService.toSeries(dailyPrices).encode();
+    }
+
+    @Benchmark
+    public DailyPriceSeries decodeSeries() {
+        return DailyPriceSeries.decode(encodedSeries);
+    }
+
+    @Benchmark
+    public String removeJsonBlock() {
+        return StockAnalysisService.removeJsonBlock(responseText);
+    }
+}
@@ -0,0 +1,70 @@
+package com.stock.stockserver.infrastructure.config;
+
+import com.stock.stockserver.BenchmarkPayloads;
+import com.stock.stockserver.domain.RecommendationStatus;
+import com.stock.stockserver.dto.DailyPriceDto;
+import com.stock.stockserver.dto.LLMAnalysisResponseDto;
+import com.stock.stockserver.infrastructure.external.KisResponseParsingBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RedisCacheConfig 와 같은 값 직렬화기(RedisSerializer.json())로 캐시 값을 쓰고 읽는 비용.
+ *
+ * kisDomesticDailyCache 에는 종목마다 일봉 목록이, llmAnalysisCache 에는 분석 결과 1건이 들어간다.
+ */
+@State(Scope.Benchmark)
+public class CacheSerializationBenchmark {
+
+    private final RedisSerializer<Object> serializer = RedisSerializer.json();
+
+    private List<DailyPriceDto> dailyPrices;
+    private LLMAnalysisResponseDto analysisResponse;
+    private byte[] dailyPricesBytes;
+    private byte[] analysisResponseBytes;
+
+    @Setup
+    public void setUp() throws Exception {
+        KisResponseParsingBenchmark kisBenchmark = new KisResponseParsingBenchmark();
+        kisBenchmark.setUp();
+        // @Cacheable 은 메서드 반환값(ArrayList)을 그대로 저장한다
+        dailyPrices = new ArrayList<>(kisBenchmark.mapDomesticDaily());
+
+        String fullText = BenchmarkPayloads.read(BenchmarkPayloads.LLM_RESPONSE);
+        analysisResponse = LLMAnalysisResponseDto.builder()
+                .recommendation(RecommendationStatus.BUY)
+                .confidence(0.72)
+                .summary("정배열 전환과 거래량 증가로 단기 저항선 돌파 시도가 유력")
+                .fullAnalysis(fullText.substring(0, fullText.lastIndexOf('{')).trim())
+                .build();
+
+        dailyPricesBytes = serializer.serialize(dailyPrices);
+        analysisResponseBytes = serializer.serialize(analysisResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeDailyPrices() {
+        return serializer.serialize(dailyPrices);
+    }
+
+    @Benchmark
+    public Object deserializeDailyPrices() {
+        return serializer.deserialize(dailyPricesBytes);
+    }
+
+    @Benchmark
+    public byte[] serializeAnalysisResponse() {
+        return serializer.serialize(analysisResponse);
+    }
+
+    @Benchmark
+    public Object deserializeAnalysisResponse() {
+        return serializer.deserialize(analysisResponseBytes);
+    }
+}
@@ -0,0 +1,95 @@
+package com.stock.stockserver.infrastructure.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.BenchmarkPayloads;
+import com.stock.stockserver.dto.DailyPriceDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * KIS 응답 처리 (종목마다 일봉 1회씩 실행되는 구간).
+ *
+ * read*: JSON 문자열 → Map → DailyPriceDto (callApi 이후 단계 전체)
+ * map*: 이미 읽은 Map → DailyPriceDto
+ */
+@State(Scope.Benchmark)
+public class KisResponseParsingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private KisApiClient kisApiClient;
+    private String domesticBody;
+    private String overseasBody;
+    private Map<String, Object> domesticResponse;
+    private Map<String, Object> overseasResponse;
+    private List<Object> overseasNumbers;
+    private Map<String, String> dailyParams;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        kisApiClient = new KisApiClient(null, objectMapper, null, null, null, null);
+
+        domesticBody = BenchmarkPayloads.read(BenchmarkPayloads.KIS_DOMESTIC_DAILY);
+        overseasBody = BenchmarkPayloads.read(BenchmarkPayloads.KIS_OVERSEAS_DAILY);
+        domesticResponse = objectMapper.readValue(domesticBody, Map.class);
+        overseasResponse = objectMapper.readValue(overseasBody, Map.class);
+
+        overseasNumbers = new ArrayList<>();
+        for (Map<String, Object> row : (List<Map<String, Object>>) overseasResponse.get("output2")) {
+            overseasNumbers.add(row.get("clos"));
+            overseasNumbers.add(row.get("tvol"));
+        }
+
+        dailyParams = new HashMap<>();
+        dailyParams.put("FID_COND_MRKT_DIV_CODE", "J");
+        dailyParams.put("FID_INPUT_ISCD", "005930");
+        dailyParams.put("FID_INPUT_DATE_1", "20250722");
+        dailyParams.put("FID_INPUT_DATE_2", "20251017");
+        dailyParams.put("FID_PERIOD_DIV_CODE", "D");
+        dailyParams.put("FID_ORG_ADJ_PRC", "0");
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<DailyPriceDto> readDomesticDaily() throws Exception {
+        return kisApiClient.toDomesticDailyPrices("005930", objectMapper.readValue(domesticBody, Map.class));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<DailyPriceDto> readOverseasDaily() throws Exception {
+        return kisApiClient.toOverseasDailyPrices("AAPL", objectMapper.readValue(overseasBody, Map.class));
+    }
+
+    @Benchmark
+    public List<DailyPriceDto> mapDomesticDaily() {
+        return kisApiClient.toDomesticDailyPrices("005930", domesticResponse);
+    }
+
+    @Benchmark
+    public List<DailyPriceDto> mapOverseasDaily() {
+        return kisApiClient.toOverseasDailyPrices("AAPL", overseasResponse);
+    }
+
+    @Benchmark
+    public void parseNumbers(Blackhole blackhole) {
+        for (int i = 0; i < overseasNumbers.size(); i += 2) {
+            blackhole.consume(kisApiClient.parseDouble(overseasNumbers.get(i)));
+            blackhole.consume(kisApiClient.parseLong(overseasNumbers.get(i + 1)));
+        }
+    }
+
+    @Benchmark
+    public String buildQueryString() {
+        return kisApiClient.buildQueryString(dailyParams);
+    }
+}
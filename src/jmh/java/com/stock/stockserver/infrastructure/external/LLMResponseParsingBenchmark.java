@@ -0,0 +1,32 @@
+package com.stock.stockserver.infrastructure.external;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.BenchmarkPayloads;
+import com.stock.stockserver.dto.LLMAnalysisResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * LLM 응답 본문 → LLMAnalysisResponseDto (마지막 JSON 객체 추출 + 파싱)
+ */
+@State(Scope.Benchmark)
+public class LLMResponseParsingBenchmark {
+
+    private LLMApiClient llmApiClient;
+    private String responseText;
+
+    @Setup
+    public void setUp() {
+        llmApiClient = new LLMApiClient(Map.of(), new ObjectMapper(), null);
+        responseText = BenchmarkPayloads.read(BenchmarkPayloads.LLM_RESPONSE);
+    }
+
+    @Benchmark
+    public LLMAnalysisResponseDto parseLLMResponse() {
+        return llmApiClient.parseLLMResponse(responseText);
+    }
+}
@@ -0,0 +1,44 @@
+package com.stock.stockserver.infrastructure.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.BenchmarkPayloads;
+import com.stock.stockserver.dto.StockDataDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * 종목 1건의 LLM 프롬프트 생성 (템플릿 치환 + 일봉 포맷)
+ */
+@State(Scope.Benchmark)
+public class PromptBuilderBenchmark {
+
+    private LLMAnalysisPromptBuilder promptBuilder;
+    private StockDataDto stockData;
+
+    @Setup
+    public void setUp() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("benchmark", Map.of("llm.gpt.max-tokens", "2000")));
+
+        promptBuilder = new LLMAnalysisPromptBuilder(environment);
+        Field provider = ReflectionUtils.findField(LLMAnalysisPromptBuilder.class, "provider");
+        ReflectionUtils.makeAccessible(provider);
+        ReflectionUtils.setField(provider, promptBuilder, "gpt");
+
+        stockData = BenchmarkPayloads.domesticStockData(new ObjectMapper());
+    }
+
+    @Benchmark
+    public String build() {
+        return promptBuilder.build(stockData);
+    }
+}
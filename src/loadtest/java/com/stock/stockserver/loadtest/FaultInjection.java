@@ -0,0 +1,40 @@
+package com.stock.stockserver.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 서버가 요청마다 섞어 넣는 장애 비율 (0.0 ~ 1.0).
+ *
+ * @param throttleRate    429 (LLM rate limit)
+ * @param serverErrorRate 5xx
+ * @param truncateRate    정상 응답이지만 max_tokens 로 잘림 (finish_reason=length / stop_reason=max_tokens)
+ */
+public record FaultInjection(double throttleRate, double serverErrorRate, double truncateRate) {
+
+    public enum Fault { NONE, THROTTLE, SERVER_ERROR, TRUNCATE }
+
+    public FaultInjection {
+        if (throttleRate < 0 || serverErrorRate < 0 || truncateRate < 0
+                || throttleRate + serverErrorRate + truncateRate > 1) {
+            throw new IllegalArgumentException("장애 비율은 0 이상이고 합이 1 이하여야 합니다");
+        }
+    }
+
+    public static FaultInjection none() {
+        return new FaultInjection(0, 0, 0);
+    }
+
+    public Fault roll() {
+        double value = ThreadLocalRandom.current().nextDouble();
+        if (value < throttleRate) {
+            return Fault.THROTTLE;
+        }
+        if (value < throttleRate + serverErrorRate) {
+            return Fault.SERVER_ERROR;
+        }
+        if (value < throttleRate + serverErrorRate + truncateRate) {
+            return Fault.TRUNCATE;
+        }
+        return Fault.NONE;
+    }
+}
@@ -0,0 +1,73 @@
+package com.stock.stockserver.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 서버 응답 지연 분포.
+ *
+ * 표기법:
+ * - fixed:50            항상 50ms
+ * - uniform:20-80       20~80ms 균등 분포
+ * - lognormal:1200:6000 중앙값 1200ms, p99 6000ms 인 로그정규 분포 (LLM 응답처럼 꼬리가 긴 지연)
+ */
+public final class LatencyDistribution {
+
+    // 표준정규분포 99 백분위수
+    private static final double Z_99 = 2.3263478740;
+
+    private final String spec;
+    private final Kind kind;
+    private final double first;
+    private final double second;
+
+    private enum Kind { FIXED, UNIFORM, LOGNORMAL }
+
+    private LatencyDistribution(String spec, Kind kind, double first, double second) {
+        this.spec = spec;
+        this.kind = kind;
+        this.first = first;
+        this.second = second;
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            return switch (parts[0]) {
+                case "fixed" -> new LatencyDistribution(spec, Kind.FIXED, Double.parseDouble(parts[1]), 0);
+                case "uniform" -> {
+                    String[] range = parts[1].split("-");
+                    yield new LatencyDistribution(spec, Kind.UNIFORM,
+                            Double.parseDouble(range[0]), Double.parseDouble(range[1]));
+                }
+                case "lognormal" -> {
+                    double median = Double.parseDouble(parts[1]);
+                    double p99 = Double.parseDouble(parts[2]);
+                    if (median <= 0 || p99 < median) {
+                        throw new IllegalArgumentException("lognormal 은 0 < median <= p99 이어야 합니다: " + spec);
+                    }
+                    // mu = ln(median), sigma = ln(p99 / median) / z99
+                    yield new LatencyDistribution(spec, Kind.LOGNORMAL, Math.log(median), Math.log(p99 / median) / Z_99);
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+            };
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("지연 분포 형식 오류: " + spec, e);
+        }
+    }
+
+    public Duration sample() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double millis = switch (kind) {
+            case FIXED -> first;
+            case UNIFORM -> first + random.nextDouble() * (second - first);
+            case LOGNORMAL -> Math.exp(first + second * random.nextGaussian());
+        };
+        return Duration.ofNanos((long) (Math.max(0, millis) * 1_000_000));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,20 @@
+package com.stock.stockserver.loadtest;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 같은 종목을 반복 요청하는 부하 테스트에서 KIS/LLM 캐시가 호출을 가리지 않도록 캐시를 끈다.
+ *
+ * 컴포넌트 스캔 대상이 아니며, LoadTestRunner 가 loadtest.cache=none 일 때만 소스로 추가한다.
+ */
+public class LoadTestCacheConfig {
+
+    @Bean
+    @Primary
+    public CacheManager noOpCacheManager() {
+        return new NoOpCacheManager();
+    }
+}
@@ -0,0 +1,130 @@
+package com.stock.stockserver.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * /api/analysis/run 으로 분석을 요청하고 /api/analysis/status/{id} 를 폴링해 작업 1건의 종료까지 시간을 잰다.
+ *
+ * concurrency 개의 클라이언트가 각자 "요청 → 완료 대기"를 반복한다 (closed loop).
+ */
+@Slf4j
+public class LoadTestDriver {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String appUrl;
+    private final String target;
+    private final Duration pollInterval;
+    private final Duration jobTimeout;
+
+    public LoadTestDriver(String appUrl, String target, Duration pollInterval, Duration jobTimeout) {
+        this.appUrl = appUrl;
+        this.target = target;
+        this.pollInterval = pollInterval;
+        this.jobTimeout = jobTimeout;
+    }
+
+    public LoadTestReport run(int jobs, int concurrency) throws InterruptedException {
+        AtomicInteger remaining = new AtomicInteger(jobs);
+        List<JobResult> results = Collections.synchronizedList(new ArrayList<>(jobs));
+
+        long startedAt = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(clients.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        results.add(runJob());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("부하 클라이언트 오류", e.getCause());
+                }
+            }
+        }
+        Duration wallTime = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        return LoadTestReport.of(target, concurrency, wallTime, results);
+    }
+
+    private JobResult runJob() {
+        long startedAt = System.nanoTime();
+        String analysisId = null;
+        try {
+            HttpResponse<String> submitted = httpClient.send(
+                    HttpRequest.newBuilder(URI.create(appUrl + "/api/analysis/run?target=" + target))
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .timeout(Duration.ofSeconds(30))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            long submitNanos = System.nanoTime() - startedAt;
+
+            if (submitted.statusCode() != 200) {
+                log.warn("분석 요청 실패: status={}, body={}", submitted.statusCode(), submitted.body());
+                return new JobResult(null, JobResult.Outcome.REJECTED, submitNanos, System.nanoTime() - startedAt);
+            }
+            analysisId = objectMapper.readTree(submitted.body()).path("analysisId").asText();
+
+            long deadline = startedAt + jobTimeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(pollInterval);
+                String status = fetchStatus(analysisId);
+                if ("DONE".equals(status) || "FAILED".equals(status)) {
+                    JobResult.Outcome outcome = "DONE".equals(status) ? JobResult.Outcome.DONE : JobResult.Outcome.FAILED;
+                    return new JobResult(analysisId, outcome, submitNanos, System.nanoTime() - startedAt);
+                }
+            }
+            log.warn("작업 완료 대기 시간 초과: analysisId={}", analysisId);
+            return new JobResult(analysisId, JobResult.Outcome.TIMEOUT, submitNanos, System.nanoTime() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new JobResult(analysisId, JobResult.Outcome.ERROR, 0, System.nanoTime() - startedAt);
+        } catch (Exception e) {
+            log.warn("부하 요청 오류: analysisId={}, error={}", analysisId, e.getMessage());
+            return new JobResult(analysisId, JobResult.Outcome.ERROR, 0, System.nanoTime() - startedAt);
+        }
+    }
+
+    private String fetchStatus(String analysisId) throws Exception {
+        HttpResponse<String> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create(appUrl + "/api/analysis/status/" + analysisId))
+                        .GET()
+                        .timeout(Duration.ofSeconds(10))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            // 발행 직후에는 상태가 아직 저장되지 않았을 수 있다 (404)
+            return null;
+        }
+        JsonNode body = objectMapper.readTree(response.body());
+        return body.path("analysisStatus").asText(null);
+    }
+
+    public record JobResult(String analysisId, Outcome outcome, long submitNanos, long totalNanos) {
+
+        public enum Outcome { DONE, FAILED, TIMEOUT, REJECTED, ERROR }
+    }
+}
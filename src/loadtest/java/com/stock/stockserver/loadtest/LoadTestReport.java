@@ -0,0 +1,82 @@
+package com.stock.stockserver.loadtest;
+
+import com.stock.stockserver.loadtest.LoadTestDriver.JobResult;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과 요약. 처리량은 DONE/FAILED 로 끝난 작업 기준이다.
+ */
+public record LoadTestReport(
+        String target,
+        int concurrency,
+        Duration wallTime,
+        Map<JobResult.Outcome, Integer> outcomes,
+        double jobsPerMinute,
+        Percentiles jobLatencyMs,
+        Percentiles submitLatencyMs
+) {
+
+    public record Percentiles(long p50, long p90, long p95, long p99, long max) {
+
+        static Percentiles of(long[] sortedMillis) {
+            if (sortedMillis.length == 0) {
+                return new Percentiles(0, 0, 0, 0, 0);
+            }
+            return new Percentiles(
+                    at(sortedMillis, 0.50), at(sortedMillis, 0.90), at(sortedMillis, 0.95),
+                    at(sortedMillis, 0.99), sortedMillis[sortedMillis.length - 1]);
+        }
+
+        // nearest-rank
+        private static long at(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        @Override
+        public String toString() {
+            return "p50=%dms p90=%dms p95=%dms p99=%dms max=%dms".formatted(p50, p90, p95, p99, max);
+        }
+    }
+
+    static LoadTestReport of(String target, int concurrency, Duration wallTime, List<JobResult> results) {
+        Map<JobResult.Outcome, Integer> outcomes = new EnumMap<>(JobResult.Outcome.class);
+        results.forEach(result -> outcomes.merge(result.outcome(), 1, Integer::sum));
+
+        List<JobResult> finished = results.stream()
+                .filter(result -> result.outcome() == JobResult.Outcome.DONE || result.outcome() == JobResult.Outcome.FAILED)
+                .toList();
+
+        long[] jobMillis = finished.stream()
+                .mapToLong(result -> TimeUnit.NANOSECONDS.toMillis(result.totalNanos()))
+                .sorted()
+                .toArray();
+        long[] submitMillis = results.stream()
+                .filter(result -> result.submitNanos() > 0)
+                .mapToLong(result -> TimeUnit.NANOSECONDS.toMillis(result.submitNanos()))
+                .sorted()
+                .toArray();
+
+        double minutes = wallTime.toMillis() / 60_000d;
+        double jobsPerMinute = minutes > 0 ? finished.size() / minutes : 0;
+
+        return new LoadTestReport(target, concurrency, wallTime, outcomes, jobsPerMinute,
+                Percentiles.of(jobMillis), Percentiles.of(submitMillis));
+    }
+
+    public String summary() {
+        return """
+                ===== 부하 테스트 결과 =====
+                target=%s, concurrency=%d, wallTime=%.1fs
+                outcomes=%s
+                throughput=%.2f jobs/min
+                job latency    : %s
+                submit latency : %s""".formatted(
+                target, concurrency, wallTime.toMillis() / 1000d, outcomes, jobsPerMinute, jobLatencyMs, submitLatencyMs);
+    }
+}
@@ -0,0 +1,95 @@
+package com.stock.stockserver.loadtest;
+
+import com.stock.stockserver.StockServerApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스텁 KIS/LLM 서버 + 애플리케이션을 한 프로세스에 띄우고 LoadTestDriver 로 부하를 건다.
+ *
+ * 외부 API 없이 실행되며, Redis/MySQL 은 로컬 인스턴스를 사용한다. (기본 in-memory 프로필이라 Kafka 는 필요 없다)
+ * loadtest.app-url 을 주면 스텁/애플리케이션을 띄우지 않고 이미 실행 중인 서버에 부하만 건다.
+ *
+ * 설정은 시스템 프로퍼티(./gradlew loadTest -Ploadtest.jobs=50 ...)로 받는다.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        int jobs = Integer.getInteger("loadtest.jobs", 20);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 2);
+        String target = System.getProperty("loadtest.target", "DOMESTIC");
+        Duration pollInterval = Duration.ofMillis(Long.getLong("loadtest.poll-interval-ms", 500));
+        Duration jobTimeout = Duration.ofSeconds(Long.getLong("loadtest.job-timeout-seconds", 600));
+
+        String externalAppUrl = System.getProperty("loadtest.app-url");
+        if (externalAppUrl != null) {
+            report(new LoadTestDriver(externalAppUrl, target, pollInterval, jobTimeout).run(jobs, concurrency));
+            return;
+        }
+
+        LatencyDistribution kisLatency = LatencyDistribution.parse(System.getProperty("loadtest.kis.latency", "lognormal:40:250"));
+        FaultInjection kisFaults = new FaultInjection(0,
+                doubleProperty("loadtest.kis.server-error-rate", 0.01), 0);
+        int kisRequestsPerSecond = Integer.getInteger("loadtest.kis.requests-per-second", 20);
+
+        LatencyDistribution llmLatency = LatencyDistribution.parse(System.getProperty("loadtest.llm.latency", "lognormal:4000:15000"));
+        FaultInjection llmFaults = new FaultInjection(
+                doubleProperty("loadtest.llm.throttle-rate", 0.02),
+                doubleProperty("loadtest.llm.server-error-rate", 0.01),
+                doubleProperty("loadtest.llm.truncate-rate", 0.01));
+
+        try (StubKisServer kis = new StubKisServer(kisLatency, kisFaults, kisRequestsPerSecond);
+             StubLlmServer llm = new StubLlmServer(llmLatency, llmFaults)) {
+            kis.start();
+            llm.start();
+            log.info("스텁 설정: kis latency={}, ceiling={}/s, faults={} | llm latency={}, faults={}",
+                    kisLatency, kisRequestsPerSecond, kisFaults, llmLatency, llmFaults);
+
+            try (ConfigurableApplicationContext app = startApplication(kis, llm)) {
+                String appUrl = "http://127.0.0.1:" + app.getEnvironment().getProperty("local.server.port");
+                LoadTestReport result = new LoadTestDriver(appUrl, target, pollInterval, jobTimeout).run(jobs, concurrency);
+
+                report(result);
+                log.info("KIS 스텁: {}", kis.stats());
+                log.info("LLM 스텁: {}", llm.stats());
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(StubKisServer kis, StubLlmServer llm) {
+        List<Class<?>> sources = new ArrayList<>(List.of(StockServerApplication.class));
+        if ("none".equals(System.getProperty("loadtest.cache", "none"))) {
+            sources.add(LoadTestCacheConfig.class);
+        }
+
+        SpringApplication application = new SpringApplication(sources.toArray(Class<?>[]::new));
+        application.setAdditionalProfiles(System.getProperty("loadtest.profile", "in-memory").split(","));
+
+        return application.run(
+                "--server.port=0",
+                "--kis.api.base-url=" + kis.baseUrl(),
+                "--kis.api.app-key=loadtest",
+                "--kis.api.app-secret=loadtest",
+                "--llm.provider=" + System.getProperty("loadtest.llm.provider", "gpt"),
+                "--llm.gpt.base-url=" + llm.openAiUrl(),
+                "--llm.gpt.api-key=loadtest",
+                "--llm.claude.base-url=" + llm.anthropicUrl(),
+                "--llm.claude.api-key=loadtest"
+        );
+    }
+
+    private static void report(LoadTestReport result) {
+        log.info("\n{}", result.summary());
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
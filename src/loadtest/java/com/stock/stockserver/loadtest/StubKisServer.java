@@ -0,0 +1,226 @@
+package com.stock.stockserver.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * KIS Open API 스텁. (토큰 발급, 국내/해외 거래량 순위, 국내/해외 일봉)
+ *
+ * 실제 KIS처럼 초당 호출 수가 한도를 넘으면 HTTP 500 + msg_cd=EGW00201 로 거절한다.
+ * 응답 필드 구성은 KisApiClient 가 읽는 실제 응답 형식(문자열 숫자, output/output2)을 따른다.
+ */
+public class StubKisServer extends StubServer {
+
+    private static final String[][] DOMESTIC_STOCKS = {
+            {"005930", "삼성전자"}, {"000660", "SK하이닉스"}, {"373220", "LG에너지솔루션"}, {"207940", "삼성바이오로직스"},
+            {"005380", "현대차"}, {"000270", "기아"}, {"068270", "셀트리온"}, {"035420", "NAVER"},
+            {"005490", "POSCO홀딩스"}, {"035720", "카카오"}, {"051910", "LG화학"}, {"006400", "삼성SDI"},
+            {"105560", "KB금융"}, {"055550", "신한지주"}, {"012330", "현대모비스"}
+    };
+    private static final String[][] OVERSEAS_STOCKS = {
+            {"AAPL", "Apple Inc"}, {"NVDA", "NVIDIA Corp"}, {"TSLA", "Tesla Inc"}, {"MSFT", "Microsoft Corp"},
+            {"AMZN", "Amazon.com Inc"}, {"META", "Meta Platforms Inc"}, {"AMD", "Advanced Micro Devices"},
+            {"PLTR", "Palantir Technologies"}, {"INTC", "Intel Corp"}, {"SOFI", "SoFi Technologies"}
+    };
+
+    private final LatencyDistribution latency;
+    private final FaultInjection faults;
+    private final int requestsPerSecond;
+
+    private long windowStartMs;
+    private int windowCount;
+
+    public StubKisServer(LatencyDistribution latency, FaultInjection faults, int requestsPerSecond) throws IOException {
+        super("KIS");
+        this.latency = latency;
+        this.faults = faults;
+        this.requestsPerSecond = requestsPerSecond;
+
+        route("/oauth2/tokenP", this::issueToken);
+        route("/uapi/domestic-stock/v1/quotations/volume-rank", exchange ->
+                respond(exchange, () -> domesticVolumeRank()));
+        route("/uapi/overseas-stock/v1/ranking/trade-vol", exchange ->
+                respond(exchange, () -> overseasVolumeRank(query(exchange).getOrDefault("EXCD", "NAS"))));
+        route("/uapi/domestic-stock/v1/quotations/inquire-daily-itemchartprice", exchange ->
+                respond(exchange, () -> domesticDaily(query(exchange).get("FID_INPUT_ISCD"))));
+        route("/uapi/overseas-price/v1/quotations/dailyprice", exchange ->
+                respond(exchange, () -> overseasDaily(query(exchange).get("SYMB"))));
+    }
+
+    private void issueToken(HttpExchange exchange) throws Exception {
+        pause(latency.sample());
+        sendJson(exchange, 200, Map.of(
+                "access_token", "loadtest-access-token",
+                "access_token_token_expired", "2099-12-31 23:59:59",
+                "token_type", "Bearer",
+                "expires_in", 86400
+        ));
+    }
+
+    private void respond(HttpExchange exchange, ResponseBody body) throws Exception {
+        if (!tryAcquire()) {
+            count("throttled");
+            sendJson(exchange, 500, error("EGW00201", "초당 거래건수를 초과하였습니다."));
+            return;
+        }
+
+        pause(latency.sample());
+
+        switch (faults.roll()) {
+            case THROTTLE -> {
+                count("throttled");
+                sendJson(exchange, 500, error("EGW00201", "초당 거래건수를 초과하였습니다."));
+            }
+            case SERVER_ERROR -> {
+                count("server_error");
+                sendJson(exchange, 503, error("EGW00500", "일시적인 오류가 발생했습니다."));
+            }
+            default -> sendJson(exchange, 200, body.build());
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseBody {
+        Map<String, Object> build();
+    }
+
+    /**
+     * 1초 고정 윈도우. KIS 한도 초과 판정과 같은 방식으로 요청이 도착한 시점에 센다.
+     */
+    private synchronized boolean tryAcquire() {
+        long now = System.currentTimeMillis();
+        if (now - windowStartMs >= 1000) {
+            windowStartMs = now;
+            windowCount = 0;
+        }
+        return ++windowCount <= requestsPerSecond;
+    }
+
+    private Map<String, Object> domesticVolumeRank() {
+        List<Map<String, Object>> output = new ArrayList<>();
+        for (int i = 0; i < DOMESTIC_STOCKS.length; i++) {
+            Random random = seeded(DOMESTIC_STOCKS[i][0]);
+            long price = 10_000 + random.nextInt(400) * 500L;
+            long volume = 30_000_000L - i * 1_500_000L;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("hts_kor_isnm", DOMESTIC_STOCKS[i][1]);
+            row.put("mksc_shrn_iscd", DOMESTIC_STOCKS[i][0]);
+            row.put("data_rank", String.valueOf(i + 1));
+            row.put("stck_prpr", String.valueOf(price));
+            row.put("prdy_vrss_sign", "2");
+            row.put("prdy_vrss", String.valueOf(price / 100));
+            row.put("prdy_ctrt", String.format("%.2f", random.nextDouble() * 6 - 3));
+            row.put("acml_vol", String.valueOf(volume));
+            row.put("prdy_vol", String.valueOf(volume - 1_000_000));
+            row.put("acml_tr_pbmn", String.valueOf(volume * price));
+            output.add(row);
+        }
+        return success(Map.of("output", output));
+    }
+
+    private Map<String, Object> overseasVolumeRank(String exchangeCode) {
+        List<Map<String, Object>> output = new ArrayList<>();
+        for (int i = 0; i < OVERSEAS_STOCKS.length; i++) {
+            Random random = seeded(exchangeCode + OVERSEAS_STOCKS[i][0]);
+            double price = 5 + random.nextDouble() * 500;
+            long volume = 80_000_000L - i * 5_000_000L - random.nextInt(1_000_000);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("excd", exchangeCode);
+            row.put("symb", OVERSEAS_STOCKS[i][0]);
+            row.put("name", OVERSEAS_STOCKS[i][1]);
+            row.put("last", String.format("%.4f", price));
+            row.put("rate", String.format("%.2f", random.nextDouble() * 8 - 4));
+            row.put("tvol", String.valueOf(volume));
+            row.put("tamt", String.valueOf((long) (volume * price)));
+            row.put("rank", String.valueOf(i + 1));
+            output.add(row);
+        }
+        return success(Map.of("output1", Map.of("zdiv", "4", "stat", "", "nrec", String.valueOf(output.size())),
+                "output2", output));
+    }
+
+    private Map<String, Object> domesticDaily(String stockCode) {
+        Random random = seeded(stockCode);
+        double price = 10_000 + random.nextInt(400) * 500;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LocalDate date : tradingDays(60)) {
+            double open = Math.round(price * (1 + (random.nextDouble() - 0.5) * 0.02) / 100) * 100;
+            double close = Math.round(open * (1 + (random.nextDouble() - 0.5) * 0.04) / 100) * 100;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("stck_bsop_date", date.format(DateTimeFormatter.BASIC_ISO_DATE));
+            row.put("stck_clpr", String.valueOf((long) close));
+            row.put("stck_oprc", String.valueOf((long) open));
+            row.put("stck_hgpr", String.valueOf((long) (Math.max(open, close) + 100 * random.nextInt(10))));
+            row.put("stck_lwpr", String.valueOf((long) (Math.min(open, close) - 100 * random.nextInt(10))));
+            row.put("acml_vol", String.valueOf(5_000_000 + random.nextInt(30_000_000)));
+            row.put("acml_tr_pbmn", String.valueOf((long) (close * 10_000_000)));
+            row.put("flng_cls_code", "00");
+            row.put("mod_yn", "N");
+            rows.add(row);
+            price = close;
+        }
+        return success(Map.of("output1", Map.of("stck_shrn_iscd", String.valueOf(stockCode)), "output2", rows));
+    }
+
+    private Map<String, Object> overseasDaily(String symbol) {
+        Random random = seeded(symbol);
+        double price = 5 + random.nextDouble() * 500;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LocalDate date : tradingDays(100)) {
+            double open = price * (1 + (random.nextDouble() - 0.5) * 0.02);
+            double close = open * (1 + (random.nextDouble() - 0.5) * 0.05);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("xymd", date.format(DateTimeFormatter.BASIC_ISO_DATE));
+            row.put("clos", String.format("%.4f", close));
+            row.put("sign", close >= open ? "2" : "5");
+            row.put("diff", String.format("%.4f", Math.abs(close - open)));
+            row.put("rate", String.format("%.2f", (close - open) / open * 100));
+            row.put("open", String.format("%.4f", open));
+            row.put("high", String.format("%.4f", Math.max(open, close) * (1 + random.nextDouble() * 0.01)));
+            row.put("low", String.format("%.4f", Math.min(open, close) * (1 - random.nextDouble() * 0.01)));
+            row.put("tvol", String.valueOf(20_000_000 + random.nextInt(60_000_000)));
+            row.put("tamt", String.valueOf((long) (close * 40_000_000)));
+            rows.add(row);
+            price = close;
+        }
+        return success(Map.of("output1", Map.of("rsym", "D" + symbol, "zdiv", "4", "nrec", String.valueOf(rows.size())),
+                "output2", rows));
+    }
+
+    private static List<LocalDate> tradingDays(int count) {
+        List<LocalDate> days = new ArrayList<>(count);
+        LocalDate date = LocalDate.now().minusDays(1);
+        while (days.size() < count) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                days.add(date);
+            }
+            date = date.minusDays(1);
+        }
+        return days;
+    }
+
+    private static Random seeded(String key) {
+        return new Random(key == null ? 0 : key.hashCode());
+    }
+
+    private static Map<String, Object> success(Map<String, Object> body) {
+        Map<String, Object> response = new LinkedHashMap<>(body);
+        response.put("rt_cd", "0");
+        response.put("msg_cd", "MCA00000");
+        response.put("msg1", "정상처리 되었습니다.");
+        return response;
+    }
+
+    private static Map<String, Object> error(String msgCode, String message) {
+        return Map.of("rt_cd", "1", "msg_cd", msgCode, "msg1", message);
+    }
+}
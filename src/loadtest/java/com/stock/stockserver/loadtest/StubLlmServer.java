@@ -0,0 +1,132 @@
+package com.stock.stockserver.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI Chat Completions(/v1/chat/completions) 와 Anthropic Messages(/v1/messages) 스텁.
+ *
+ * 응답 본문은 프롬프트 규칙(Markdown 본문 + 마지막 줄 JSON)을 따르며, 잘림 장애는
+ * 본문 절반만 돌려주고 finish_reason=length / stop_reason=max_tokens 로 표시한다.
+ */
+public class StubLlmServer extends StubServer {
+
+    public static final String OPENAI_PATH = "/v1/chat/completions";
+    public static final String ANTHROPIC_PATH = "/v1/messages";
+
+    private static final String ANALYSIS_BODY = """
+            ### 기술적 분석
+
+            - 최근 60거래일 동안 종가는 박스권 상단에서 완만한 우상향 흐름을 보이고 있습니다.
+            - 20일 이동평균선이 60일 이동평균선을 상향 돌파해 단기 추세가 개선되었습니다.
+            - 1차 지지선은 직전 저점 부근, 저항선은 최근 고점 부근으로 판단됩니다.
+
+            ### 거래량 분석
+
+            - 최근 5거래일 평균 거래량이 60일 평균 대비 증가했습니다.
+            - 상승일 거래량이 하락일 거래량보다 많아 매수 우위의 수급이 관찰됩니다.
+
+            ### 가격 변동 패턴
+
+            - 일중 변동폭이 축소된 뒤 저항선에 접근하고 있어 돌파 여부가 단기 방향을 결정할 가능성이 높습니다.
+
+            ### 투자 근거 및 주의사항
+
+            - 근거: 이동평균선 정배열 전환, 거래량 증가, 변동성 축소 후 저항선 접근.
+            - 주의: 수급 변화와 환율 변동에 따라 단기 변동성이 확대될 수 있습니다.
+            """;
+
+    private final LatencyDistribution latency;
+    private final FaultInjection faults;
+
+    public StubLlmServer(LatencyDistribution latency, FaultInjection faults) throws IOException {
+        super("LLM");
+        this.latency = latency;
+        this.faults = faults;
+
+        route(OPENAI_PATH, exchange -> respond(exchange, true));
+        route(ANTHROPIC_PATH, exchange -> respond(exchange, false));
+    }
+
+    public String openAiUrl() {
+        return baseUrl() + OPENAI_PATH;
+    }
+
+    public String anthropicUrl() {
+        return baseUrl() + ANTHROPIC_PATH;
+    }
+
+    private void respond(HttpExchange exchange, boolean openAi) throws Exception {
+        Map<?, ?> request = readJson(exchange);
+        String model = String.valueOf(request.get("model"));
+
+        FaultInjection.Fault fault = faults.roll();
+        if (fault == FaultInjection.Fault.THROTTLE) {
+            // rate limit 응답은 보통 지연 없이 바로 돌아온다
+            count("throttled");
+            exchange.getResponseHeaders().set("retry-after", "1");
+            sendJson(exchange, 429, openAi
+                    ? Map.of("error", Map.of("type", "rate_limit_exceeded", "message", "Rate limit reached"))
+                    : Map.of("type", "error", "error", Map.of("type", "rate_limit_error", "message", "Rate limit reached")));
+            return;
+        }
+
+        pause(latency.sample());
+
+        if (fault == FaultInjection.Fault.SERVER_ERROR) {
+            count("server_error");
+            sendJson(exchange, openAi ? 503 : 529, openAi
+                    ? Map.of("error", Map.of("type", "server_error", "message", "The server is overloaded"))
+                    : Map.of("type", "error", "error", Map.of("type", "overloaded_error", "message", "Overloaded")));
+            return;
+        }
+
+        boolean truncated = fault == FaultInjection.Fault.TRUNCATE;
+        String text = truncated ? ANALYSIS_BODY.substring(0, ANALYSIS_BODY.length() / 2) : ANALYSIS_BODY + verdict();
+        if (truncated) {
+            count("truncated");
+        }
+
+        sendJson(exchange, 200, openAi ? openAiResponse(model, text, truncated) : anthropicResponse(model, text, truncated));
+    }
+
+    private static String verdict() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String recommendation = random.nextBoolean() ? "BUY" : "SELL";
+        double confidence = Math.round((0.5 + random.nextDouble() * 0.45) * 100) / 100.0;
+        return "\n{\"recommendation\": \"" + recommendation + "\", \"confidence\": " + confidence
+                + ", \"summary\": \"부하 테스트 스텁 응답\"}";
+    }
+
+    private static Map<String, Object> openAiResponse(String model, String text, boolean truncated) {
+        return Map.of(
+                "id", "chatcmpl-" + UUID.randomUUID(),
+                "object", "chat.completion",
+                "model", model,
+                "choices", List.of(Map.of(
+                        "index", 0,
+                        "message", Map.of("role", "assistant", "content", text),
+                        "finish_reason", truncated ? "length" : "stop"
+                )),
+                "usage", Map.of("prompt_tokens", 1500, "completion_tokens", text.length() / 2,
+                        "total_tokens", 1500 + text.length() / 2)
+        );
+    }
+
+    private static Map<String, Object> anthropicResponse(String model, String text, boolean truncated) {
+        return Map.of(
+                "id", "msg_" + UUID.randomUUID(),
+                "type", "message",
+                "role", "assistant",
+                "model", model,
+                "content", List.of(Map.of("type", "text", "text", text)),
+                "stop_reason", truncated ? "max_tokens" : "end_turn",
+                "usage", Map.of("input_tokens", 1500, "output_tokens", text.length() / 2)
+        );
+    }
+}
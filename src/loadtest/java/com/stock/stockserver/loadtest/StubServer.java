@@ -0,0 +1,120 @@
+package com.stock.stockserver.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDK HttpServer 기반 스텁 서버 공통부. (127.0.0.1, 빈 포트)
+ *
+ * 요청마다 가상 스레드 하나로 처리하므로 지연을 sleep 으로 흉내 내도 다른 요청을 막지 않는다.
+ */
+@Slf4j
+public abstract class StubServer implements AutoCloseable {
+
+    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    protected interface Route {
+        void handle(HttpExchange exchange) throws Exception;
+    }
+
+    protected StubServer(String name) throws IOException {
+        this.name = name;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(executor);
+    }
+
+    protected void route(String path, Route route) {
+        server.createContext(path, exchange -> {
+            count("requests");
+            try (exchange) {
+                route.handle(exchange);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.warn("[{}] 스텁 처리 오류: path={}, error={}", name, path, e.getMessage());
+                sendJson(exchange, 500, Map.of("error", String.valueOf(e.getMessage())));
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+        log.info("[{}] 스텁 서버 시작: {}", name, baseUrl());
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 이름순 카운터 (requests, throttled, server_error, truncated ...)
+     */
+    public Map<String, Long> stats() {
+        Map<String, Long> stats = new TreeMap<>();
+        counters.forEach((key, adder) -> stats.put(key, adder.sum()));
+        return stats;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    protected void count(String counter) {
+        counters.computeIfAbsent(counter, key -> new LongAdder()).increment();
+    }
+
+    protected static void pause(Duration duration) throws InterruptedException {
+        if (!duration.isZero()) {
+            Thread.sleep(duration);
+        }
+    }
+
+    protected static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    protected static Map<?, ?> readJson(HttpExchange exchange) throws IOException {
+        return OBJECT_MAPPER.readValue(exchange.getRequestBody(), Map.class);
+    }
+
+    protected static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,62 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+
+/**
+ * fan-out 모드에서 마감 시각이 지나도 RUNNING 으로 남은 작업을 DONE/FAILED 로 정리한다.
+ *
+ * 종목 작업 항목이 DLT로 빠지거나 집계 직전에 노드가 죽으면 집계가 전체 종목 수에 도달하지 못해,
+ * 작업과 그 작업에 합류한(coalescing) 요청이 끝나지 않는다. 마감 시각 + grace 가 지난 작업을 모든 노드가 훑되,
+ * 마감 기록(ZREM)을 가져간 노드 한 곳만 정리한다.
+ */
+@Service
+@ConditionalOnProperty(name = "analysis.fan-out.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisDeadlineSweeper {
+
+    private final AnalysisJobStore jobStore;
+    private final StockAnalysisService analysisService;
+
+    // 마감 직전에 시작한 마지막 항목이 스스로 집계할 수 있도록 기다리는 시간
+    @Value("${analysis.fan-out.sweep-grace-ms:30000}")
+    private long graceMs;
+
+    @Scheduled(initialDelay = 30000, fixedDelayString = "${analysis.fan-out.sweep-interval-ms:30000}")
+    public void sweep() {
+        try {
+            sweepExpiredJobs(System.currentTimeMillis());
+        } catch (Exception e) {
+            log.error("마감 시각 경과 작업 정리 실패 (다음 주기에 재시도): error={}", e.getMessage(), e);
+        }
+    }
+
+    int sweepExpiredJobs(long now) {
+        Set<String> expiredIds = jobStore.getExpiredJobIds(now - graceMs);
+        if (expiredIds == null || expiredIds.isEmpty()) {
+            return 0;
+        }
+
+        int finished = 0;
+        for (String analysisId : expiredIds) {
+            if (!jobStore.untrackDeadline(analysisId)) {
+                continue;
+            }
+            if (analysisService.expireStockTasks(analysisId)) {
+                finished++;
+            }
+        }
+        if (finished > 0) {
+            log.warn("마감 시각이 지난 fan-out 작업 정리: {} 건", finished);
+        }
+        return finished;
+    }
+}
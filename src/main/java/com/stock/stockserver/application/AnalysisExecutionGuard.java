@@ -0,0 +1,123 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.repository.AnalysisExecutionLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 같은 analysisId 요청이 재전달(리밸런스, 재시도)되어도 분석이 한 번만 실행되도록 막는다.
+ *
+ * 실행 중에는 lease를 잡고 주기적으로 갱신한다. 중복 메시지는 처리 완료 표시가 있으면 바로 건너뛰고,
+ * 다른 실행이 lease를 갖고 있으면 그 실행이 끝나거나 lease가 만료(소유 노드 장애)될 때까지 기다린다.
+ * 실행이 예외로 끝나면 완료 표시를 남기지 않으므로 Kafka 재시도는 그대로 다시 실행된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisExecutionGuard {
+
+    private static final Duration WAIT_INTERVAL = Duration.ofSeconds(2);
+
+    private final AnalysisExecutionLedger ledger;
+
+    // 이 노드가 실행 중인 작업의 lease (analysisId → 소유자 토큰)
+    private final Map<String, String> heldLeases = new ConcurrentHashMap<>();
+
+    @Value("${analysis.ledger.lease-ttl-ms:30000}")
+    private long leaseTtlMs;
+
+    /**
+     * @return 이번 호출에서 실행했으면 true, 중복이라 건너뛰었으면 false
+     */
+    public boolean runOnce(String analysisId, AnalysisDeadline deadline, Runnable action) {
+        String owner = UUID.randomUUID().toString();
+        if (!acquireOrAwait(analysisId, owner, deadline)) {
+            return false;
+        }
+
+        heldLeases.put(analysisId, owner);
+        try {
+            action.run();
+            markProcessed(analysisId);
+            return true;
+        } finally {
+            heldLeases.remove(analysisId);
+            ledger.release(analysisId, owner);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analysis.ledger.renew-interval-ms:10000}")
+    public void renewLeases() {
+        heldLeases.forEach((analysisId, owner) -> {
+            try {
+                if (!ledger.renew(analysisId, owner, leaseTtl())) {
+                    log.warn("분석 lease 갱신 실패 (만료되어 다른 실행이 가져갔을 수 있음): analysisId={}", analysisId);
+                }
+            } catch (Exception e) {
+                log.warn("분석 lease 갱신 오류: analysisId={}, error={}", analysisId, e.getMessage());
+            }
+        });
+    }
+
+    private boolean acquireOrAwait(String analysisId, String owner, AnalysisDeadline deadline) {
+        boolean waiting = false;
+        while (true) {
+            if (ledger.isProcessed(analysisId)) {
+                log.info("이미 처리된 분석 요청, 건너뜀: analysisId={}", analysisId);
+                return false;
+            }
+
+            if (ledger.tryAcquire(analysisId, owner, leaseTtl())) {
+                // 완료 표시 확인과 lease 획득 사이에 이전 실행이 끝났을 수 있다
+                if (ledger.isProcessed(analysisId)) {
+                    ledger.release(analysisId, owner);
+                    log.info("이미 처리된 분석 요청, 건너뜀: analysisId={}", analysisId);
+                    return false;
+                }
+                return true;
+            }
+
+            if (deadline.isExpired()) {
+                log.warn("진행 중인 실행 대기 중 마감 시각 초과, 건너뜀: analysisId={}", analysisId);
+                return false;
+            }
+
+            if (!waiting) {
+                log.info("같은 분석 요청이 실행 중, 완료 대기: analysisId={}", analysisId);
+                waiting = true;
+            }
+            sleep(deadline.cap(WAIT_INTERVAL));
+        }
+    }
+
+    private void markProcessed(String analysisId) {
+        try {
+            ledger.markProcessed(analysisId);
+        } catch (Exception e) {
+            // 표시가 없어도 재처리 시 저장된 종목은 건너뛰므로 실패로 보지 않는다
+            log.warn("처리 완료 표시 실패: analysisId={}, error={}", analysisId, e.getMessage());
+        }
+    }
+
+    private Duration leaseTtl() {
+        return Duration.ofMillis(leaseTtlMs);
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("분석 실행 대기 중 인터럽트", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.infrastructure.persistence.AnalysisJobBulkWriter;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * write-behind 모드에서 Redis에 쌓인 작업 상태 변경을 analysis_jobs에 일괄 반영한다.
+ *
+ * dirty 집합은 Redis에 있으므로 재시작 후 첫 flush에서 이전 변경분이 그대로 반영된다.
+ * upsert는 멱등이고 updated_at 이 더 새로운 행은 덮지 않으므로, 반영 후 dirty 정리 전에 종료되거나
+ * 여러 노드가 같은 작업을 겹쳐 flush 해도 다음 flush에서 다시 쓰면 된다.
+ * dirty 정리는 읽은 시퀀스가 그대로인 작업만 지우므로, flush 도중 다시 변경된 작업은 다음 주기에 반영된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobFlushService {
+
+    private final AnalysisJobStore jobStore;
+    private final AnalysisJobBulkWriter analysisJobBulkWriter;
+
+    @Scheduled(initialDelay = 1000, fixedDelayString = "${analysis.job-store.flush-interval-ms:1000}")
+    public void flush() {
+        if (!jobStore.isWriteBehind()) {
+            return;
+        }
+
+        try {
+            flushDirtyJobs();
+        } catch (Exception e) {
+            log.error("AnalysisJob flush 실패 (다음 주기에 재시도): error={}", e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (jobStore.isWriteBehind()) {
+            log.info("종료 전 AnalysisJob flush");
+            flush();
+        }
+    }
+
+    int flushDirtyJobs() {
+        Map<String, Double> dirty = jobStore.getDirtyJobs();
+        if (dirty == null || dirty.isEmpty()) {
+            return 0;
+        }
+
+        List<AnalysisJob> jobs = jobStore.getCachedJobs(dirty.keySet());
+        int statements = analysisJobBulkWriter.upsertAll(jobs);
+        jobStore.clearDirty(dirty);
+
+        log.info("AnalysisJob flush 완료: {} 건, {} 회 실행", jobs.size(), statements);
+        return jobs.size();
+    }
+}
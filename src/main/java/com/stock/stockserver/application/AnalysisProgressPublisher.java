@@ -0,0 +1,11 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.dto.AnalysisProgressEvent;
+
+/**
+ * 분석 진행 이벤트 발행. 실패해도 분석 흐름에 영향을 주지 않아야 한다.
+ */
+public interface AnalysisProgressPublisher {
+
+    void publish(AnalysisProgressEvent event);
+}
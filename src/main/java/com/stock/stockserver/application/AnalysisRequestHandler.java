@@ -0,0 +1,80 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 분석 요청 메시지 1건 처리. consumer 방식(listener 스레드 직접 실행 / 워커 풀)과 관계없이 같은 흐름을 탄다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisRequestHandler {
+
+    private final StockAnalysisService analysisService;
+    private final AnalysisExecutionGuard executionGuard;
+    private final PipelineMetrics pipelineMetrics;
+    private final AnalysisTimelineService timelineService;
+
+    @Value("${analysis.deadline-seconds:300}")
+    private long deadlineSeconds;
+
+    /**
+     * true 이면 이 노드는 데이터 수집 후 종목 단위 작업 항목만 발행하고(코디네이터),
+     * LLM 분석은 analysis-stock-tasks 를 구독하는 모든 노드가 나눠 처리한다.
+     */
+    @Value("${analysis.fan-out.enabled:false}")
+    private boolean fanOutEnabled;
+
+    /**
+     * @return 이번 호출에서 실행했으면 true, 중복 요청이라 건너뛰었으면 false
+     */
+    public boolean handle(AnalysisEvent event) {
+        String analysisId = event.analysisId();
+
+        String target = event.resolvedTarget().name();
+        if (event.requestedAt() != null) {
+            pipelineMetrics.recordQueueLatency(target, Duration.between(event.requestedAt(), LocalDateTime.now()));
+        }
+
+        AnalysisDeadline deadline = AnalysisDeadline.after(Duration.ofSeconds(deadlineSeconds));
+        log.info("Received analysis request: analysisId={}, target={}, deadline={}",
+                analysisId, event.resolvedTarget(), deadline.expiresAt());
+
+        String outcome = PipelineMetrics.FAILURE;
+        try {
+            // 재전달된 요청은 이미 처리됐거나 다른 consumer가 실행 중이면 다시 실행하지 않는다
+            boolean executed = executionGuard.runOnce(analysisId, deadline,
+                    () -> execute(analysisId, event, deadline));
+            outcome = executed ? PipelineMetrics.SUCCESS : "duplicate";
+            return executed;
+        } finally {
+            if (event.requestedAt() != null) {
+                pipelineMetrics.recordJobDuration(target, fanOutEnabled ? "fan-out" : "full", outcome,
+                        Duration.between(event.requestedAt(), LocalDateTime.now()));
+            }
+        }
+    }
+
+    private void execute(String analysisId, AnalysisEvent event, AnalysisDeadline deadline) {
+        AnalysisTarget target = event.resolvedTarget();
+        if (event.requestedAt() != null) {
+            timelineService.recordQueueWait(analysisId, event.requestedAt());
+        }
+        analysisService.saveJob(analysisId);
+        if (fanOutEnabled) {
+            analysisService.dispatchStockTasks(analysisId, target, deadline);
+            return;
+        }
+        analysisService.runFullAnalysis(analysisId, target, deadline);
+    }
+}
@@ -2,6 +2,8 @@ package com.stock.stockserver.application;
 
 import com.stock.stockserver.domain.AnalysisTarget;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AnalysisRequestPublisher {
 
     void publish(String analysisId);
@@ -11,4 +13,9 @@ public interface AnalysisRequestPublisher {
     void publishAndWaitForAck(String analysisId) throws Exception;
 
     void publishAndWaitForAck(String analysisId, AnalysisTarget target) throws Exception;
+
+    /**
+     * 브로커 확인(ack) 시 완료되는 future를 반환한다. (대량 재전송 시 병렬 발행용)
+     */
+    CompletableFuture<Void> publishAsync(String analysisId, AnalysisTarget target);
 }
@@ -0,0 +1,141 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.repository.AnalysisCoalescingStore;
+import com.stock.stockserver.domain.repository.AnalysisCoalescingStore.Registration;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
+import com.stock.stockserver.dto.PostAnalysisDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 분석 요청 접수.
+ *
+ * coalescing 모드(analysis.coalescing.enabled)에서는 같은 대상/거래 세션의 작업이 실행 중이거나
+ * 최근(fresh-window) 완료되었으면 새 작업을 만들지 않고 그 analysisId를 돌려준다.
+ * 대표 작업 등록은 Redis SET NX 로 하므로 동시에 들어온 요청도 하나의 작업으로 합쳐진다.
+ * 작업 상태가 아직 없으면 등록 후 missing-status-grace-seconds 동안만 발행 직후로 보고,
+ * 그 뒤에도 없으면 발행이 유실된 것으로 보고 등록을 해제한 뒤 새로 발행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisRequestService {
+
+    private static final ZoneId DOMESTIC_ZONE = ZoneId.of("Asia/Seoul");
+    private static final ZoneId OVERSEAS_ZONE = ZoneId.of("America/New_York");
+    private static final int MAX_REGISTER_ATTEMPTS = 3;
+
+    private final AnalysisRequestPublisher analysisRequestPublisher;
+    private final AnalysisCoalescingStore coalescingStore;
+    private final AnalysisJobStore jobStore;
+
+    @Value("${analysis.coalescing.enabled:false}")
+    private boolean coalescingEnabled;
+
+    @Value("${analysis.coalescing.fresh-window-seconds:600}")
+    private long freshWindowSeconds;
+
+    @Value("${analysis.coalescing.missing-status-grace-seconds:60}")
+    private long missingStatusGraceSeconds;
+
+    @Value("${analysis.deadline-seconds:300}")
+    private long deadlineSeconds;
+
+    public PostAnalysisDto submit(AnalysisTarget target) {
+        if (!coalescingEnabled) {
+            return publishNew(target);
+        }
+
+        LocalDate session = tradingSession(target);
+        for (int attempt = 0; attempt < MAX_REGISTER_ATTEMPTS; attempt++) {
+            Registration existing = coalescingStore.find(target, session);
+            if (existing != null) {
+                PostAnalysisDto attached = attach(existing);
+                if (attached != null) {
+                    log.info("진행 중/최근 완료 작업에 합류: analysisId={}, target={}, session={}",
+                            existing.analysisId(), target, session);
+                    return attached;
+                }
+                coalescingStore.unregister(target, session, existing);
+            }
+
+            Registration registration = Registration.now(UUID.randomUUID().toString());
+            if (coalescingStore.register(target, session, registration, registrationTtl())) {
+                try {
+                    analysisRequestPublisher.publish(registration.analysisId(), target);
+                } catch (RuntimeException e) {
+                    coalescingStore.unregister(target, session, registration);
+                    throw e;
+                }
+                return new PostAnalysisDto(registration.analysisId(), AnalysisStatus.RUNNING);
+            }
+            // 다른 요청이 먼저 등록했다 → 그 작업에 합류
+        }
+
+        log.warn("대표 작업 등록 경합이 계속되어 새 작업으로 실행: target={}, session={}", target, session);
+        return publishNew(target);
+    }
+
+    /**
+     * @return 합류할 수 있으면 응답, 실패했거나 완료 후 fresh-window가 지났거나 발행이 유실되었으면 null
+     */
+    private PostAnalysisDto attach(Registration registration) {
+        String analysisId = registration.analysisId();
+        List<AnalysisJobStatusDto> statuses = jobStore.getStatuses(List.of(analysisId));
+        if (statuses.isEmpty()) {
+            // 발행 직후 consumer가 아직 작업 행을 만들기 전. 유예 시간이 지나도 없으면 비동기 발행 실패로 본다
+            if (registration.registeredAt().plusSeconds(missingStatusGraceSeconds).isAfter(Instant.now())) {
+                return new PostAnalysisDto(analysisId, AnalysisStatus.RUNNING);
+            }
+            log.warn("등록 후 작업 상태가 생기지 않아 다시 발행: analysisId={}, registeredAt={}",
+                    analysisId, registration.registeredAt());
+            return null;
+        }
+
+        AnalysisJobStatusDto status = statuses.get(0);
+        return switch (status.status()) {
+            case RUNNING -> new PostAnalysisDto(analysisId, AnalysisStatus.RUNNING);
+            case DONE -> isFresh(status) ? new PostAnalysisDto(analysisId, AnalysisStatus.DONE) : null;
+            case FAILED -> null;
+        };
+    }
+
+    private boolean isFresh(AnalysisJobStatusDto status) {
+        return status.updatedAt() != null
+                && status.updatedAt().plusSeconds(freshWindowSeconds).isAfter(Instant.now());
+    }
+
+    private PostAnalysisDto publishNew(AnalysisTarget target) {
+        String analysisId = UUID.randomUUID().toString();
+        analysisRequestPublisher.publish(analysisId, target);
+        return new PostAnalysisDto(analysisId, AnalysisStatus.RUNNING);
+    }
+
+    /**
+     * 실행 중에는 키가 남아 있어야 하므로 마감 시각 + fresh-window 동안 유지한다.
+     * 완료 후의 신선도는 작업 갱신 시각으로 따로 판단한다.
+     */
+    private Duration registrationTtl() {
+        return Duration.ofSeconds(deadlineSeconds + freshWindowSeconds);
+    }
+
+    /**
+     * 대상 시장 기준 거래일. 전체(ALL)는 국내 기준으로 본다.
+     */
+    private LocalDate tradingSession(AnalysisTarget target) {
+        ZoneId zone = target == AnalysisTarget.OVERSEAS ? OVERSEAS_ZONE : DOMESTIC_ZONE;
+        return LocalDate.now(zone);
+    }
+}
@@ -2,6 +2,7 @@ package com.stock.stockserver.application;
 
 import com.stock.stockserver.domain.entity.LLMAnalysisResult;
 import com.stock.stockserver.domain.repository.LLMAnalysisResultRepository;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,9 +16,21 @@ import java.util.List;
 public class AnalysisResultSaveService {
 
     private final LLMAnalysisResultRepository analysisResultRepository;
+    private final PipelineMetrics pipelineMetrics;
+
+    /**
+     * 종목 1건 저장. (analysisId, stockCode) 중복이면 DataIntegrityViolationException
+     */
+    @Transactional
+    public void save(LLMAnalysisResult result) {
+        pipelineMetrics.recordDbSaveOnCompletion("analysis_result", 1);
+        analysisResultRepository.save(result);
+        log.debug("DB 저장 완료: analysisId={}, stockCode={}", result.getAnalysisId(), result.getStockCode());
+    }
 
     @Transactional
     public void saveAll(List<LLMAnalysisResult> results) {
+        pipelineMetrics.recordDbSaveOnCompletion("analysis_result", results.size());
         analysisResultRepository.saveAll(results);
         log.info("DB 배치 저장 완료: {} 개", results.size());
     }
@@ -0,0 +1,17 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.dto.AnalysisStockTask;
+
+import java.util.List;
+
+/**
+ * fan-out 모드의 종목 단위 작업 항목 발행.
+ */
+public interface AnalysisTaskPublisher {
+
+    /**
+     * 작업 항목을 모두 발행하고 브로커 확인(ack)까지 기다린다.
+     * 하나라도 실패하면 예외를 던져 원본 요청 메시지가 재처리되도록 한다.
+     */
+    void publishAll(List<AnalysisStockTask> tasks) throws Exception;
+}
@@ -0,0 +1,178 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTimeline;
+import com.stock.stockserver.domain.AnalysisTimeline.StageTiming;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.domain.repository.AnalysisTimelineStore;
+import com.stock.stockserver.dto.AnalysisTimelineDto;
+import com.stock.stockserver.dto.AnalysisTimelineDto.CriticalStage;
+import com.stock.stockserver.dto.AnalysisTimelineReportDto;
+import com.stock.stockserver.dto.AnalysisTimelineReportDto.Percentiles;
+import com.stock.stockserver.dto.AnalysisTimelineReportDto.SlowJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 분석 작업 단계별 소요 시간 기록/조회.
+ *
+ * 단계 기록은 작업이 도는 동안 Redis 리스트에 쌓이고, 작업이 끝나면(DONE/FAILED) critical path 와 함께
+ * analysis_jobs.timeline 에 저장된다. 리포트는 최근 작업들의 저장된 기록을 모아 백분위로 요약한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisTimelineService {
+
+    static final int MAX_REPORT_JOBS = 500;
+    private static final int SLOWEST_JOBS = 5;
+
+    private static final List<String> STAGE_ORDER = List.of(
+            AnalysisTimeline.QUEUE_WAIT, AnalysisTimeline.VOLUME_RANK, AnalysisTimeline.COLLECT_STOCK,
+            AnalysisTimeline.SAVE_COLLECTED, AnalysisTimeline.LLM, AnalysisTimeline.SAVE_RESULT);
+
+    // 종목별로 병렬 실행되는 단계. 작업 시간에는 가장 느린 종목만 반영된다
+    private static final Set<String> PER_STOCK_STAGES = Set.of(
+            AnalysisTimeline.COLLECT_STOCK, AnalysisTimeline.LLM, AnalysisTimeline.SAVE_RESULT);
+
+    private final AnalysisTimelineStore timelineStore;
+    private final AnalysisJobStore jobStore;
+
+    /**
+     * 분석 스레드에 바인딩할 기록기. 단계가 끝날 때마다 Redis 리스트에 추가된다.
+     */
+    public AnalysisTimeline bind(String analysisId) {
+        return AnalysisTimeline.of(analysisId, timing -> timelineStore.append(analysisId, timing));
+    }
+
+    public void recordQueueWait(String analysisId, LocalDateTime requestedAt) {
+        Instant startedAt = requestedAt.atZone(ZoneId.systemDefault()).toInstant();
+        bind(analysisId).record(AnalysisTimeline.QUEUE_WAIT, null, startedAt,
+                Math.max(0, Duration.between(startedAt, Instant.now()).toMillis()));
+    }
+
+    /**
+     * 작업 종료 시 호출한다. 기록 실패는 작업 상태에 영향을 주지 않는다.
+     */
+    public void finish(String analysisId, AnalysisStatus status) {
+        try {
+            List<StageTiming> stages = timelineStore.getStages(analysisId);
+            if (stages.isEmpty()) {
+                return;
+            }
+            timelineStore.save(toTimeline(analysisId, status, stages, Instant.now()));
+        } catch (Exception e) {
+            log.warn("단계별 소요 시간 저장 실패: analysisId={}, error={}", analysisId, e.getMessage());
+        }
+    }
+
+    /**
+     * 끝난 작업은 저장된 기록을, 진행 중인 작업은 지금까지 쌓인 단계를 돌려준다.
+     */
+    public AnalysisTimelineDto getTimeline(String analysisId) {
+        AnalysisTimelineDto saved = timelineStore.find(analysisId);
+        if (saved != null) {
+            return saved;
+        }
+
+        List<StageTiming> stages = timelineStore.getStages(analysisId);
+        if (stages.isEmpty()) {
+            return null;
+        }
+        return toTimeline(analysisId, jobStore.getStatus(analysisId), stages, Instant.now());
+    }
+
+    public AnalysisTimelineReportDto report(int limit) {
+        List<AnalysisTimelineDto> timelines = timelineStore.findRecent(Math.max(1, Math.min(limit, MAX_REPORT_JOBS)));
+        return toReport(timelines);
+    }
+
+    static AnalysisTimelineDto toTimeline(String analysisId, AnalysisStatus status,
+                                          List<StageTiming> stages, Instant now) {
+        List<StageTiming> sorted = stages.stream()
+                .sorted(Comparator.comparing(StageTiming::startedAt))
+                .toList();
+        long totalMs = Math.max(0, Duration.between(sorted.get(0).startedAt(), now).toMillis());
+        return new AnalysisTimelineDto(analysisId, status, totalMs, sorted, criticalPath(sorted));
+    }
+
+    /**
+     * 순차 단계는 기록을 모두 더하고, 종목별 병렬 단계는 종목 단위로 더한 뒤 가장 느린 종목을 고른다.
+     * (LLM fallback 은 같은 종목의 기록이 두 건이라 합산된다)
+     */
+    static List<CriticalStage> criticalPath(List<StageTiming> stages) {
+        Map<String, List<StageTiming>> byStage = stages.stream()
+                .collect(Collectors.groupingBy(StageTiming::stage));
+
+        List<CriticalStage> path = new ArrayList<>();
+        for (String stage : STAGE_ORDER) {
+            List<StageTiming> timings = byStage.get(stage);
+            if (timings == null) {
+                continue;
+            }
+            if (!PER_STOCK_STAGES.contains(stage)) {
+                path.add(new CriticalStage(stage, null, timings.stream().mapToLong(StageTiming::durationMs).sum()));
+                continue;
+            }
+            Map<String, Long> bySubject = new HashMap<>();
+            timings.forEach(timing -> bySubject.merge(String.valueOf(timing.subject()), timing.durationMs(), Long::sum));
+            bySubject.entrySet().stream()
+                    .max(Map.Entry.comparingByValue())
+                    .ifPresent(slowest -> path.add(new CriticalStage(stage, slowest.getKey(), slowest.getValue())));
+        }
+        return path;
+    }
+
+    static AnalysisTimelineReportDto toReport(List<AnalysisTimelineDto> timelines) {
+        Map<String, List<Long>> criticalPath = new LinkedHashMap<>();
+        Map<String, List<Long>> stages = new LinkedHashMap<>();
+        STAGE_ORDER.forEach(stage -> {
+            criticalPath.put(stage, new ArrayList<>());
+            stages.put(stage, new ArrayList<>());
+        });
+
+        for (AnalysisTimelineDto timeline : timelines) {
+            timeline.criticalPath().forEach(critical ->
+                    criticalPath.computeIfAbsent(critical.stage(), stage -> new ArrayList<>()).add(critical.durationMs()));
+            timeline.stages().forEach(timing ->
+                    stages.computeIfAbsent(timing.stage(), stage -> new ArrayList<>()).add(timing.durationMs()));
+        }
+
+        List<SlowJob> slowest = timelines.stream()
+                .sorted(Comparator.comparingLong(AnalysisTimelineDto::totalMs).reversed())
+                .limit(SLOWEST_JOBS)
+                .map(timeline -> new SlowJob(timeline.analysisId(), timeline.totalMs(), timeline.criticalPath()))
+                .toList();
+
+        return new AnalysisTimelineReportDto(
+                timelines.size(),
+                percentiles(timelines.stream().map(AnalysisTimelineDto::totalMs).toList()),
+                toPercentiles(criticalPath),
+                toPercentiles(stages),
+                slowest);
+    }
+
+    private static Map<String, Percentiles> toPercentiles(Map<String, List<Long>> durations) {
+        Map<String, Percentiles> result = new LinkedHashMap<>();
+        durations.forEach((stage, millis) -> result.put(stage, percentiles(millis)));
+        return result;
+    }
+
+    private static Percentiles percentiles(List<Long> millis) {
+        return Percentiles.of(millis.stream().mapToLong(Long::longValue).sorted().toArray());
+    }
+}
@@ -0,0 +1,176 @@
+package com.stock.stockserver.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.entity.FailedAnalysisRequest;
+import com.stock.stockserver.domain.repository.FailedAnalysisRequestRepository;
+import com.stock.stockserver.dto.AnalysisEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DLT 실패 요청 재전송 (페이지 1개 단위).
+ *
+ * AnalysisOutboxRelay 와 같이 DB 커넥션과 행 잠금은 앞뒤의 짧은 트랜잭션에서만 잡고, 브로커 I/O 동안에는 잡지 않는다.
+ * 1. claim : SKIP LOCKED로 잠근 행에 이 노드와 만료 시각(claim-ttl-ms)을 기록하고 바로 커밋
+ *            (재시도 횟수를 다 쓴 요청은 발행하지 않고 여기서 처리 완료)
+ * 2. 발행  : 트랜잭션 밖에서 동시에 {@code maxInFlight} 건까지 비동기로 발행하고 ack 를 기다린다 (페이지 전체 send-timeout-ms)
+ * 3. 정리  : ack 받은 행은 처리 완료, 실패한 행은 claim 을 풀어 다음 주기에 다시 전송
+ * 행 변경은 producer 스레드가 아니라 호출 스레드의 트랜잭션에서만 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DltRetryPageService {
+
+    private final FailedAnalysisRequestRepository failedAnalysisRequestRepository;
+    private final AnalysisRequestPublisher analysisRequestPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    static final int MAX_RETRY_COUNT = 3;
+
+    @Value("${analysis.dlt-retry.max-in-flight:20}")
+    private int maxInFlight;
+
+    @Value("${analysis.dlt-retry.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // send-timeout-ms 보다 길어야 한다. 이 시간 안에 정리하지 못한 행은 다른 노드가 다시 전송한다
+    @Value("${analysis.dlt-retry.claim-ttl-ms:60000}")
+    private long claimTtlMs;
+
+    public PageResult retryNextPage(int pageSize) {
+        List<FailedAnalysisRequest> claimed = claimPage(pageSize);
+        if (claimed == null || claimed.isEmpty()) {
+            return PageResult.EMPTY;
+        }
+
+        List<FailedAnalysisRequest> retryable = claimed.stream()
+                .filter(failedRequest -> !failedRequest.getProcessed())
+                .toList();
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<Boolean>> sends = new ArrayList<>(retryable.size());
+        for (FailedAnalysisRequest failedRequest : retryable) {
+            sends.add(send(failedRequest, inFlight));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> sent = new ArrayList<>(retryable.size());
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < retryable.size(); i++) {
+            if (awaitAck(sends.get(i), retryable.get(i), deadline)) {
+                sent.add(retryable.get(i).getId());
+            } else {
+                failed.add(retryable.get(i).getId());
+            }
+        }
+
+        transactionTemplate.execute(status -> {
+            if (!sent.isEmpty()) {
+                failedAnalysisRequestRepository.markRetried(sent, nodeId, LocalDateTime.now());
+            }
+            if (!failed.isEmpty()) {
+                failedAnalysisRequestRepository.releaseClaimed(failed, nodeId);
+            }
+            return null;
+        });
+
+        log.info("DLT 재전송 페이지 처리: claimed={}, sent={}, failed={}",
+                claimed.size(), sent.size(), failed.size());
+        return new PageResult(claimed.size(), failed.size());
+    }
+
+    // 잠금은 claim 기록(과 재시도 횟수 초과 행의 처리 완료)이 커밋될 때까지만 유지된다
+    private List<FailedAnalysisRequest> claimPage(int pageSize) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<FailedAnalysisRequest> claimed = failedAnalysisRequestRepository.lockClaimable(now, pageSize);
+            LocalDateTime claimedUntil = now.plus(Duration.ofMillis(claimTtlMs));
+            for (FailedAnalysisRequest failedRequest : claimed) {
+                if (failedRequest.getRetryCount() >= MAX_RETRY_COUNT) {
+                    log.warn("최대 재시도 횟수 초과: analysisId={}, retryCount={}",
+                            failedRequest.getAnalysisId(), failedRequest.getRetryCount());
+                    failedRequest.markAsProcessed();
+                } else {
+                    failedRequest.claim(nodeId, claimedUntil);
+                }
+            }
+            return claimed;
+        });
+    }
+
+    private CompletableFuture<Boolean> send(FailedAnalysisRequest failedRequest, Semaphore inFlight) {
+        String analysisId = failedRequest.getAnalysisId();
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.completedFuture(false);
+        }
+
+        CompletableFuture<Void> publish;
+        try {
+            publish = analysisRequestPublisher.publishAsync(analysisId, resolveTarget(failedRequest));
+        } catch (Exception e) {
+            inFlight.release();
+            log.error("재시도 실패: analysisId={}, error={}", analysisId, e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // producer 스레드에서는 permit 반환과 결과 판정만 한다
+        return publish.handle((ignored, error) -> {
+            inFlight.release();
+            if (error != null) {
+                log.error("재시도 실패: analysisId={}, error={}", analysisId, error.getMessage());
+                return false;
+            }
+            return true;
+        });
+    }
+
+    private boolean awaitAck(CompletableFuture<Boolean> send, FailedAnalysisRequest failedRequest, long deadline) {
+        try {
+            return send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("재시도 ack 대기 실패: analysisId={}, error={}", failedRequest.getAnalysisId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private AnalysisTarget resolveTarget(FailedAnalysisRequest failedRequest) {
+        try {
+            AnalysisEvent event = objectMapper.readValue(failedRequest.getOriginalMessage(), AnalysisEvent.class);
+            return event.resolvedTarget();
+        } catch (Exception e) {
+            log.warn("실패 메시지에서 분석 대상을 읽지 못해 ALL로 재시도합니다. analysisId={}",
+                    failedRequest.getAnalysisId(), e);
+            return AnalysisTarget.ALL;
+        }
+    }
+
+    /**
+     * @param claimed 가져온 행 수
+     * @param failed  발행에 실패해 미처리로 남긴 행 수
+     */
+    public record PageResult(int claimed, int failed) {
+        static final PageResult EMPTY = new PageResult(0, 0);
+    }
+}
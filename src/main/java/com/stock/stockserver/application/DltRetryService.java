@@ -1,84 +1,40 @@
 package com.stock.stockserver.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.stock.stockserver.domain.AnalysisTarget;
-import com.stock.stockserver.domain.entity.FailedAnalysisRequest;
-import com.stock.stockserver.domain.repository.FailedAnalysisRequestRepository;
-import com.stock.stockserver.dto.AnalysisEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.time.LocalDateTime;
-import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DltRetryService {
 
-    private final FailedAnalysisRequestRepository failedAnalysisRequestRepository;
-    private final AnalysisRequestPublisher analysisRequestPublisher;
-    private final ObjectMapper objectMapper;
+    private final DltRetryPageService dltRetryPageService;
 
-    private static final int MAX_RETRY_COUNT = 3;
+    @Value("${analysis.dlt-retry.page-size:100}")
+    private int pageSize;
 
+    /**
+     * 미처리 실패 요청을 페이지 단위로 재전송한다. 메모리에 전부 올리지 않고, 페이지마다 트랜잭션을 짧게 끊는다.
+     * 발행 실패가 있던 페이지에서 멈춰 같은 행을 바로 다시 잡지 않는다. (다음 주기에 재시도)
+     */
     @Scheduled(initialDelay = 60000, fixedDelay = 300000)
-    @Transactional
     public void retryFailedRequests() {
         log.info("DLT 재시도 스케줄러 실행");
-        
-        List<FailedAnalysisRequest> failedRequests = 
-                failedAnalysisRequestRepository.findByProcessedFalseOrderByFailedAtAsc();
-        
-        if (failedRequests.isEmpty()) {
-            log.info("재시도할 실패 요청이 없습니다.");
-            return;
-        }
-        
-        log.info("재시도할 실패 요청 수: {}", failedRequests.size());
-        
-        for (FailedAnalysisRequest failedRequest : failedRequests) {
-            try {
-                retryRequest(failedRequest);
-            } catch (Exception e) {
-                log.error("재시도 실패: analysisId={}, error={}", 
-                        failedRequest.getAnalysisId(), e.getMessage());
-            }
-        }
-    }
 
-    private void retryRequest(FailedAnalysisRequest failedRequest) throws Exception {
-        String analysisId = failedRequest.getAnalysisId();
-        
-        if (failedRequest.getRetryCount() >= MAX_RETRY_COUNT) {
-            log.warn("최대 재시도 횟수 초과: analysisId={}, retryCount={}", 
-                    analysisId, failedRequest.getRetryCount());
-            failedRequest.markAsProcessed();
-            failedAnalysisRequestRepository.save(failedRequest);
-            return;
-        }
-        
-        AnalysisTarget target = resolveTarget(failedRequest);
-        analysisRequestPublisher.publishAndWaitForAck(analysisId, target);
-
-        log.info("DLT 메시지 재전송 성공: analysisId={}", analysisId);
-
-        failedRequest.incrementRetryCount();
-        failedRequest.markAsProcessed();
-        failedAnalysisRequestRepository.save(failedRequest);
-    }
+        int total = 0;
+        DltRetryPageService.PageResult page;
+        do {
+            page = dltRetryPageService.retryNextPage(pageSize);
+            total += page.claimed();
+        } while (page.claimed() == pageSize && page.failed() == 0);
 
-    private AnalysisTarget resolveTarget(FailedAnalysisRequest failedRequest) {
-        try {
-            AnalysisEvent event = objectMapper.readValue(failedRequest.getOriginalMessage(), AnalysisEvent.class);
-            return event.resolvedTarget();
-        } catch (Exception e) {
-            log.warn("실패 메시지에서 분석 대상을 읽지 못해 ALL로 재시도합니다. analysisId={}",
-                    failedRequest.getAnalysisId(), e);
-            return AnalysisTarget.ALL;
+        if (total == 0) {
+            log.info("재시도할 실패 요청이 없습니다.");
+            return;
         }
+        log.info("DLT 재시도 완료: 처리 {} 건", total);
     }
 }
@@ -1,25 +1,39 @@
 package com.stock.stockserver.application;
 
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
 import com.stock.stockserver.domain.AnalysisStatus;
 import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.AnalysisTimeline;
+import com.stock.stockserver.domain.RecommendationStatus;
 import com.stock.stockserver.domain.entity.AnalysisJob;
 import com.stock.stockserver.domain.entity.LLMAnalysisResult;
 import com.stock.stockserver.domain.repository.AnalysisJobStore;
 import com.stock.stockserver.domain.repository.LLMAnalysisResultRepository;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
+import com.stock.stockserver.dto.AnalysisProgressEvent;
 import com.stock.stockserver.dto.AnalysisResultDto;
+import com.stock.stockserver.dto.AnalysisResultPageDto;
+import com.stock.stockserver.dto.AnalysisResultSummaryDto;
+import com.stock.stockserver.dto.AnalysisStockTask;
 import com.stock.stockserver.dto.LLMAnalysisResponseDto;
 import com.stock.stockserver.dto.StockDataDto;
 import com.stock.stockserver.infrastructure.external.LLMApiClient;
+import com.stock.stockserver.infrastructure.logging.AnalysisReportSink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,36 +41,182 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StockAnalysisService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final StockDataCollectionService dataCollectionService;
     private final LLMApiClient llmApiClient;
     private final LLMAnalysisResultRepository analysisResultRepository;
     private final AnalysisResultSaveService analysisResultSaveService;
     private final AnalysisJobStore jobStore;
+    private final AnalysisProgressPublisher progressPublisher;
+    private final AnalysisTaskPublisher taskPublisher;
     private final Executor llmApiExecutor;
+    private final AnalysisTimelineService timelineService;
+    private final AnalysisReportSink reportSink;
 
     public void runFullAnalysis(String analysisId) {
         runFullAnalysis(analysisId, AnalysisTarget.ALL);
     }
 
     public void runFullAnalysis(String analysisId, AnalysisTarget target) {
+        runFullAnalysis(analysisId, target, AnalysisDeadline.after(AnalysisDeadline.DEFAULT_TIMEOUT));
+    }
+
+    /**
+     * 작업 단위 마감 시각을 현재 스레드에 바인딩하고 분석을 실행한다.
+     * 데이터 수집(KIS)과 LLM 분석, 각 재시도가 모두 같은 마감 시각을 따른다.
+     */
+    public void runFullAnalysis(String analysisId, AnalysisTarget target, AnalysisDeadline deadline) {
+        AnalysisTimeline timeline = timelineService.bind(analysisId);
         try {
-            List<LLMAnalysisResult> results = runFullAnalysisInternal(analysisId, target);
-            jobStore.save(AnalysisJob.builder()
-                    .analysisId(analysisId)
-                    .status(AnalysisStatus.DONE)
-                    .errorMessage(null)
-                    .build());
+            List<LLMAnalysisResult> results = deadline.callWith(() ->
+                    timeline.callWith(() -> runFullAnalysisInternal(analysisId, target)));
+            completeJob(analysisId);
         } catch (Exception e) {
             log.error("분석 실패: analysisId={}, error={}", analysisId, e.getMessage(), e);
-            jobStore.save(AnalysisJob.builder()
-                    .analysisId(analysisId)
-                    .status(AnalysisStatus.FAILED)
-                    .errorMessage(e.getMessage())
-                    .build());
+            failJob(analysisId, e.getMessage());
             throw new RuntimeException("분석 실패: " + analysisId, e);
         }
     }
 
+    /**
+     * fan-out 모드 코디네이터. 데이터 수집까지만 이 노드에서 하고,
+     * 남은 종목을 종목 단위 작업 항목으로 발행해 LLM 분석을 여러 노드에 나눈다.
+     * 작업 종료(DONE/FAILED)는 마지막 항목을 처리한 노드가 {@link #runStockTask}에서 기록하고,
+     * 항목이 유실되어 마감 시각이 지나도 끝나지 않은 작업은 {@link #expireStockTasks}가 정리한다.
+     */
+    public void dispatchStockTasks(String analysisId, AnalysisTarget target, AnalysisDeadline deadline) {
+        AnalysisTimeline timeline = timelineService.bind(analysisId);
+        try {
+            deadline.runWith(() -> timeline.runWith(() -> {
+                List<StockDataDto> stockDataList = dataCollectionService.collectStockData(target);
+                List<StockDataDto> pendingStocks = resolvePendingStocks(analysisId, stockDataList);
+
+                int total = stockDataList.size();
+                int alreadyCompleted = total - pendingStocks.size();
+                Set<String> pendingCodes = pendingStocks.stream().map(StockDataDto::stockCode).collect(Collectors.toSet());
+                jobStore.resetSettledStocks(analysisId, stockDataList.stream()
+                        .map(StockDataDto::stockCode)
+                        .filter(stockCode -> !pendingCodes.contains(stockCode))
+                        .toList());
+                jobStore.startProgress(analysisId, total, alreadyCompleted);
+                progressPublisher.publish(AnalysisProgressEvent.progress(analysisId, alreadyCompleted, total));
+
+                if (pendingStocks.isEmpty()) {
+                    completeJob(analysisId);
+                    return;
+                }
+
+                List<AnalysisStockTask> tasks = pendingStocks.stream()
+                        .map(stockData -> AnalysisStockTask.of(analysisId, total, deadline.expiresAt(), stockData))
+                        .toList();
+                jobStore.trackDeadline(analysisId, deadline.expiresAt());
+                try {
+                    taskPublisher.publishAll(tasks);
+                } catch (Exception e) {
+                    throw new IllegalStateException("종목 작업 항목 발행 실패", e);
+                }
+                log.info("종목 작업 항목 배포: analysisId={}, target={}, 항목={}, 전체={}",
+                        analysisId, target, tasks.size(), total);
+            }));
+        } catch (Exception e) {
+            log.error("분석 작업 배포 실패: analysisId={}, error={}", analysisId, e.getMessage(), e);
+            jobStore.untrackDeadline(analysisId);
+            failJob(analysisId, e.getMessage());
+            throw new RuntimeException("분석 작업 배포 실패: " + analysisId, e);
+        }
+    }
+
+    /**
+     * fan-out 작업 항목 1건 처리. 집계된 종목 집합(SCARD)이 전체 종목 수에 도달한 것을 본 노드가 작업을 마무리한다.
+     * 재전달된 항목은 다시 분석하거나 진행률을 올리지 않지만, 이전 노드가 집계 직후 죽었을 수 있으므로 완료 여부는 다시 확인한다.
+     * 진행률 카운터(HINCRBY)는 화면 표시용이라 갱신에 실패해도 작업 종료에는 영향이 없다.
+     */
+    public void runStockTask(String analysisId, StockDataDto stockData, int total) {
+        timelineService.bind(analysisId).runWith(() -> settleStockTask(analysisId, stockData, total));
+    }
+
+    private void settleStockTask(String analysisId, StockDataDto stockData, int total) {
+        AnalysisDeadline deadline = AnalysisDeadline.current();
+
+        StockOutcome outcome = jobStore.getCompletedStocks(analysisId).contains(stockData.stockCode())
+                ? StockOutcome.NONE
+                : analyzeSingleStock(analysisId, stockData, deadline);
+
+        if (jobStore.markStockSettled(analysisId, stockData.stockCode())) {
+            reportProgress(analysisId, total, stockData, outcome.response());
+        } else {
+            log.info("이미 집계된 종목 작업 항목: analysisId={}, stockCode={}", analysisId, stockData.stockCode());
+        }
+
+        if (jobStore.countSettledStocks(analysisId) >= total) {
+            finishStockTasks(analysisId, total, deadline);
+        }
+    }
+
+    /**
+     * 마감 시각이 지났는데 아직 진행 중인 fan-out 작업을 끝낸다. (DLT로 빠진 항목, 집계 전에 죽은 노드 등)
+     * 모든 종목 결과가 저장되어 있으면 DONE, 아니면 FAILED 로 기록한다.
+     *
+     * @return 이번 호출에서 작업을 끝냈으면 true
+     */
+    public boolean expireStockTasks(String analysisId) {
+        if (jobStore.getStatus(analysisId) != AnalysisStatus.RUNNING || !jobStore.claimFinish(analysisId)) {
+            return false;
+        }
+
+        Integer total = jobStore.getProgressTotal(analysisId);
+        int saved = jobStore.getCompletedStocks(analysisId).size();
+        if (total != null && saved >= total) {
+            log.info("마감 시각 경과, 종목 결과는 모두 저장됨: analysisId={}, 저장={}, 전체={}", analysisId, saved, total);
+            completeJob(analysisId);
+            return true;
+        }
+
+        String errorMessage = String.format("분석 마감 시각 초과: 종목 작업 항목 미집계 (저장 %d/%s)", saved, total);
+        log.error("분석 실패: analysisId={}, error={}", analysisId, errorMessage);
+        failJob(analysisId, errorMessage);
+        return true;
+    }
+
+    private void finishStockTasks(String analysisId, int total, AnalysisDeadline deadline) {
+        if (!jobStore.claimFinish(analysisId)) {
+            return;
+        }
+        jobStore.untrackDeadline(analysisId);
+
+        int saved = jobStore.getCompletedStocks(analysisId).size();
+        if (saved < total && deadline.isExpired()) {
+            AnalysisDeadlineExceededException e = deadline.exceeded("LLM 분석");
+            log.error("분석 실패: analysisId={}, error={}", analysisId, e.getMessage());
+            failJob(analysisId, e.getMessage());
+            return;
+        }
+
+        log.info("종목 작업 항목 집계 완료: analysisId={}, 저장={}, 전체={}", analysisId, saved, total);
+        completeJob(analysisId);
+    }
+
+    private void completeJob(String analysisId) {
+        jobStore.save(AnalysisJob.builder()
+                .analysisId(analysisId)
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build());
+        timelineService.finish(analysisId, AnalysisStatus.DONE);
+        progressPublisher.publish(AnalysisProgressEvent.done(analysisId));
+    }
+
+    private void failJob(String analysisId, String errorMessage) {
+        jobStore.save(AnalysisJob.builder()
+                .analysisId(analysisId)
+                .status(AnalysisStatus.FAILED)
+                .errorMessage(errorMessage)
+                .build());
+        timelineService.finish(analysisId, AnalysisStatus.FAILED);
+        progressPublisher.publish(AnalysisProgressEvent.failed(analysisId, errorMessage));
+    }
+
     public List<LLMAnalysisResult> runFullAnalysisInternal(String analysisId) {
         return runFullAnalysisInternal(analysisId, AnalysisTarget.ALL);
     }
@@ -67,55 +227,143 @@ public class StockAnalysisService {
         log.info("  KIS Stock Analysis with LLM (target={}, 병렬)", target);
         log.info("=====================================\n");
 
+        AnalysisDeadline deadline = AnalysisDeadline.current();
+        AnalysisTimeline timeline = AnalysisTimeline.current();
         List<StockDataDto> stockDataList = dataCollectionService.collectStockData(target);
 
-        List<CompletableFuture<LLMAnalysisResult>> futures = stockDataList.stream()
-                .map(stockData -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        log.info("LLM 분석 요청: target={}, exchange={}, stockName={}, stockCode={}",
-                                stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode());
-
-                        LLMAnalysisResponseDto analysisResponse = llmApiClient.analyzeStock(stockData);
-
-                        if (analysisResponse != null) {
-                            LLMAnalysisResult result = LLMAnalysisResult.builder()
-                                    .stockCode(stockData.stockCode())
-                                    .stockName(stockData.stockName())
-                                    .target(stockData.target())
-                                    .analysisDate(LocalDate.now())
-                                    .llmAnalysis(removeJsonBlock(analysisResponse.fullAnalysis()))
-                                    .recommendation(analysisResponse.recommendation())
-                                    .analysisId(analysisId)
-                                    .build();
-                            log.info("분석 완료: target={}, exchange={}, stockName={}, stockCode={}",
-                                    stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode());
-
-                            return result;
-                        }
-                    } catch (Exception e) {
-                        log.error("LLM 분석 실패: target={}, exchange={}, stockName={}, stockCode={}",
-                                stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode(), e);
-                    }
-                    return null;
-                }, llmApiExecutor))
+        List<StockDataDto> pendingStocks = resolvePendingStocks(analysisId, stockDataList);
+
+        int total = stockDataList.size();
+        int alreadyCompleted = total - pendingStocks.size();
+        jobStore.startProgress(analysisId, total, alreadyCompleted);
+        progressPublisher.publish(AnalysisProgressEvent.progress(analysisId, alreadyCompleted, total));
+
+        List<CompletableFuture<LLMAnalysisResult>> futures = pendingStocks.stream()
+                .map(stockData -> CompletableFuture.supplyAsync(() -> deadline.callWith(() -> timeline.callWith(() -> {
+                    StockOutcome outcome = analyzeSingleStock(analysisId, stockData, deadline);
+                    reportProgress(analysisId, total, stockData, outcome.response());
+                    return outcome.result();
+                })), llmApiExecutor))
                 .collect(Collectors.toList());
 
-        List<LLMAnalysisResult> results = futures.stream()
-                .map(f -> f.orTimeout(60, TimeUnit.SECONDS))
-                .map(CompletableFuture::join)
+        List<LLMAnalysisResult> results = deadline.awaitAll(futures, "LLM 분석").stream()
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        if (!results.isEmpty()) {
-            analysisResultSaveService.saveAll(results);
+        if (results.size() < pendingStocks.size()) {
+            deadline.checkNotExpired("LLM 분석");
         }
 
-        generateReport(results);
+        generateReport(analysisId, results);
 
         return results;
     }
 
-    private String removeJsonBlock(String fullText) {
+    /**
+     * 재전달된 작업이면 이미 저장된 종목은 건너뛴다.
+     */
+    private List<StockDataDto> resolvePendingStocks(String analysisId, List<StockDataDto> stockDataList) {
+        Set<String> completedStocks = resolveCompletedStocks(analysisId);
+        List<StockDataDto> pendingStocks = stockDataList.stream()
+                .filter(stockData -> !completedStocks.contains(stockData.stockCode()))
+                .toList();
+        if (pendingStocks.size() < stockDataList.size()) {
+            log.info("이전 실행 결과 이어서 처리: analysisId={}, 완료={}, 남은 종목={}",
+                    analysisId, stockDataList.size() - pendingStocks.size(), pendingStocks.size());
+        }
+        return pendingStocks;
+    }
+
+    /**
+     * 종목 1개 LLM 분석 후 결과를 저장한다. 실패하면 빈 결과를 반환하고, 진행률 갱신은 호출하는 쪽에서 한다.
+     */
+    private StockOutcome analyzeSingleStock(String analysisId, StockDataDto stockData, AnalysisDeadline deadline) {
+        try {
+            deadline.checkNotExpired("LLM 분석 대기");
+            log.info("LLM 분석 요청: target={}, exchange={}, stockName={}, stockCode={}",
+                    stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode());
+
+            LLMAnalysisResponseDto analysisResponse = llmApiClient.analyzeStock(stockData);
+
+            if (analysisResponse != null) {
+                LLMAnalysisResult analyzed = LLMAnalysisResult.builder()
+                        .stockCode(stockData.stockCode())
+                        .stockName(stockData.stockName())
+                        .target(stockData.target())
+                        .analysisDate(LocalDate.now())
+                        .llmAnalysis(removeJsonBlock(analysisResponse.fullAnalysis()))
+                        .recommendation(analysisResponse.recommendation())
+                        .confidence(analysisResponse.confidence())
+                        .analysisId(analysisId)
+                        .build();
+                log.info("분석 완료: target={}, exchange={}, stockName={}, stockCode={}",
+                        stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode());
+
+                saveResult(analysisId, analyzed);
+                return new StockOutcome(analyzed, analysisResponse);
+            }
+        } catch (AnalysisDeadlineExceededException e) {
+            log.warn("마감 시각 초과로 LLM 분석 중단: target={}, exchange={}, stockName={}, stockCode={}",
+                    stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode());
+        } catch (Exception e) {
+            log.error("LLM 분석 실패: target={}, exchange={}, stockName={}, stockCode={}",
+                    stockData.target(), stockData.exchangeCode(), stockData.stockName(), stockData.stockCode(), e);
+        }
+        return StockOutcome.NONE;
+    }
+
+    /**
+     * 종목 결과를 즉시 저장하고 체크포인트를 남긴다. 저장 실패 시 결과는 버려지고 재처리 대상으로 남는다.
+     */
+    private void saveResult(String analysisId, LLMAnalysisResult result) {
+        AnalysisTimeline.current().time(AnalysisTimeline.SAVE_RESULT, result.getStockCode(), () -> {
+            try {
+                analysisResultSaveService.save(result);
+            } catch (DataIntegrityViolationException e) {
+                log.info("이미 저장된 분석 결과: analysisId={}, stockCode={}", analysisId, result.getStockCode());
+            }
+        });
+
+        try {
+            jobStore.markStockCompleted(analysisId, result.getStockCode());
+        } catch (Exception e) {
+            // 체크포인트가 없어도 재처리 시 DB에서 완료 종목을 다시 읽는다
+            log.warn("체크포인트 기록 실패: analysisId={}, stockCode={}, error={}",
+                    analysisId, result.getStockCode(), e.getMessage());
+        }
+    }
+
+    private Set<String> resolveCompletedStocks(String analysisId) {
+        Set<String> completed = jobStore.getCompletedStocks(analysisId);
+        if (completed != null && !completed.isEmpty()) {
+            return completed;
+        }
+        return new HashSet<>(analysisResultRepository.findStockCodesByAnalysisId(analysisId));
+    }
+
+    /**
+     * 성공/실패와 관계없이 진행률을 갱신하고 진행 이벤트를 발행한다.
+     */
+    private void reportProgress(String analysisId, int total, StockDataDto stockData, LLMAnalysisResponseDto response) {
+        try {
+            int completed = (int) jobStore.incrementProgress(analysisId);
+            progressPublisher.publish(response != null
+                    ? AnalysisProgressEvent.result(analysisId, completed, total,
+                            stockData.stockCode(), stockData.stockName(), response)
+                    : AnalysisProgressEvent.progress(analysisId, completed, total));
+        } catch (Exception e) {
+            log.warn("진행률 갱신 실패: analysisId={}, error={}", analysisId, e.getMessage());
+        }
+    }
+
+    /**
+     * 종목 1개 분석 결과. 실패하면 둘 다 null.
+     */
+    private record StockOutcome(LLMAnalysisResult result, LLMAnalysisResponseDto response) {
+        private static final StockOutcome NONE = new StockOutcome(null, null);
+    }
+
+    static String removeJsonBlock(String fullText) {
         if (fullText == null) return null;
 
         int start = fullText.indexOf("```json");
@@ -131,40 +379,69 @@ public class StockAnalysisService {
         return (fullText.substring(0, start) + fullText.substring(end + 3)).trim();
     }
 
-    private void generateReport(List<LLMAnalysisResult> results) {
-        log.info("\n=====================================");
-        log.info("        분석 결과 리포트");
-        log.info("=====================================\n");
+    /**
+     * 분석 스레드에서는 요약 한 줄만 남기고, 종목별 본문은 리포트 파일에 비동기로 기록한다.
+     */
+    private void generateReport(String analysisId, List<LLMAnalysisResult> results) {
+        Map<RecommendationStatus, Long> recommendations = results.stream()
+                .filter(result -> result.getRecommendation() != null)
+                .collect(Collectors.groupingBy(LLMAnalysisResult::getRecommendation, Collectors.counting()));
+        log.info("분석 결과 리포트: analysisId={}, 종목={}, 의견={}", analysisId, results.size(), recommendations);
 
-        for (LLMAnalysisResult result : results) {
-            log.info("[{}] {}", result.getStockCode(), result.getStockName());
-            log.info("분석 의견: {}", result.getRecommendation());
-            log.info("상세 분석:");
-            log.info(result.getLlmAnalysis());
-            log.info("-------------------------------------\n");
-        }
+        reportSink.submit(analysisId, results);
+    }
 
-        log.info("=====================================\n");
+    /**
+     * 오늘 분석 결과 요약 목록 (cursor 보다 작은 id 부터 size 개)
+     */
+    public AnalysisResultPageDto getLatestAnalysis(Long cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<AnalysisResultSummaryDto> rows = analysisResultRepository.findSummariesByAnalysisDate(
+                LocalDate.now(), startCursor(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
     }
 
-    public List<AnalysisResultDto> getLatestAnalysis() {
-        List<LLMAnalysisResult> results = analysisResultRepository.findTop20ByAnalysisDateOrderByCreatedAtDesc(LocalDate.now());
-        return results.stream()
-                .map(AnalysisResultDto::from)
-                .toList();
+    public AnalysisResultPageDto getAnalysisResults(String analysisId, Long cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<AnalysisResultSummaryDto> rows = analysisResultRepository.findSummariesByAnalysisId(
+                analysisId, startCursor(cursor), PageRequest.of(0, pageSize + 1));
+        return toPage(rows, pageSize);
     }
 
-    public List<AnalysisResultDto> getAnalysisResults(String analysisId) {
-        List<LLMAnalysisResult> results = analysisResultRepository.findByAnalysisIdOrderByCreatedAtDesc(analysisId);
-        return results.stream()
+    /**
+     * 종목별 분석 본문 조회 (목록에서는 제외되는 llmAnalysis 포함)
+     */
+    public AnalysisResultDto getAnalysisResult(String analysisId, String stockCode) {
+        return analysisResultRepository.findFirstByAnalysisIdAndStockCode(analysisId, stockCode)
                 .map(AnalysisResultDto::from)
-                .toList();
+                .orElse(null);
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private long startCursor(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    // size + 1 건을 조회해 다음 페이지 존재 여부를 판단한다
+    private AnalysisResultPageDto toPage(List<AnalysisResultSummaryDto> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new AnalysisResultPageDto(rows, null);
+        }
+        List<AnalysisResultSummaryDto> items = rows.subList(0, pageSize);
+        return new AnalysisResultPageDto(List.copyOf(items), items.get(pageSize - 1).id());
     }
 
     public AnalysisStatus getJobStatus(String analysisId) {
         return jobStore.getStatus(analysisId);
     }
 
+    public List<AnalysisJobStatusDto> getJobStatuses(List<String> analysisIds) {
+        return jobStore.getStatuses(analysisIds);
+    }
+
     public AnalysisJob getAnalysisJob(String analysisId) {
         return jobStore.get(analysisId);
     }
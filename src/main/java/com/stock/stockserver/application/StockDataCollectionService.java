@@ -1,11 +1,11 @@
 package com.stock.stockserver.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
 import com.stock.stockserver.domain.AnalysisTarget;
-import com.stock.stockserver.domain.entity.DailyPrice;
+import com.stock.stockserver.domain.AnalysisTimeline;
+import com.stock.stockserver.domain.DailyPriceSeries;
 import com.stock.stockserver.domain.entity.StockData;
-import com.stock.stockserver.domain.repository.DailyPriceRepository;
-import com.stock.stockserver.domain.repository.StockDataRepository;
 import com.stock.stockserver.dto.DailyPriceDto;
 import com.stock.stockserver.dto.StockDataDto;
 import com.stock.stockserver.dto.VolumeRankDto;
@@ -14,10 +14,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -30,9 +31,7 @@ import java.util.stream.Collectors;
 public class StockDataCollectionService {
 
     private final KisApiClient kisApiClient;
-    private final StockDataRepository stockDataRepository;
-    private final DailyPriceRepository dailyPriceRepository;
-    private final ObjectMapper objectMapper;
+    private final StockDataSaveService stockDataSaveService;
     private final Executor kisApiExecutor;
 
     @Value("${analysis.days-back}")
@@ -40,13 +39,12 @@ public class StockDataCollectionService {
 
     /**
      * 거래량 Top 10 종목의 데이터 수집 (병렬 처리)
+     * KIS 호출 구간에서는 트랜잭션을 열지 않고, 수집이 끝난 뒤 시장 단위로 짧게 저장한다.
      */
-    @Transactional
     public List<StockDataDto> collectStockData() {
         return collectStockData(AnalysisTarget.DOMESTIC);
     }
 
-    @Transactional
     public List<StockDataDto> collectStockData(AnalysisTarget target) {
         log.info("=== 주식 데이터 수집 시작: target={} (병렬 처리) ===", target);
 
@@ -61,45 +59,63 @@ public class StockDataCollectionService {
     private List<StockDataDto> collectStockDataByTarget(AnalysisTarget target) {
         log.info("시장별 데이터 수집 시작: {}", target);
 
+        AnalysisDeadline deadline = AnalysisDeadline.current();
+        AnalysisTimeline timeline = AnalysisTimeline.current();
+
         // 1단계: 거래량 Top 10 조회
-        List<VolumeRankDto> topStocks = kisApiClient.getVolumeRankStocks(target);
+        List<VolumeRankDto> topStocks = timeline.time(AnalysisTimeline.VOLUME_RANK, target.name(),
+                () -> kisApiClient.getVolumeRankStocks(target));
         log.info("Step 1: {} 거래량 Top 10 조회 완료 - {} 개", target, topStocks.size());
 
-        // 2단계: 각 종목별 데이터 수집 (병렬 처리)
+        // 2단계: 각 종목별 데이터 수집 (병렬 처리), 일봉은 모아서 한 번에 저장
+        List<DailyPriceDto> collectedPrices = Collections.synchronizedList(new ArrayList<>());
         List<CompletableFuture<StockDataDto>> futures = topStocks.stream()
-                .map(volumeRank -> CompletableFuture.supplyAsync(() -> {
+                .map(volumeRank -> CompletableFuture.supplyAsync(() -> deadline.callWith(() -> timeline.callWith(() -> {
                     try {
-                        return collectSingleStockData(volumeRank);
+                        deadline.checkNotExpired("데이터 수집 대기");
+                        return timeline.time(AnalysisTimeline.COLLECT_STOCK, volumeRank.stockCode(),
+                                () -> collectSingleStockData(volumeRank, collectedPrices));
+                    } catch (AnalysisDeadlineExceededException e) {
+                        log.warn("마감 시각 초과로 데이터 수집 중단: target={}, exchange={}, stockCode={}",
+                                volumeRank.target(), volumeRank.exchangeCode(), volumeRank.stockCode());
+                        return null;
                     } catch (Exception e) {
                         log.error("데이터 수집 실패: target={}, exchange={}, stockCode={}",
                                 volumeRank.target(), volumeRank.exchangeCode(), volumeRank.stockCode(), e);
                         return null;
                     }
-                }, kisApiExecutor))
+                })), kisApiExecutor))
                 .collect(Collectors.toList());
 
-        // 모든 병렬 작업 완료 대기 및 결과 수집
-        List<StockDataDto> stockDataList = futures.stream()
-                .map(CompletableFuture::join)
+        // 마감 시각까지 병렬 작업 완료 대기 및 결과 수집 (초과 시 대기만 중단, 실행 중인 호출은 각자의 타임아웃으로 끝남)
+        List<StockDataDto> stockDataList = deadline.awaitAll(futures, "데이터 수집").stream()
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
+        if (stockDataList.size() < topStocks.size()) {
+            deadline.checkNotExpired("데이터 수집");
+        }
+
         log.info("Step 2: {} 데이터 수집 완료 - {} 개", target, stockDataList.size());
 
+        // 3단계: 일봉 + 종목 데이터 일괄 저장 (이 구간에서만 DB 커넥션 사용)
+        timeline.time(AnalysisTimeline.SAVE_COLLECTED, target.name(),
+                () -> saveCollectedData(collectedPrices, stockDataList));
+
         return stockDataList;
     }
 
     /**
      * 개별 종목 데이터 수집
      */
-    private StockDataDto collectSingleStockData(VolumeRankDto volumeRank) {
+    private StockDataDto collectSingleStockData(VolumeRankDto volumeRank, List<DailyPriceDto> collectedPrices) {
         String stockCode = volumeRank.stockCode();
         String stockName = volumeRank.stockName();
 
         log.debug("데이터 수집: target={}, exchange={}, stockName={}, stockCode={}",
                 volumeRank.target(), volumeRank.exchangeCode(), stockName, stockCode);
 
-        // 1. 일봉 데이터 조회 및 저장
+        // 1. 일봉 데이터 조회
         List<DailyPriceDto> dailyPriceDtos = kisApiClient.getDailyData(
                 volumeRank.target(),
                 volumeRank.exchangeCode(),
@@ -113,23 +129,13 @@ public class StockDataCollectionService {
             return null;
         }
 
-        // DB에 저장
-        saveDailyPrices(dailyPriceDtos);
+        collectedPrices.addAll(dailyPriceDtos);
 
-        // 2. 52주 최고가/최저가 계산
-        BigDecimal priceHigh52Week = BigDecimal.valueOf(
-                dailyPriceDtos.stream()
-                        .mapToDouble(DailyPriceDto::highPrice)
-                        .max()
-                        .orElse(0)
-        );
+        DailyPriceSeries dailyPrices = toSeries(dailyPriceDtos);
 
-        BigDecimal priceLow52Week = BigDecimal.valueOf(
-                dailyPriceDtos.stream()
-                        .mapToDouble(DailyPriceDto::lowPrice)
-                        .min()
-                        .orElse(0)
-        );
+        // 2. 52주 최고가/최저가 계산
+        BigDecimal priceHigh52Week = BigDecimal.valueOf(dailyPrices.maxHighPrice());
+        BigDecimal priceLow52Week = BigDecimal.valueOf(dailyPrices.minLowPrice());
 
         // 3. StockDataDto 생성
         StockDataDto stockData = StockDataDto.builder()
@@ -144,58 +150,58 @@ public class StockDataCollectionService {
                 .priceHigh52Week(priceHigh52Week)
                 .priceLow52Week(priceLow52Week)
                 .analysisDate(LocalDate.now())
-                .dailyPricesJson(convertDailyPricesToJson(dailyPriceDtos))
-                .build();
-
-        // 4. DB 저장
-        StockData entity = StockData.builder()
-                .stockCode(stockCode)
-                .stockName(stockName)
-                .currentPrice(stockData.currentPrice())
-                .changePercent(stockData.changePercent())
-                .tradingVolume(stockData.tradingVolume())
-                .tradingAmount(stockData.tradingAmount())
-                .priceHigh52Week(priceHigh52Week)
-                .priceLow52Week(priceLow52Week)
-                .analysisDate(LocalDate.now())
-                .dailyPricesJson(stockData.dailyPricesJson())
+                .dailyPrices(dailyPrices)
                 .build();
 
-        stockDataRepository.save(entity);
-
         log.debug("데이터 수집 완료: target={}, exchange={}, stockName={}, stockCode={}",
                 volumeRank.target(), volumeRank.exchangeCode(), stockName, stockCode);
         return stockData;
     }
 
     /**
-     * 일봉 데이터 저장
+     * 수집 데이터 저장 (일봉은 (stockCode, tradeDate) 기준 upsert)
      */
-    private void saveDailyPrices(List<DailyPriceDto> dailyPriceDtos) {
-        List<DailyPrice> dailyPrices = dailyPriceDtos.stream()
-                .map(dto -> DailyPrice.builder()
-                        .stockCode(dto.stockCode())
-                        .tradeDate(dto.tradeDate())
-                        .openPrice(BigDecimal.valueOf(dto.openPrice()))
-                        .closePrice(BigDecimal.valueOf(dto.closePrice()))
-                        .highPrice(BigDecimal.valueOf(dto.highPrice()))
-                        .lowPrice(BigDecimal.valueOf(dto.lowPrice()))
-                        .volume(dto.volume())
-                        .build())
+    private void saveCollectedData(List<DailyPriceDto> collectedPrices, List<StockDataDto> stockDataList) {
+        if (stockDataList.isEmpty()) {
+            return;
+        }
+
+        List<DailyPriceDto> dailyPrices;
+        synchronized (collectedPrices) {
+            dailyPrices = new ArrayList<>(collectedPrices);
+        }
+
+        List<StockData> entities = stockDataList.stream()
+                .map(this::toEntity)
                 .collect(Collectors.toList());
 
-        dailyPriceRepository.saveAll(dailyPrices);
+        stockDataSaveService.saveBatch(dailyPrices, entities);
+    }
+
+    private StockData toEntity(StockDataDto stockData) {
+        return StockData.builder()
+                .stockCode(stockData.stockCode())
+                .stockName(stockData.stockName())
+                .currentPrice(stockData.currentPrice())
+                .changePercent(stockData.changePercent())
+                .tradingVolume(stockData.tradingVolume())
+                .tradingAmount(stockData.tradingAmount())
+                .priceHigh52Week(stockData.priceHigh52Week())
+                .priceLow52Week(stockData.priceLow52Week())
+                .analysisDate(stockData.analysisDate())
+                .dailyPrices(stockData.dailyPrices())
+                .build();
     }
 
     /**
-     * 일봉 데이터를 JSON으로 변환
+     * 일봉 데이터를 열 단위 시계열로 변환
      */
-    private String convertDailyPricesToJson(List<DailyPriceDto> dailyPrices) {
-        try {
-            return objectMapper.writeValueAsString(dailyPrices);
-        } catch (Exception e) {
-            log.error("JSON 변환 실패", e);
-            return "[]";
+    static DailyPriceSeries toSeries(List<DailyPriceDto> dailyPrices) {
+        DailyPriceSeries.Builder builder = DailyPriceSeries.builder(dailyPrices.size());
+        for (DailyPriceDto dto : dailyPrices) {
+            builder.add(dto.tradeDate(), dto.openPrice(), dto.closePrice(),
+                    dto.highPrice(), dto.lowPrice(), dto.volume());
         }
+        return builder.build();
     }
 }
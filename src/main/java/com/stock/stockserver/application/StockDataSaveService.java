@@ -0,0 +1,36 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.entity.StockData;
+import com.stock.stockserver.domain.repository.StockDataRepository;
+import com.stock.stockserver.dto.DailyPriceDto;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
+import com.stock.stockserver.infrastructure.persistence.DailyPriceBulkWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 수집 결과 저장 (트랜잭션 분리).
+ * KIS 호출이 모두 끝난 뒤 시장 단위로 한 번만 호출되어, DB 커넥션은 저장하는 동안에만 점유된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StockDataSaveService {
+
+    private final StockDataRepository stockDataRepository;
+    private final DailyPriceBulkWriter dailyPriceBulkWriter;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Transactional
+    public void saveBatch(List<DailyPriceDto> dailyPrices, List<StockData> stockDataList) {
+        pipelineMetrics.recordDbSaveOnCompletion("stock_data", dailyPrices.size() + stockDataList.size());
+        int statements = dailyPriceBulkWriter.upsertAll(dailyPrices);
+        stockDataRepository.saveAll(stockDataList);
+        log.info("수집 데이터 저장 완료: 일봉 {} 건({} 회 실행), 종목 {} 개",
+                dailyPrices.size(), statements, stockDataList.size());
+    }
+}
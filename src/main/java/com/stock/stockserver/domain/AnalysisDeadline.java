@@ -0,0 +1,137 @@
+package com.stock.stockserver.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 분석 작업 1건에 허용된 마감 시각.
+ *
+ * Consumer가 메시지를 받는 시점에 만들어지고, 분석 스레드와 KIS/LLM 작업 스레드에 바인딩되어
+ * 모든 외부 호출과 재시도가 같은 마감 시각을 기준으로 중단된다.
+ */
+public final class AnalysisDeadline {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final ThreadLocal<AnalysisDeadline> CURRENT = new ThreadLocal<>();
+
+    private final Instant expiresAt;
+
+    private AnalysisDeadline(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public static AnalysisDeadline after(Duration timeout) {
+        return new AnalysisDeadline(Instant.now().plus(timeout));
+    }
+
+    public static AnalysisDeadline at(Instant expiresAt) {
+        return new AnalysisDeadline(expiresAt);
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 마감 시각. 작업 밖(API 직접 호출 등)에서는 기본 타임아웃을 적용한다.
+     */
+    public static AnalysisDeadline current() {
+        AnalysisDeadline deadline = CURRENT.get();
+        return deadline != null ? deadline : after(DEFAULT_TIMEOUT);
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+
+    public Duration remaining() {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    /**
+     * 개별 호출 타임아웃을 남은 시간 이내로 줄인다.
+     */
+    public Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    public void checkNotExpired(String stage) {
+        if (isExpired()) {
+            throw exceeded(stage);
+        }
+    }
+
+    public AnalysisDeadlineExceededException exceeded(String stage) {
+        return new AnalysisDeadlineExceededException(stage, expiresAt);
+    }
+
+    /**
+     * 현재 스레드에 마감 시각을 바인딩한 채로 실행하고, 끝나면 이전 값을 복원한다.
+     * 풀 스레드에서 실행되는 작업은 반드시 이 메서드로 감싸야 다음 작업에 값이 새지 않는다.
+     */
+    public <T> T callWith(Supplier<T> action) {
+        AnalysisDeadline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public void runWith(Runnable action) {
+        callWith(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 병렬 작업을 마감 시각까지 기다린다. 시간이 지나면 남은 future 를 취소하고 예외를 던진다.
+     *
+     * CompletableFuture.cancel(true)는 future 만 취소 상태로 만들 뿐 실행 중인 supplier 를 인터럽트하지 않는다.
+     * 작업 스레드와 RateLimiter permit 은 각 호출에 걸린 타임아웃(deadline.remaining())이 끝나야 반환되므로,
+     * 외부 호출과 permit 대기는 모두 이 마감 시각으로 제한해 두어야 한다.
+     */
+    public <T> List<T> awaitAll(List<CompletableFuture<T>> futures, String stage) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(remaining().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw exceeded(stage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(future -> future.cancel(true));
+            throw exceeded(stage);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(stage + " 실패", e.getCause());
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return "AnalysisDeadline{expiresAt=" + expiresAt + "}";
+    }
+}
@@ -0,0 +1,18 @@
+package com.stock.stockserver.domain;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class AnalysisDeadlineExceededException extends RuntimeException {
+
+    private final String stage;
+    private final Instant expiresAt;
+
+    public AnalysisDeadlineExceededException(String stage, Instant expiresAt) {
+        super("분석 작업 마감 시각을 초과했습니다: stage=" + stage + ", expiresAt=" + expiresAt);
+        this.stage = stage;
+        this.expiresAt = expiresAt;
+    }
+}
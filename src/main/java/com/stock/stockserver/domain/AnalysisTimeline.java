@@ -0,0 +1,214 @@
+package com.stock.stockserver.domain;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 분석 작업 1건의 단계별 소요 시간 기록.
+ *
+ * AnalysisDeadline 과 같은 방식으로 분석 스레드와 KIS/LLM 작업 스레드에 바인딩되고,
+ * 단계가 끝날 때마다 sink 로 {@link StageTiming} 을 넘긴다. 바인딩되지 않은 스레드(API 직접 호출, 테스트)에서는 아무것도 기록하지 않는다.
+ */
+public final class AnalysisTimeline {
+
+    public static final String QUEUE_WAIT = "queue_wait";
+    public static final String VOLUME_RANK = "volume_rank";
+    public static final String COLLECT_STOCK = "collect_stock";
+    public static final String SAVE_COLLECTED = "save_collected";
+    public static final String LLM = "llm";
+    public static final String SAVE_RESULT = "save_result";
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private static final AnalysisTimeline DISABLED = new AnalysisTimeline(null, timing -> { });
+    private static final ThreadLocal<AnalysisTimeline> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Stage> CURRENT_STAGE = new ThreadLocal<>();
+
+    private final String analysisId;
+    private final Consumer<StageTiming> sink;
+
+    private AnalysisTimeline(String analysisId, Consumer<StageTiming> sink) {
+        this.analysisId = analysisId;
+        this.sink = sink;
+    }
+
+    public static AnalysisTimeline of(String analysisId, Consumer<StageTiming> sink) {
+        return new AnalysisTimeline(analysisId, sink);
+    }
+
+    public static AnalysisTimeline current() {
+        AnalysisTimeline timeline = CURRENT.get();
+        return timeline != null ? timeline : DISABLED;
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 단계. KIS permit 대기나 LLM 재시도처럼 단계 안쪽에서 생기는 값을 더할 때 쓴다.
+     */
+    public static Stage currentStage() {
+        Stage stage = CURRENT_STAGE.get();
+        return stage != null ? stage : Stage.NONE;
+    }
+
+    public String analysisId() {
+        return analysisId;
+    }
+
+    public boolean isEnabled() {
+        return this != DISABLED;
+    }
+
+    /**
+     * 현재 스레드에 바인딩한 채로 실행하고, 끝나면 이전 값을 복원한다.
+     */
+    public <T> T callWith(Supplier<T> action) {
+        AnalysisTimeline previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public void runWith(Runnable action) {
+        callWith(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 단계를 시작하고 현재 스레드의 진행 중 단계로 등록한다. 반드시 {@link Stage#end} 로 닫아야 한다.
+     *
+     * @param subject 종목 코드 또는 시장(DOMESTIC/OVERSEAS)
+     */
+    public Stage start(String stage, String subject) {
+        if (!isEnabled()) {
+            return Stage.NONE;
+        }
+        Stage started = new Stage(this, stage, subject, CURRENT_STAGE.get());
+        CURRENT_STAGE.set(started);
+        return started;
+    }
+
+    /**
+     * action 전체를 한 단계로 기록한다. 예외로 끝나면 failure 로 남긴다.
+     */
+    public <T> T time(String stage, String subject, Supplier<T> action) {
+        Stage started = start(stage, subject);
+        String outcome = FAILURE;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } catch (AnalysisDeadlineExceededException e) {
+            outcome = "deadline";
+            throw e;
+        } finally {
+            started.end(outcome);
+        }
+    }
+
+    public void time(String stage, String subject, Runnable action) {
+        time(stage, subject, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 이미 끝난 구간(큐 대기 등)을 그대로 기록한다.
+     */
+    public void record(String stage, String subject, Instant startedAt, long durationMs) {
+        if (isEnabled()) {
+            sink.accept(new StageTiming(stage, subject, null, SUCCESS, startedAt, durationMs, 0, 0));
+        }
+    }
+
+    /**
+     * 진행 중인 단계. provider/대기 시간/재시도 횟수는 단계 도중 다른 스레드(reactor)에서 더해질 수 있다.
+     */
+    public static final class Stage {
+
+        private static final Stage NONE = new Stage(null, null, null, null);
+
+        private final AnalysisTimeline timeline;
+        private final String name;
+        private final String subject;
+        private final Stage parent;
+        private final Instant startedAt = Instant.now();
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong waitNanos = new AtomicLong();
+        private final AtomicInteger retries = new AtomicInteger();
+        private volatile String provider;
+
+        private Stage(AnalysisTimeline timeline, String name, String subject, Stage parent) {
+            this.timeline = timeline;
+            this.name = name;
+            this.subject = subject;
+            this.parent = parent;
+        }
+
+        public Stage provider(String provider) {
+            if (timeline != null) {
+                this.provider = provider;
+            }
+            return this;
+        }
+
+        public void addWait(long nanos) {
+            if (timeline != null) {
+                waitNanos.addAndGet(nanos);
+            }
+        }
+
+        public void retry() {
+            if (timeline != null) {
+                retries.incrementAndGet();
+            }
+        }
+
+        public void end(String outcome) {
+            if (timeline == null) {
+                return;
+            }
+            if (CURRENT_STAGE.get() == this) {
+                if (parent == null) {
+                    CURRENT_STAGE.remove();
+                } else {
+                    CURRENT_STAGE.set(parent);
+                }
+            }
+            timeline.sink.accept(new StageTiming(name, subject, provider, outcome, startedAt,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos.get()), retries.get()));
+        }
+    }
+
+    /**
+     * 끝난 단계 1건.
+     *
+     * @param waitMs  단계 안에서 KIS permit 을 기다린 시간
+     * @param retries 단계 안에서 재시도한 횟수 (KIS/LLM 호출 재시도)
+     */
+    public record StageTiming(
+            String stage,
+            String subject,
+            String provider,
+            String outcome,
+            Instant startedAt,
+            long durationMs,
+            long waitMs,
+            int retries
+    ) {
+    }
+}
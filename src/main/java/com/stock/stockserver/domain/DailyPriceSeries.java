@@ -0,0 +1,300 @@
+package com.stock.stockserver.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 종목 1개의 일봉 시계열 (열 단위 primitive 배열).
+ *
+ * 저장 형식: [버전 1바이트][Deflate 압축 본문]
+ * 본문은 행 수(varint) 뒤에 거래일(epochDay), 시가, 종가, 고가, 저가, 거래량 열을 차례로 담는다.
+ * 각 열은 직전 값과의 차이를 zigzag varint로 기록하고, 가격은 10^4 배 정수로 고정소수점 변환한다.
+ * 60일 일봉 기준 종목당 약 0.7KB (국내 660~690바이트, 해외 720~730바이트 측정)로 JSON(약 9KB) 대비 1/10 이하다.
+ */
+public final class DailyPriceSeries {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double PRICE_SCALE = 10_000d;
+
+    private final long[] epochDays;
+    private final double[] openPrices;
+    private final double[] closePrices;
+    private final double[] highPrices;
+    private final double[] lowPrices;
+    private final long[] volumes;
+
+    private DailyPriceSeries(long[] epochDays, double[] openPrices, double[] closePrices,
+                             double[] highPrices, double[] lowPrices, long[] volumes) {
+        this.epochDays = epochDays;
+        this.openPrices = openPrices;
+        this.closePrices = closePrices;
+        this.highPrices = highPrices;
+        this.lowPrices = lowPrices;
+        this.volumes = volumes;
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    public static DailyPriceSeries empty() {
+        return builder(0).build();
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public LocalDate tradeDate(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public double openPrice(int index) {
+        return openPrices[index];
+    }
+
+    public double closePrice(int index) {
+        return closePrices[index];
+    }
+
+    public double highPrice(int index) {
+        return highPrices[index];
+    }
+
+    public double lowPrice(int index) {
+        return lowPrices[index];
+    }
+
+    public long volume(int index) {
+        return volumes[index];
+    }
+
+    public double maxHighPrice() {
+        return Arrays.stream(highPrices).max().orElse(0);
+    }
+
+    public double minLowPrice() {
+        return Arrays.stream(lowPrices).min().orElse(0);
+    }
+
+    public byte[] encode() {
+        int size = size();
+        VarIntWriter body = new VarIntWriter(16 + size * 24);
+        body.writeUnsigned(size);
+        body.writeDeltas(epochDays);
+        body.writeDeltas(scale(openPrices));
+        body.writeDeltas(scale(closePrices));
+        body.writeDeltas(scale(highPrices));
+        body.writeDeltas(scale(lowPrices));
+        body.writeDeltas(volumes);
+
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try {
+            deflater.setInput(body.buffer, 0, body.length);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+            out.write(FORMAT_VERSION);
+            byte[] chunk = new byte[512];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static DailyPriceSeries decode(byte[] encoded) {
+        if (encoded == null || encoded.length == 0) {
+            return empty();
+        }
+        if (encoded[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 일봉 시계열 형식: version=" + encoded[0]);
+        }
+
+        VarIntReader body = new VarIntReader(inflate(encoded));
+        long size = body.readUnsigned();
+        if (size > body.remaining()) {
+            throw new IllegalArgumentException("일봉 시계열 데이터가 손상되었습니다");
+        }
+        int rows = (int) size;
+        return new DailyPriceSeries(
+                body.readDeltas(rows),
+                unscale(body.readDeltas(rows)),
+                unscale(body.readDeltas(rows)),
+                unscale(body.readDeltas(rows)),
+                unscale(body.readDeltas(rows)),
+                body.readDeltas(rows)
+        );
+    }
+
+    private static byte[] inflate(byte[] encoded) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(encoded, 1, encoded.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length * 4);
+            byte[] chunk = new byte[512];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(chunk);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("일봉 시계열 데이터가 손상되었습니다");
+                }
+                out.write(chunk, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("일봉 시계열 데이터가 손상되었습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static long[] scale(double[] prices) {
+        long[] scaled = new long[prices.length];
+        for (int i = 0; i < prices.length; i++) {
+            scaled[i] = Math.round(prices[i] * PRICE_SCALE);
+        }
+        return scaled;
+    }
+
+    private static double[] unscale(long[] scaled) {
+        double[] prices = new double[scaled.length];
+        for (int i = 0; i < scaled.length; i++) {
+            prices[i] = scaled[i] / PRICE_SCALE;
+        }
+        return prices;
+    }
+
+    public static final class Builder {
+
+        private long[] epochDays;
+        private double[] openPrices;
+        private double[] closePrices;
+        private double[] highPrices;
+        private double[] lowPrices;
+        private long[] volumes;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 0);
+            this.epochDays = new long[capacity];
+            this.openPrices = new double[capacity];
+            this.closePrices = new double[capacity];
+            this.highPrices = new double[capacity];
+            this.lowPrices = new double[capacity];
+            this.volumes = new long[capacity];
+        }
+
+        public Builder add(LocalDate tradeDate, double openPrice, double closePrice,
+                           double highPrice, double lowPrice, long volume) {
+            if (size == epochDays.length) {
+                grow();
+            }
+            epochDays[size] = tradeDate.toEpochDay();
+            openPrices[size] = openPrice;
+            closePrices[size] = closePrice;
+            highPrices[size] = highPrice;
+            lowPrices[size] = lowPrice;
+            volumes[size] = volume;
+            size++;
+            return this;
+        }
+
+        public DailyPriceSeries build() {
+            return new DailyPriceSeries(
+                    Arrays.copyOf(epochDays, size),
+                    Arrays.copyOf(openPrices, size),
+                    Arrays.copyOf(closePrices, size),
+                    Arrays.copyOf(highPrices, size),
+                    Arrays.copyOf(lowPrices, size),
+                    Arrays.copyOf(volumes, size)
+            );
+        }
+
+        private void grow() {
+            int capacity = Math.max(8, epochDays.length * 2);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            openPrices = Arrays.copyOf(openPrices, capacity);
+            closePrices = Arrays.copyOf(closePrices, capacity);
+            highPrices = Arrays.copyOf(highPrices, capacity);
+            lowPrices = Arrays.copyOf(lowPrices, capacity);
+            volumes = Arrays.copyOf(volumes, capacity);
+        }
+    }
+
+    private static final class VarIntWriter {
+
+        private byte[] buffer;
+        private int length;
+
+        private VarIntWriter(int capacity) {
+            this.buffer = new byte[Math.max(capacity, 16)];
+        }
+
+        private void writeDeltas(long[] values) {
+            long previous = 0;
+            for (long value : values) {
+                long delta = value - previous;
+                writeUnsigned((delta << 1) ^ (delta >> 63));
+                previous = value;
+            }
+        }
+
+        private void writeUnsigned(long value) {
+            if (buffer.length - length < 10) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            while ((value & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[length++] = (byte) value;
+        }
+    }
+
+    private static final class VarIntReader {
+
+        private final byte[] buffer;
+        private int position;
+
+        private VarIntReader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.length - position;
+        }
+
+        private long[] readDeltas(int size) {
+            long[] values = new long[size];
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                long zigzag = readUnsigned();
+                previous += (zigzag >>> 1) ^ -(zigzag & 1);
+                values[i] = previous;
+            }
+            return values;
+        }
+
+        private long readUnsigned() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= buffer.length) {
+                    throw new IllegalArgumentException("일봉 시계열 데이터가 손상되었습니다");
+                }
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("일봉 시계열 데이터가 손상되었습니다");
+        }
+    }
+}
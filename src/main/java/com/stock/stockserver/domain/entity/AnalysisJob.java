@@ -14,7 +14,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "analysis_jobs")
+@Table(name = "analysis_jobs", indexes = {
+        // 최근 작업 단계별 소요 시간 조회(findRecentTimelines): ORDER BY created_at DESC LIMIT
+        @Index(name = "idx_analysis_jobs_created_at", columnList = "createdAt")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -33,6 +36,13 @@ public class AnalysisJob {
     @Column(columnDefinition = "LONGTEXT")
     private String errorMessage;
 
+    /**
+     * 단계별 소요 시간(JSON). 작업 종료 시 AnalysisJobStore.saveTimeline 이 이 컬럼만 UPDATE 하거나
+     * (write-behind 모드) Redis 해시에 담아 flush 가 상태와 함께 기록한다. JPA merge 는 덮어쓰지 않는다.
+     */
+    @Column(columnDefinition = "LONGTEXT", insertable = false, updatable = false)
+    private String timeline;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -47,6 +57,18 @@ public class AnalysisJob {
         this.errorMessage = errorMessage;
     }
 
+    /**
+     * Redis 에 캐시된 상태로 만든다. write-behind flush 는 DB에 반영하는 시각이 아니라 Redis 에 기록된 시각을 쓴다.
+     */
+    public static AnalysisJob cached(String analysisId, AnalysisStatus status, String errorMessage, String timeline,
+                                     LocalDateTime createdAt, LocalDateTime updatedAt) {
+        AnalysisJob job = new AnalysisJob(analysisId, status, errorMessage);
+        job.timeline = timeline;
+        job.createdAt = createdAt;
+        job.updatedAt = updatedAt;
+        return job;
+    }
+
     public void updateStatus(AnalysisStatus status) {
         this.status = status;
     }
@@ -0,0 +1,60 @@
+package com.stock.stockserver.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 브로커로 보낼 메시지 (transactional outbox).
+ * 작업 행과 같은 트랜잭션에 기록되고, AnalysisOutboxRelay가 claim(소유자/만료 시각 기록) 후 발행하고 삭제한다.
+ */
+@Entity
+@Table(name = "analysis_outbox")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class AnalysisOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false, length = 36)
+    private String messageKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 전송 중인 relay. claimedUntil 이 지나면(relay 장애) 다른 relay가 다시 가져간다.
+     */
+    @Column(length = 36)
+    private String claimedBy;
+
+    private LocalDateTime claimedUntil;
+
+    @Builder
+    private AnalysisOutboxEvent(String topic, String messageKey, String payload) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+    }
+
+    public void claim(String owner, LocalDateTime until) {
+        this.claimedBy = owner;
+        this.claimedUntil = until;
+    }
+}
@@ -14,8 +14,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "daily_prices", indexes = {
-        @Index(name = "idx_stock_code_date", columnList = "stockCode,tradeDate")
+@Table(name = "daily_prices", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_code_date", columnNames = {"stockCode", "tradeDate"})
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -12,7 +12,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "failed_analysis_requests")
+@Table(name = "failed_analysis_requests", indexes = {
+        // 재처리 스캐너: processed = false 인 행을 failed_at 순으로 페이지 단위 claim (claimed_until 은 잠근 뒤 걸러낸다)
+        @Index(name = "idx_failed_processed_failed_at", columnList = "processed, failedAt")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -54,12 +57,22 @@ public class FailedAnalysisRequest {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    /**
+     * 재전송 중인 노드. claimedUntil 이 지나면(노드 장애) 다른 노드가 다시 가져간다.
+     */
+    @Column(length = 36)
+    private String claimedBy;
+
+    private LocalDateTime claimedUntil;
+
+    public void claim(String owner, LocalDateTime until) {
+        this.claimedBy = owner;
+        this.claimedUntil = until;
+    }
+
     public void markAsProcessed() {
         this.processed = true;
         this.processedAt = LocalDateTime.now();
     }
 
-    public void incrementRetryCount() {
-        this.retryCount++;
-    }
 }
@@ -15,7 +15,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "llm_analysis_results")
+@Table(name = "llm_analysis_results", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analysis_id_stock_code", columnNames = {"analysisId", "stockCode"})
+}, indexes = {
+        @Index(name = "idx_analysis_date_id_summary",
+                columnList = "analysisDate,id,target,stockCode,stockName,recommendation,confidence"),
+        @Index(name = "idx_analysis_id_id_summary",
+                columnList = "analysisId,id,target,stockCode,stockName,recommendation,confidence")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -44,6 +51,8 @@ public class LLMAnalysisResult {
     @Column(nullable = false, length = 10)
     private RecommendationStatus recommendation;
 
+    private Double confidence;
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -61,6 +70,7 @@ public class LLMAnalysisResult {
                               LocalDate analysisDate,
                               String llmAnalysis,
                               RecommendationStatus recommendation,
+                              Double confidence,
                               String analysisId) {
 
         this.stockCode = stockCode;
@@ -69,6 +79,7 @@ public class LLMAnalysisResult {
         this.analysisDate = analysisDate;
         this.llmAnalysis = llmAnalysis;
         this.recommendation = recommendation;
+        this.confidence = confidence;
         this.analysisId = analysisId;
     }
 }
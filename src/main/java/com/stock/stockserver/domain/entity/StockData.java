@@ -1,5 +1,6 @@
 package com.stock.stockserver.domain.entity;
 
+import com.stock.stockserver.domain.DailyPriceSeries;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -50,8 +51,11 @@ public class StockData {
     @Column(nullable = false)
     private LocalDate analysisDate;
 
-    @Column(columnDefinition = "LONGTEXT")
-    private String dailyPricesJson;
+    /**
+     * 일봉 시계열 압축본 ({@link DailyPriceSeries#encode()})
+     */
+    @Column(columnDefinition = "BLOB")
+    private byte[] dailyPrices;
 
     @CreatedDate
     @Column(nullable = false, updatable = false)
@@ -64,7 +68,7 @@ public class StockData {
     private StockData(String stockCode, String stockName, BigDecimal currentPrice,
                       BigDecimal changePercent, Long tradingVolume, Long tradingAmount,
                       BigDecimal priceHigh52Week, BigDecimal priceLow52Week,
-                      LocalDate analysisDate, String dailyPricesJson) {
+                      LocalDate analysisDate, DailyPriceSeries dailyPrices) {
         this.stockCode = stockCode;
         this.stockName = stockName;
         this.currentPrice = currentPrice;
@@ -74,6 +78,10 @@ public class StockData {
         this.priceHigh52Week = priceHigh52Week;
         this.priceLow52Week = priceLow52Week;
         this.analysisDate = analysisDate;
-        this.dailyPricesJson = dailyPricesJson;
+        this.dailyPrices = dailyPrices != null ? dailyPrices.encode() : null;
+    }
+
+    public DailyPriceSeries getDailyPriceSeries() {
+        return DailyPriceSeries.decode(dailyPrices);
     }
 }
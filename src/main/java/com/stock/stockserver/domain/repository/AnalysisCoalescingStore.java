@@ -0,0 +1,73 @@
+package com.stock.stockserver.domain.repository;
+
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 분석 대상 + 거래 세션별 대표 작업.
+ *
+ * analysisCoalesce::{target}:{session} : 같은 대상/세션 요청이 합류할 analysisId 와 등록 시각 (SET NX, "{id}@{epochMillis}")
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalysisCoalescingStore {
+
+    private static final String KEY_PREFIX = "analysisCoalesce::";
+    private static final char SEPARATOR = '@';
+
+    private final RedisRepository redisRepository;
+
+    public Registration find(AnalysisTarget target, LocalDate session) {
+        return Registration.parse(redisRepository.get(key(target, session)));
+    }
+
+    /**
+     * 대표 작업이 없을 때만 등록한다.
+     */
+    public boolean register(AnalysisTarget target, LocalDate session, Registration registration, Duration ttl) {
+        return redisRepository.setIfAbsent(key(target, session), registration.encode(), ttl);
+    }
+
+    /**
+     * 아직 registration 이 대표 작업일 때만 해제한다. (그 사이 다른 요청이 새로 등록했으면 유지)
+     */
+    public void unregister(AnalysisTarget target, LocalDate session, Registration registration) {
+        redisRepository.compareAndDelete(key(target, session), registration.encode());
+    }
+
+    private String key(AnalysisTarget target, LocalDate session) {
+        return KEY_PREFIX + target.name() + ":" + session;
+    }
+
+    /**
+     * @param registeredAt 등록 시각. 작업 상태가 아직 없을 때 발행 직후인지 판단하는 데 쓴다
+     */
+    public record Registration(String analysisId, Instant registeredAt) {
+
+        public static Registration now(String analysisId) {
+            return new Registration(analysisId, Instant.ofEpochMilli(System.currentTimeMillis()));
+        }
+
+        String encode() {
+            return analysisId + SEPARATOR + registeredAt.toEpochMilli();
+        }
+
+        static Registration parse(String value) {
+            if (value == null) {
+                return null;
+            }
+            int separator = value.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                return new Registration(value, Instant.EPOCH);
+            }
+            return new Registration(value.substring(0, separator),
+                    Instant.ofEpochMilli(Long.parseLong(value.substring(separator + 1))));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.stock.stockserver.domain.repository;
+
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/**
+ * 분석 요청 처리 원장 (analysisId 기준 멱등성).
+ *
+ * analysisLease::{id}    : 실행 중인 consumer의 lease (값 = 소유자 토큰, 실행 중 주기적으로 갱신)
+ * analysisProcessed::{id}: 처리 완료 표시. 이후 같은 요청이 재전달되면 실행하지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalysisExecutionLedger {
+
+    private static final String LEASE_PREFIX = "analysisLease::";
+    private static final String PROCESSED_PREFIX = "analysisProcessed::";
+    private static final Duration PROCESSED_TTL = Duration.ofHours(24);
+
+    private final RedisRepository redisRepository;
+
+    public boolean tryAcquire(String analysisId, String owner, Duration leaseTtl) {
+        return redisRepository.setIfAbsent(LEASE_PREFIX + analysisId, owner, leaseTtl);
+    }
+
+    /**
+     * 아직 lease 소유자일 때만 만료 시간을 연장한다.
+     */
+    public boolean renew(String analysisId, String owner, Duration leaseTtl) {
+        return redisRepository.compareAndExpire(LEASE_PREFIX + analysisId, owner, leaseTtl);
+    }
+
+    public void release(String analysisId, String owner) {
+        redisRepository.compareAndDelete(LEASE_PREFIX + analysisId, owner);
+    }
+
+    public void markProcessed(String analysisId) {
+        redisRepository.set(PROCESSED_PREFIX + analysisId, "1", PROCESSED_TTL);
+    }
+
+    public boolean isProcessed(String analysisId) {
+        return redisRepository.hasKey(PROCESSED_PREFIX + analysisId);
+    }
+}
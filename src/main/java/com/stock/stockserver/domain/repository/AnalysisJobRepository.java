@@ -2,11 +2,38 @@ package com.stock.stockserver.domain.repository;
 
 import com.stock.stockserver.domain.entity.AnalysisJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
 public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, String> {
 
+    /**
+     * 단계별 소요 시간만 기록한다. 행은 만들지 않는다. (write-behind 모드에서는 flush 가 timeline 을 함께 기록)
+     *
+     * @return 갱신된 행 수 (작업 행이 없으면 0)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE analysis_jobs SET timeline = :timeline WHERE analysis_id = :analysisId", nativeQuery = true)
+    int saveTimeline(@Param("analysisId") String analysisId, @Param("timeline") String timeline);
+
+    @Query(value = "SELECT timeline FROM analysis_jobs WHERE analysis_id = :analysisId", nativeQuery = true)
+    String findTimeline(@Param("analysisId") String analysisId);
+
+    /**
+     * 최근 생성된 작업 limit 건의 단계별 소요 시간 (기록이 없는 작업 제외)
+     */
+    @Query(value = """
+            SELECT timeline FROM analysis_jobs
+            WHERE timeline IS NOT NULL
+            ORDER BY created_at DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findRecentTimelines(@Param("limit") int limit);
 }
@@ -2,63 +2,210 @@ package com.stock.stockserver.domain.repository;
 
 import com.stock.stockserver.domain.AnalysisStatus;
 import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
 import com.stock.stockserver.infrastructure.persistence.RedisRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stock.stockserver.domain.AnalysisStatus.*;
 
+/**
+ * 분석 작업 상태 저장소.
+ *
+ * 작업 1건은 Redis 해시 하나(analysisJobState::{id})에 상태, 오류, 진행률, 시각을 함께 담아
+ * 조회를 HGETALL 1회로 끝낸다. 여러 작업은 파이프라인으로 한 번에 조회한다.
+ */
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class AnalysisJobStore {
 
-    private static final String KEY_PREFIX = "analysisJob::";
-    private static final String ERROR_SUFFIX = ":error";
+    private static final String KEY_PREFIX = "analysisJobState::";
+    private static final String DIRTY_KEY = "analysisJob:dirty";
+    private static final String DIRTY_SEQUENCE_KEY = "analysisJob:dirtySeq";
+    private static final String COMPLETED_STOCKS_PREFIX = "analysisJobCompleted::";
+    private static final String SETTLED_STOCKS_PREFIX = "analysisJobSettled::";
+    private static final String FINISHED_PREFIX = "analysisJobFinished::";
+    private static final String DEADLINES_KEY = "analysisJob:deadlines";
     private static final Duration TTL = Duration.ofHours(24);
 
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_ERROR = "error";
+    private static final String FIELD_TIMELINE = "timeline";
+    private static final String FIELD_COMPLETED = "completed";
+    private static final String FIELD_TOTAL = "total";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
     private final RedisRepository redisRepository;
     private final AnalysisJobRepository analysisJobRepository;
 
+    /**
+     * true 이면 상태 변경을 Redis에만 기록하고 dirty 집합에 표시한다.
+     * DB 반영은 AnalysisJobFlushService가 모아서 처리한다.
+     */
+    @Value("${analysis.job-store.write-behind:false}")
+    private boolean writeBehind;
+
     public void save(AnalysisJob job) {
-        String key = KEY_PREFIX + job.getAnalysisId();
+        cache(job);
 
-        redisRepository.set(key, job.getStatus().name(), TTL);
+        if (writeBehind) {
+            redisRepository.zAddNextSequence(DIRTY_KEY, DIRTY_SEQUENCE_KEY, job.getAnalysisId());
+        } else {
+            analysisJobRepository.save(job);
+        }
+
+        log.info("AnalysisJob 저장 완료: analysisId={}, status={}", job.getAnalysisId(), job.getStatus());
+    }
+
+    /**
+     * Redis 해시만 갱신한다. 작업 행을 호출자가 직접(다른 행과 같은 트랜잭션으로) 기록한 경우 커밋 후에 호출한다.
+     */
+    public void cache(AnalysisJob job) {
+        String now = Instant.now().toString();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_STATUS, job.getStatus().name());
+        fields.put(FIELD_UPDATED_AT, now);
+        // 재시도/DLT 재처리로 FAILED → RUNNING → DONE 이 되면 이전 오류가 조회와 flush 에 남지 않도록 지운다
+        List<String> cleared = List.of();
         if (job.getErrorMessage() != null) {
-            redisRepository.set(key + ERROR_SUFFIX, job.getErrorMessage(), TTL);
+            fields.put(FIELD_ERROR, job.getErrorMessage());
+        } else {
+            cleared = List.of(FIELD_ERROR);
+        }
+        redisRepository.hPutAll(key(job.getAnalysisId()), fields, Map.of(FIELD_CREATED_AT, now), cleared, TTL);
+    }
+
+    /**
+     * 작업 종료 시 단계별 소요 시간(JSON)을 기록한다.
+     *
+     * write-behind 모드에서는 작업 행이 아직 flush 되지 않았을 수 있으므로 해시에 담아 다음 flush 가
+     * 상태/오류와 같은 행으로 기록하게 한다. 여기서 행을 먼저 만들면 flush 의 시각 비교에 밀려 상태와 오류가 반영되지 않는다.
+     */
+    public void saveTimeline(String analysisId, String timelineJson) {
+        if (writeBehind) {
+            redisRepository.hPutAll(key(analysisId), Map.of(FIELD_TIMELINE, timelineJson), Map.of(), TTL);
+            redisRepository.zAddNextSequence(DIRTY_KEY, DIRTY_SEQUENCE_KEY, analysisId);
+            return;
         }
 
-        analysisJobRepository.save(job);
+        if (analysisJobRepository.saveTimeline(analysisId, timelineJson) == 0) {
+            log.warn("단계별 소요 시간 저장 대상 작업 행이 없습니다: analysisId={}", analysisId);
+        }
+    }
 
-        log.info("AnalysisJob 저장 완료: analysisId={}, status={}", job.getAnalysisId(), job.getStatus());
+    /**
+     * 분석 대상 종목 수와 이미 완료된 종목 수(재처리 시)로 진행률을 초기화한다.
+     */
+    public void startProgress(String analysisId, int total, int completed) {
+        redisRepository.hPutAll(key(analysisId),
+                Map.of(FIELD_TOTAL, String.valueOf(total), FIELD_COMPLETED, String.valueOf(completed)),
+                Map.of(), TTL);
     }
 
-    public AnalysisJob get(String analysisId) {
-        String key = KEY_PREFIX + analysisId;
+    /**
+     * 종목 분석 결과가 DB에 저장된 뒤 호출하는 체크포인트.
+     */
+    public void markStockCompleted(String analysisId, String stockCode) {
+        redisRepository.sAdd(COMPLETED_STOCKS_PREFIX + analysisId, stockCode, TTL);
+    }
 
-        String statusStr = redisRepository.get(key);
+    public Set<String> getCompletedStocks(String analysisId) {
+        return redisRepository.sMembers(COMPLETED_STOCKS_PREFIX + analysisId);
+    }
 
-        if (statusStr == null) {
+    /**
+     * fan-out 작업 항목 1건의 처리가 끝났음을 기록한다. (성공/실패 무관)
+     * 같은 종목 항목이 재전달되어도 진행률이 두 번 오르지 않도록, 처음 기록한 경우에만 true를 반환한다.
+     */
+    public boolean markStockSettled(String analysisId, String stockCode) {
+        return redisRepository.sAdd(SETTLED_STOCKS_PREFIX + analysisId, stockCode, TTL);
+    }
+
+    /**
+     * 작업 항목을 다시 배포하기 전에 호출한다. (이전 배포에서 실패로 끝난 종목도 다시 집계되도록)
+     * 이미 결과가 저장된 종목은 집계된 것으로 두어, 집합 크기가 전체 종목 수에 도달하면 작업이 끝난 것으로 본다.
+     */
+    public void resetSettledStocks(String analysisId, Collection<String> completedStockCodes) {
+        redisRepository.sReplace(SETTLED_STOCKS_PREFIX + analysisId, completedStockCodes, TTL);
+        redisRepository.delete(FINISHED_PREFIX + analysisId);
+    }
+
+    /**
+     * 집계된 종목 수 (SCARD). 진행률 카운터와 달리 재전달/재배포/카운터 갱신 실패에 영향을 받지 않는다.
+     */
+    public long countSettledStocks(String analysisId) {
+        return redisRepository.sCard(SETTLED_STOCKS_PREFIX + analysisId);
+    }
+
+    /**
+     * fan-out 작업 마무리(DONE/FAILED 기록)를 가져간다. 여러 노드가 동시에 마지막 종목을 집계해도 한 노드만 true.
+     */
+    public boolean claimFinish(String analysisId) {
+        return redisRepository.setIfAbsent(FINISHED_PREFIX + analysisId, "1", TTL);
+    }
+
+    /**
+     * fan-out 작업의 마감 시각을 기록한다. 마감이 지나도 끝나지 않은 작업은 AnalysisDeadlineSweeper 가 정리한다.
+     */
+    public void trackDeadline(String analysisId, Instant expiresAt) {
+        redisRepository.zAdd(DEADLINES_KEY, analysisId, expiresAt.toEpochMilli());
+    }
+
+    public Set<String> getExpiredJobIds(long cutoff) {
+        return redisRepository.zRangeByScore(DEADLINES_KEY, 0, cutoff);
+    }
+
+    /**
+     * @return 이번 호출에서 제거했으면 true (여러 노드의 sweeper 중 한 노드만 true)
+     */
+    public boolean untrackDeadline(String analysisId) {
+        return redisRepository.zRemove(DEADLINES_KEY, analysisId);
+    }
+
+    /**
+     * 종목 1개 분석 종료(성공/실패 무관) 시 호출한다.
+     */
+    public long incrementProgress(String analysisId) {
+        Long completed = redisRepository.hIncrBy(key(analysisId), FIELD_COMPLETED, 1);
+        return completed != null ? completed : 0;
+    }
+
+    public Integer getProgressTotal(String analysisId) {
+        return parseInt(redisRepository.hGet(key(analysisId), FIELD_TOTAL));
+    }
+
+    public AnalysisJob get(String analysisId) {
+        Map<String, String> hash = redisRepository.hGetAll(key(analysisId));
+
+        if (hash == null || hash.get(FIELD_STATUS) == null) {
             return analysisJobRepository.findById(analysisId).orElse(null);
         }
 
-        AnalysisStatus status = valueOf(statusStr);
-        String errorMessage = redisRepository.get(key + ERROR_SUFFIX);
-
-        return AnalysisJob.builder()
-                .analysisId(analysisId)
-                .status(status)
-                .errorMessage(errorMessage)
-                .build();
+        return toJob(analysisId, hash);
     }
 
     public AnalysisStatus getStatus(String analysisId) {
-        String key = KEY_PREFIX + analysisId;
-
-        String statusStr = redisRepository.get(key);
+        String statusStr = redisRepository.hGet(key(analysisId), FIELD_STATUS);
 
         if (statusStr == null) {
             return analysisJobRepository.findById(analysisId)
@@ -68,4 +215,121 @@ public class AnalysisJobStore {
 
         return valueOf(statusStr);
     }
+
+    /**
+     * 여러 작업의 상태/진행률을 한 번에 조회한다. (Redis 파이프라인 1회 + 누락분 DB 조회 1회)
+     * 존재하지 않는 작업은 결과에서 제외된다.
+     */
+    public List<AnalysisJobStatusDto> getStatuses(List<String> analysisIds) {
+        List<String> ids = analysisIds.stream().distinct().toList();
+        List<Map<String, String>> hashes = redisRepository.hGetAllPipelined(ids.stream().map(this::key).toList());
+
+        Map<String, AnalysisJobStatusDto> found = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Map<String, String> hash = hashes.get(i);
+            if (hash == null || hash.get(FIELD_STATUS) == null) {
+                misses.add(ids.get(i));
+                continue;
+            }
+            found.put(ids.get(i), toStatusDto(ids.get(i), hash));
+        }
+
+        Map<String, AnalysisJobStatusDto> fromDb = misses.isEmpty() ? Map.of()
+                : analysisJobRepository.findAllById(misses).stream()
+                .map(this::toStatusDto)
+                .collect(Collectors.toMap(AnalysisJobStatusDto::analysisId, Function.identity()));
+
+        return ids.stream()
+                .map(id -> found.containsKey(id) ? found.get(id) : fromDb.get(id))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public boolean isWriteBehind() {
+        return writeBehind;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 작업 ID → 변경 시퀀스. 시퀀스는 {@link #clearDirty} 에 그대로 넘긴다.
+     */
+    public Map<String, Double> getDirtyJobs() {
+        return redisRepository.zRangeWithScores(DIRTY_KEY);
+    }
+
+    /**
+     * Redis에 남아 있는 작업 상태를 한 번에 조회한다. (TTL 만료된 작업은 제외)
+     */
+    public List<AnalysisJob> getCachedJobs(Collection<String> analysisIds) {
+        List<String> ids = new ArrayList<>(analysisIds);
+        List<Map<String, String>> hashes = redisRepository.hGetAllPipelined(ids.stream().map(this::key).toList());
+
+        List<AnalysisJob> jobs = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Map<String, String> hash = hashes.get(i);
+            if (hash == null || hash.get(FIELD_STATUS) == null) {
+                log.warn("flush 대상 작업 상태가 Redis에 없습니다: analysisId={}", ids.get(i));
+                continue;
+            }
+            jobs.add(toJob(ids.get(i), hash));
+        }
+        return jobs;
+    }
+
+    /**
+     * flush 한 작업을 dirty 집합에서 지운다. 읽은 뒤 다시 변경된 작업은 시퀀스가 바뀌어 있으므로 다음 flush 대상으로 남는다.
+     */
+    public void clearDirty(Map<String, Double> flushed) {
+        redisRepository.zRemoveIfScoreUnchanged(DIRTY_KEY, flushed);
+    }
+
+    private String key(String analysisId) {
+        return KEY_PREFIX + analysisId;
+    }
+
+    private AnalysisJob toJob(String analysisId, Map<String, String> hash) {
+        return AnalysisJob.cached(
+                analysisId,
+                valueOf(hash.get(FIELD_STATUS)),
+                hash.get(FIELD_ERROR),
+                hash.get(FIELD_TIMELINE),
+                toLocalDateTime(parseInstant(hash.get(FIELD_CREATED_AT))),
+                toLocalDateTime(parseInstant(hash.get(FIELD_UPDATED_AT))));
+    }
+
+    private AnalysisJobStatusDto toStatusDto(String analysisId, Map<String, String> hash) {
+        return new AnalysisJobStatusDto(
+                analysisId,
+                valueOf(hash.get(FIELD_STATUS)),
+                hash.get(FIELD_ERROR),
+                parseInt(hash.get(FIELD_COMPLETED)),
+                parseInt(hash.get(FIELD_TOTAL)),
+                parseInstant(hash.get(FIELD_CREATED_AT)),
+                parseInstant(hash.get(FIELD_UPDATED_AT))
+        );
+    }
+
+    private AnalysisJobStatusDto toStatusDto(AnalysisJob job) {
+        return new AnalysisJobStatusDto(
+                job.getAnalysisId(),
+                job.getStatus(),
+                job.getErrorMessage(),
+                null,
+                null,
+                job.getCreatedAt() != null ? job.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant() : null,
+                job.getUpdatedAt() != null ? job.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant() : null
+        );
+    }
+
+    private Integer parseInt(String value) {
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    private Instant parseInstant(String value) {
+        return value != null ? Instant.parse(value) : null;
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
 }
@@ -0,0 +1,43 @@
+package com.stock.stockserver.domain.repository;
+
+import com.stock.stockserver.domain.entity.AnalysisOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface AnalysisOutboxRepository extends JpaRepository<AnalysisOutboxEvent, Long> {
+
+    /**
+     * 기록 순서대로 limit 건 잠근다. 다른 relay가 잠근 행과 claim 이 아직 유효한 행은 건너뛴다. (SKIP LOCKED)
+     * 잠금은 claim 을 기록하는 짧은 트랜잭션 동안만 유지된다.
+     */
+    @Query(value = """
+            SELECT * FROM analysis_outbox
+            WHERE claimed_until IS NULL OR claimed_until < :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<AnalysisOutboxEvent> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 전송을 마친 행을 지운다. claim 이 만료되어 다른 relay가 가져간 행은 그대로 둔다.
+     */
+    @Modifying
+    @Query("DELETE FROM AnalysisOutboxEvent e WHERE e.id IN :ids AND e.claimedBy = :owner")
+    int deleteClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+    /**
+     * 전송에 실패한 행의 claim 을 풀어 다음 주기에 바로 다시 가져가게 한다.
+     */
+    @Modifying
+    @Query("UPDATE AnalysisOutboxEvent e SET e.claimedBy = null, e.claimedUntil = null WHERE e.id IN :ids AND e.claimedBy = :owner")
+    int releaseClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+}
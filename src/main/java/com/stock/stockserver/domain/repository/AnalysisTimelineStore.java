@@ -0,0 +1,80 @@
+package com.stock.stockserver.domain.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisTimeline.StageTiming;
+import com.stock.stockserver.dto.AnalysisTimelineDto;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 분석 작업 단계별 소요 시간 저장소.
+ *
+ * analysisJobTimeline::{id} : 진행 중 작업의 단계 기록 (Redis 리스트, 단계가 끝날 때마다 RPUSH)
+ *                             fan-out 모드에서는 여러 노드가 같은 리스트에 기록한다.
+ * analysis_jobs.timeline    : 작업 종료 시 정리한 AnalysisTimelineDto (JSON)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisTimelineStore {
+
+    private static final String KEY_PREFIX = "analysisJobTimeline::";
+    private static final Duration TTL = Duration.ofHours(24);
+
+    private final RedisRepository redisRepository;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisJobStore analysisJobStore;
+    private final ObjectMapper objectMapper;
+
+    public void append(String analysisId, StageTiming timing) {
+        try {
+            redisRepository.rPush(KEY_PREFIX + analysisId, objectMapper.writeValueAsString(timing), TTL);
+        } catch (Exception e) {
+            // 기록 실패가 분석을 멈추게 하지 않는다
+            log.warn("단계 기록 실패: analysisId={}, stage={}, error={}", analysisId, timing.stage(), e.getMessage());
+        }
+    }
+
+    public List<StageTiming> getStages(String analysisId) {
+        List<String> entries = redisRepository.lRange(KEY_PREFIX + analysisId, 0, -1);
+        if (entries == null) {
+            return List.of();
+        }
+        return entries.stream()
+                .map(entry -> read(entry, StageTiming.class))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public void save(AnalysisTimelineDto timeline) throws JsonProcessingException {
+        analysisJobStore.saveTimeline(timeline.analysisId(), objectMapper.writeValueAsString(timeline));
+    }
+
+    public AnalysisTimelineDto find(String analysisId) {
+        String json = analysisJobRepository.findTimeline(analysisId);
+        return json != null ? read(json, AnalysisTimelineDto.class) : null;
+    }
+
+    public List<AnalysisTimelineDto> findRecent(int limit) {
+        return analysisJobRepository.findRecentTimelines(limit).stream()
+                .map(json -> read(json, AnalysisTimelineDto.class))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("단계 기록 역직렬화 실패: type={}, error={}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -2,14 +2,52 @@ package com.stock.stockserver.domain.repository;
 
 import com.stock.stockserver.domain.entity.FailedAnalysisRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface FailedAnalysisRequestRepository extends JpaRepository<FailedAnalysisRequest, Long> {
     
-    List<FailedAnalysisRequest> findByProcessedFalseOrderByFailedAtAsc();
-    
+    /**
+     * 미처리 실패 요청을 오래된 순으로 limit 건 잠근다. 다른 노드가 잠근 행과 claim 이 아직 유효한 행은 건너뛰므로
+     * (SKIP LOCKED) 여러 인스턴스가 동시에 스캔해도 같은 행을 나눠 갖지 않는다.
+     * 잠금은 claim 을 기록하는 짧은 트랜잭션 동안만 유지된다.
+     */
+    @Query(value = """
+            SELECT * FROM failed_analysis_requests
+            WHERE processed = false
+              AND (claimed_until IS NULL OR claimed_until < :now)
+            ORDER BY failed_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<FailedAnalysisRequest> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 재전송 ack 를 받은 행을 처리 완료로 바꾼다. claim 이 만료되어 다른 노드가 가져간 행은 그대로 둔다.
+     */
+    @Modifying
+    @Query("""
+            UPDATE FailedAnalysisRequest r
+            SET r.processed = true, r.processedAt = :now, r.retryCount = r.retryCount + 1,
+                r.claimedBy = null, r.claimedUntil = null
+            WHERE r.id IN :ids AND r.claimedBy = :owner
+            """)
+    int markRetried(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    /**
+     * 재전송에 실패한 행의 claim 을 풀어 다음 주기에 다시 가져가게 한다.
+     */
+    @Modifying
+    @Query("UPDATE FailedAnalysisRequest r SET r.claimedBy = null, r.claimedUntil = null WHERE r.id IN :ids AND r.claimedBy = :owner")
+    int releaseClaimed(@Param("ids") Collection<Long> ids, @Param("owner") String owner);
+
+
     List<FailedAnalysisRequest> findByAnalysisId(String analysisId);
 }
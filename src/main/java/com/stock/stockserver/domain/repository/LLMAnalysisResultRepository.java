@@ -1,7 +1,11 @@
 package com.stock.stockserver.domain.repository;
 
 import com.stock.stockserver.domain.entity.LLMAnalysisResult;
+import com.stock.stockserver.dto.AnalysisResultSummaryDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
@@ -13,7 +17,39 @@ public interface LLMAnalysisResultRepository extends JpaRepository<LLMAnalysisRe
 
     List<LLMAnalysisResult> findTop10ByAnalysisDateOrderByCreatedAtDesc(LocalDate analysisDate);
 
-    List<LLMAnalysisResult> findTop20ByAnalysisDateOrderByCreatedAtDesc(LocalDate analysisDate);
+    Optional<LLMAnalysisResult> findFirstByAnalysisIdAndStockCode(String analysisId, String stockCode);
 
-    List<LLMAnalysisResult> findByAnalysisIdOrderByCreatedAtDesc(String analysisId);
+    /**
+     * 작업별 저장 완료 종목 (체크포인트 유실 시 fallback)
+     */
+    @Query("select r.stockCode from LLMAnalysisResult r where r.analysisId = :analysisId")
+    List<String> findStockCodesByAnalysisId(@Param("analysisId") String analysisId);
+
+    /**
+     * 날짜별 요약 목록 (id 역순 keyset, idx_analysis_date_id_summary 커버링)
+     */
+    @Query("""
+            select new com.stock.stockserver.dto.AnalysisResultSummaryDto(
+                r.id, r.target, r.stockCode, r.stockName, r.analysisDate, r.recommendation, r.confidence)
+            from LLMAnalysisResult r
+            where r.analysisDate = :analysisDate and r.id < :cursor
+            order by r.id desc
+            """)
+    List<AnalysisResultSummaryDto> findSummariesByAnalysisDate(@Param("analysisDate") LocalDate analysisDate,
+                                                               @Param("cursor") Long cursor,
+                                                               Pageable pageable);
+
+    /**
+     * 분석 작업별 요약 목록 (id 역순 keyset, idx_analysis_id_id_summary 커버링)
+     */
+    @Query("""
+            select new com.stock.stockserver.dto.AnalysisResultSummaryDto(
+                r.id, r.target, r.stockCode, r.stockName, r.analysisDate, r.recommendation, r.confidence)
+            from LLMAnalysisResult r
+            where r.analysisId = :analysisId and r.id < :cursor
+            order by r.id desc
+            """)
+    List<AnalysisResultSummaryDto> findSummariesByAnalysisId(@Param("analysisId") String analysisId,
+                                                             @Param("cursor") Long cursor,
+                                                             Pageable pageable);
 }
@@ -0,0 +1,22 @@
+package com.stock.stockserver.dto;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+
+import java.time.Instant;
+
+/**
+ * 작업 상태 + 진행률 (Redis 해시 1건 또는 DB fallback)
+ *
+ * @param completed 분석이 끝난 종목 수 (진행률 정보가 없으면 null)
+ * @param total     분석 대상 종목 수 (진행률 정보가 없으면 null)
+ */
+public record AnalysisJobStatusDto(
+        String analysisId,
+        AnalysisStatus status,
+        String errorMessage,
+        Integer completed,
+        Integer total,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
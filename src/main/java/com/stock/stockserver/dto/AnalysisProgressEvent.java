@@ -0,0 +1,67 @@
+package com.stock.stockserver.dto;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.RecommendationStatus;
+
+/**
+ * 분석 진행 이벤트 (Redis pub/sub → SSE)
+ *
+ * PROGRESS: 진행률 변경 (종목 실패 포함), RESULT: 종목 1개 분석 완료, DONE/FAILED: 작업 종료
+ */
+public record AnalysisProgressEvent(
+        String analysisId,
+        Type type,
+        AnalysisStatus status,
+        Integer completed,
+        Integer total,
+        String stockCode,
+        String stockName,
+        RecommendationStatus recommendation,
+        Double confidence,
+        String summary,
+        String errorMessage
+) {
+    public enum Type {
+        PROGRESS, RESULT, DONE, FAILED;
+
+        public boolean isTerminal() {
+            return this == DONE || this == FAILED;
+        }
+    }
+
+    public static AnalysisProgressEvent progress(String analysisId, int completed, int total) {
+        return new AnalysisProgressEvent(analysisId, Type.PROGRESS, AnalysisStatus.RUNNING,
+                completed, total, null, null, null, null, null, null);
+    }
+
+    public static AnalysisProgressEvent result(String analysisId, int completed, int total,
+                                               String stockCode, String stockName,
+                                               LLMAnalysisResponseDto response) {
+        return new AnalysisProgressEvent(analysisId, Type.RESULT, AnalysisStatus.RUNNING,
+                completed, total, stockCode, stockName,
+                response.recommendation(), response.confidence(), response.summary(), null);
+    }
+
+    public static AnalysisProgressEvent done(String analysisId) {
+        return new AnalysisProgressEvent(analysisId, Type.DONE, AnalysisStatus.DONE,
+                null, null, null, null, null, null, null, null);
+    }
+
+    public static AnalysisProgressEvent failed(String analysisId, String errorMessage) {
+        return new AnalysisProgressEvent(analysisId, Type.FAILED, AnalysisStatus.FAILED,
+                null, null, null, null, null, null, null, errorMessage);
+    }
+
+    /**
+     * 구독 시점의 작업 상태를 첫 이벤트로 보낸다. (구독 전에 끝난 작업도 바로 종료 상태를 받도록)
+     */
+    public static AnalysisProgressEvent snapshot(AnalysisJobStatusDto status) {
+        Type type = switch (status.status()) {
+            case DONE -> Type.DONE;
+            case FAILED -> Type.FAILED;
+            default -> Type.PROGRESS;
+        };
+        return new AnalysisProgressEvent(status.analysisId(), type, status.status(),
+                status.completed(), status.total(), null, null, null, null, null, status.errorMessage());
+    }
+}
@@ -0,0 +1,12 @@
+package com.stock.stockserver.dto;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 페이지 요청 시 cursor 로 전달할 값 (마지막 페이지면 null)
+ */
+public record AnalysisResultPageDto(
+        List<AnalysisResultSummaryDto> items,
+        Long nextCursor
+) {
+}
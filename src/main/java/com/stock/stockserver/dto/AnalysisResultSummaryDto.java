@@ -0,0 +1,20 @@
+package com.stock.stockserver.dto;
+
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.RecommendationStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 결과 목록용 요약 (llmAnalysis 본문 제외, 커버링 인덱스만으로 조회)
+ */
+public record AnalysisResultSummaryDto(
+        Long id,
+        AnalysisTarget target,
+        String stockCode,
+        String stockName,
+        LocalDate analysisDate,
+        RecommendationStatus recommendation,
+        Double confidence
+) {
+}
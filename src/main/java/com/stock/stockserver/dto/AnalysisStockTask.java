@@ -0,0 +1,69 @@
+package com.stock.stockserver.dto;
+
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.DailyPriceSeries;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * fan-out 모드의 종목 단위 작업 항목 (analysis-stock-tasks 토픽, key = stockCode)
+ *
+ * 수집한 종목 데이터와 작업 마감 시각을 함께 담아, 어느 노드에서 받더라도 KIS 재조회 없이 바로 분석한다.
+ * 일봉은 {@link DailyPriceSeries#encode()} 압축본을 그대로 싣는다.
+ */
+public record AnalysisStockTask(
+        String analysisId,
+        int total,
+        Instant deadline,
+        AnalysisTarget target,
+        String exchangeCode,
+        String stockCode,
+        String stockName,
+        BigDecimal currentPrice,
+        BigDecimal changePercent,
+        Long tradingVolume,
+        Long tradingAmount,
+        BigDecimal priceHigh52Week,
+        BigDecimal priceLow52Week,
+        LocalDate analysisDate,
+        byte[] dailyPrices
+) {
+    public static AnalysisStockTask of(String analysisId, int total, Instant deadline, StockDataDto stockData) {
+        return new AnalysisStockTask(
+                analysisId,
+                total,
+                deadline,
+                stockData.target(),
+                stockData.exchangeCode(),
+                stockData.stockCode(),
+                stockData.stockName(),
+                stockData.currentPrice(),
+                stockData.changePercent(),
+                stockData.tradingVolume(),
+                stockData.tradingAmount(),
+                stockData.priceHigh52Week(),
+                stockData.priceLow52Week(),
+                stockData.analysisDate(),
+                stockData.dailyPrices() != null ? stockData.dailyPrices().encode() : null
+        );
+    }
+
+    public StockDataDto toStockData() {
+        return StockDataDto.builder()
+                .target(target)
+                .exchangeCode(exchangeCode)
+                .stockCode(stockCode)
+                .stockName(stockName)
+                .currentPrice(currentPrice)
+                .changePercent(changePercent)
+                .tradingVolume(tradingVolume)
+                .tradingAmount(tradingAmount)
+                .priceHigh52Week(priceHigh52Week)
+                .priceLow52Week(priceLow52Week)
+                .analysisDate(analysisDate)
+                .dailyPrices(DailyPriceSeries.decode(dailyPrices))
+                .build();
+    }
+}
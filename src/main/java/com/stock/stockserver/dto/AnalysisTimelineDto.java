@@ -0,0 +1,27 @@
+package com.stock.stockserver.dto;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTimeline.StageTiming;
+
+import java.util.List;
+
+/**
+ * 분석 작업 1건의 단계별 소요 시간
+ *
+ * @param totalMs      요청 시각(큐 대기 시작)부터 작업 종료까지. 진행 중이면 지금까지 걸린 시간
+ * @param criticalPath 단계별로 작업 시간을 결정한 구간. 병렬 단계(종목별 수집/LLM/저장)는 가장 느린 종목
+ */
+public record AnalysisTimelineDto(
+        String analysisId,
+        AnalysisStatus status,
+        long totalMs,
+        List<StageTiming> stages,
+        List<CriticalStage> criticalPath
+) {
+
+    /**
+     * @param subject 병렬 단계면 가장 느린 종목 코드, 순차 단계면 null
+     */
+    public record CriticalStage(String stage, String subject, long durationMs) {
+    }
+}
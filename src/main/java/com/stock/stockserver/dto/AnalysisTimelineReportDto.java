@@ -0,0 +1,41 @@
+package com.stock.stockserver.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최근 작업들의 단계별 소요 시간 분포
+ *
+ * @param criticalPath 작업별 critical path 구간 시간의 분포 (단계 이름 기준)
+ * @param stages       단계 기록 1건 단위 분포 (예: 종목 1개 LLM 호출 1회)
+ * @param slowest      전체 소요 시간이 가장 긴 작업들
+ */
+public record AnalysisTimelineReportDto(
+        int jobs,
+        Percentiles totalMs,
+        Map<String, Percentiles> criticalPath,
+        Map<String, Percentiles> stages,
+        List<SlowJob> slowest
+) {
+
+    public record Percentiles(int count, long p50, long p90, long p99, long max) {
+
+        public static Percentiles of(long[] sortedMillis) {
+            if (sortedMillis.length == 0) {
+                return new Percentiles(0, 0, 0, 0, 0);
+            }
+            return new Percentiles(sortedMillis.length,
+                    at(sortedMillis, 0.50), at(sortedMillis, 0.90), at(sortedMillis, 0.99),
+                    sortedMillis[sortedMillis.length - 1]);
+        }
+
+        // nearest-rank
+        private static long at(long[] sorted, double quantile) {
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+
+    public record SlowJob(String analysisId, long totalMs, List<AnalysisTimelineDto.CriticalStage> criticalPath) {
+    }
+}
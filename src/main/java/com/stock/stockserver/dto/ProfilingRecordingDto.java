@@ -0,0 +1,21 @@
+package com.stock.stockserver.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 수동으로 시작한 JFR 기록 상태
+ *
+ * @param state       NEW / DELAYED / RUNNING / STOPPED / CLOSED (jdk.jfr.RecordingState)
+ * @param duration    이 시간이 지나면 스스로 멈춘다
+ * @param maxSizeBytes 디스크 보관 최대 크기
+ */
+public record ProfilingRecordingDto(
+        String name,
+        String state,
+        String settings,
+        Instant startedAt,
+        Duration duration,
+        long maxSizeBytes
+) {
+}
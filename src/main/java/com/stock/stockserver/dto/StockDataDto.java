@@ -1,6 +1,7 @@
 package com.stock.stockserver.dto;
 
 import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.DailyPriceSeries;
 import lombok.Builder;
 
 import java.math.BigDecimal;
@@ -19,6 +20,6 @@ public record StockDataDto(
         BigDecimal priceHigh52Week,
         BigDecimal priceLow52Week,
         LocalDate analysisDate,
-        String dailyPricesJson
+        DailyPriceSeries dailyPrices
 ) {
 }
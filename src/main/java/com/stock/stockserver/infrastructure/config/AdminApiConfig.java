@@ -0,0 +1,23 @@
+package com.stock.stockserver.infrastructure.config;
+
+import com.stock.stockserver.presentation.AdminTokenInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 운영자 API(/api/admin/**)는 admin.api-token 으로 보호한다. (토큰이 비어 있으면 전부 403)
+ */
+@Configuration
+public class AdminApiConfig implements WebMvcConfigurer {
+
+    @Value("${admin.api-token:}")
+    private String adminApiToken;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AdminTokenInterceptor(adminApiToken))
+                .addPathPatterns("/api/admin/**");
+    }
+}
@@ -0,0 +1,60 @@
+package com.stock.stockserver.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 요청/종목 작업 항목 재시도 정책. (analysis.retry.*)
+ *
+ * Kafka 재시도 토픽, Redis Stream 재시도 대기열, in-memory 재시도 스케줄러가 모두 이 값을 쓴다.
+ * attempts 는 첫 실행을 포함한 총 실행 횟수이고, n번째 재시도 지연은 initialDelayMs * multiplier^(n-1) 을 maxDelayMs 에서 자른 값이다.
+ */
+@Component
+public class AnalysisRetryPolicy {
+
+    private final int attempts;
+    private final long initialDelayMs;
+    private final double multiplier;
+    private final long maxDelayMs;
+
+    public AnalysisRetryPolicy(@Value("${analysis.retry.attempts:4}") int attempts,
+                               @Value("${analysis.retry.initial-delay-ms:30000}") long initialDelayMs,
+                               @Value("${analysis.retry.multiplier:10.0}") double multiplier,
+                               @Value("${analysis.retry.max-delay-ms:1800000}") long maxDelayMs) {
+        this.attempts = attempts;
+        this.initialDelayMs = initialDelayMs;
+        this.multiplier = multiplier;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    public long initialDelayMs() {
+        return initialDelayMs;
+    }
+
+    public double multiplier() {
+        return multiplier;
+    }
+
+    public long maxDelayMs() {
+        return maxDelayMs;
+    }
+
+    /**
+     * @param attempt 재시도 회차 (1부터)
+     */
+    public long delayMs(int attempt) {
+        double delay = initialDelayMs * Math.pow(multiplier, attempt - 1);
+        return (long) Math.min(delay, maxDelayMs);
+    }
+
+    /**
+     * 이번이 attempt 번째 실행(0부터)일 때 실패하면 더 재시도할 수 있는지.
+     */
+    public boolean canRetry(int attempt) {
+        return attempt + 1 < attempts;
+    }
+}
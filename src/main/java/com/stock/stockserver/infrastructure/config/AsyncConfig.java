@@ -1,6 +1,7 @@
 package com.stock.stockserver.infrastructure.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -11,8 +12,21 @@ import java.util.concurrent.Executor;
 @Slf4j
 public class AsyncConfig {
 
+    private static final String VIRTUAL_MODE = "virtual";
+
+    /**
+     * platform: 기존 ThreadPoolTaskExecutor (core 10 / max 50)
+     * virtual: 작업당 가상 스레드 + Semaphore로 동시 실행 수 제한
+     */
+    @Value("${async.executor.mode:platform}")
+    private String executorMode;
+
     @Bean(name = "kisApiExecutor")
-    public Executor kisApiExecutor() {
+    public Executor kisApiExecutor(@Value("${async.kis.max-concurrency:200}") int maxConcurrency) {
+        if (isVirtualMode()) {
+            return virtualThreadExecutor("KIS-API-", maxConcurrency);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
@@ -20,13 +34,17 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("KIS-API-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
-        log.info("KIS API Executor initialized with core: {}, max: {}", 
+        log.info("KIS API Executor initialized with core: {}, max: {}",
                 executor.getCorePoolSize(), executor.getMaxPoolSize());
         return executor;
     }
 
     @Bean(name = "llmApiExecutor")
-    public Executor llmApiExecutor() {
+    public Executor llmApiExecutor(@Value("${async.llm.max-concurrency:200}") int maxConcurrency) {
+        if (isVirtualMode()) {
+            return virtualThreadExecutor("LLM-API-", maxConcurrency);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(50);
@@ -34,8 +52,19 @@ public class AsyncConfig {
         executor.setThreadNamePrefix("LLM-API-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.initialize();
-        log.info("LLM API Executor initialized with core: {}, max: {}", 
+        log.info("LLM API Executor initialized with core: {}, max: {}",
                 executor.getCorePoolSize(), executor.getMaxPoolSize());
         return executor;
     }
+
+    private boolean isVirtualMode() {
+        return VIRTUAL_MODE.equalsIgnoreCase(executorMode);
+    }
+
+    private Executor virtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        SemaphoreVirtualThreadExecutor executor = new SemaphoreVirtualThreadExecutor(threadNamePrefix, maxConcurrency);
+        log.info("Virtual thread executor initialized with prefix: {}, maxConcurrency: {}",
+                threadNamePrefix, executor.getMaxConcurrency());
+        return executor;
+    }
 }
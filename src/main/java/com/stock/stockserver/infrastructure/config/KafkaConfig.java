@@ -1,5 +1,6 @@
 package com.stock.stockserver.infrastructure.config;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -8,8 +9,10 @@ import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
@@ -17,12 +20,16 @@ import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
 import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
 @EnableKafka
 @Slf4j
 public class KafkaConfig {
@@ -33,6 +40,18 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:stock-analysis-group}")
     private String groupId;
 
+    @Value("${analysis.fan-out.partitions:12}")
+    private int stockTaskPartitions;
+
+    @Value("${analysis.consumer.pool-size:4}")
+    private int analysisPoolSize;
+
+    @Value("${analysis.publisher.outbox.linger-ms:50}")
+    private int outboxLingerMs;
+
+    @Value("${analysis.publisher.outbox.producer-batch-bytes:262144}")
+    private int outboxBatchBytes;
+
     @Bean
     public NewTopic analysisRequestTopic() {
         return TopicBuilder.name("analysis-requests")
@@ -41,14 +60,49 @@ public class KafkaConfig {
                 .build();
     }
 
+    /**
+     * fan-out 종목 작업 항목 토픽. 파티션 수가 작업 하나를 동시에 나눠 처리할 수 있는 consumer 수의 상한이다.
+     */
     @Bean
-    public NewTopic analysisDltTopic() {
-        return TopicBuilder.name("analysis-requests.DLT")
-                .partitions(3)
+    public NewTopic analysisStockTaskTopic() {
+        return TopicBuilder.name("analysis-stock-tasks")
+                .partitions(stockTaskPartitions)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic analysisStockTaskDltTopic() {
+        return TopicBuilder.name("analysis-stock-tasks.DLT")
+                .partitions(stockTaskPartitions)
                 .replicas(1)
                 .build();
     }
 
+    /**
+     * analysis-requests 실패 시 지연 재시도 토픽으로 넘긴다. (기본 30초 → 5분 → 30분, 이후 analysis-requests.DLT)
+     *
+     * 실패한 메시지는 재시도 토픽에서 예정 시각까지 기다리므로 원래 파티션의 다른 요청은 막히지 않는다.
+     * 재시도/DLT 토픽은 이 설정으로 생성되고, DLT 메시지는 DltMessageProcessor가 기록한다.
+     * 메시지 형식 오류는 재시도해도 같으므로 바로 DLT로 보낸다.
+     */
+    @Bean
+    public RetryTopicConfiguration analysisRetryTopicConfiguration(KafkaTemplate<String, String> kafkaTemplate,
+                                                                   AnalysisRetryPolicy retryPolicy) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopic("analysis-requests")
+                .maxAttempts(retryPolicy.attempts())
+                .exponentialBackoff(retryPolicy.initialDelayMs(), retryPolicy.multiplier(), retryPolicy.maxDelayMs())
+                .retryTopicSuffix("-retry")
+                .dltSuffix(".DLT")
+                .setTopicSuffixingStrategy(TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE)
+                .autoCreateTopicsWith(3, (short) 1)
+                .notRetryOn(JsonProcessingException.class)
+                .traversingCauses()
+                .dltHandlerMethod("dltMessageProcessor", "processDltMessage")
+                .create(kafkaTemplate);
+    }
+
     @Bean
     public ProducerFactory<String, String> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
@@ -62,10 +116,24 @@ public class KafkaConfig {
     }
 
     @Bean
+    @Primary
     public KafkaTemplate<String, String> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * outbox relay 전용 producer. 요청 스레드가 기다리지 않으므로 지연을 조금 허용하고 배치 크기와 압축률을 우선한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "analysis.publisher.outbox.enabled", havingValue = "true")
+    public KafkaTemplate<String, String> outboxKafkaTemplate() {
+        Map<String, Object> configProps = new HashMap<>(producerFactory().getConfigurationProperties());
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, outboxLingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, outboxBatchBytes);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps));
+    }
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         Map<String, Object> props = new HashMap<>();
@@ -78,6 +146,16 @@ public class KafkaConfig {
         return new DefaultKafkaConsumerFactory<>(props);
     }
 
+    /**
+     * pooled 모드 consumer 용. 한 번에 워커 풀 크기만큼만 poll 해서 pause 전에 쌓이는 레코드를 줄인다.
+     */
+    @Bean
+    public ConsumerFactory<String, String> pooledConsumerFactory() {
+        Map<String, Object> props = new HashMap<>(consumerFactory().getConfigurationProperties());
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, analysisPoolSize);
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
     @Bean
     public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
         DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
@@ -104,4 +182,24 @@ public class KafkaConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
+
+    /**
+     * 분석을 워커 풀에서 실행하는 PooledAnalysisConsumer 용 컨테이너.
+     * 워커가 끝나는 순서대로 ACK 하면 asyncAcks가 앞선 offset이 모두 ACK될 때까지 기다렸다가 순서대로 커밋한다.
+     * 실패 처리(DLT 전송)는 워커가 직접 하므로 여기서는 재시도하지 않는다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> pooledAnalysisListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(pooledConsumerFactory());
+        factory.setConcurrency(1);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                deadLetterPublishingRecoverer(kafkaTemplate()),
+                new FixedBackOff(0L, 0L)
+        ));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
 }
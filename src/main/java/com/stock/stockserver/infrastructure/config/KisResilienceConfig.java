@@ -1,5 +1,6 @@
 package com.stock.stockserver.infrastructure.config;
 
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
@@ -42,7 +43,8 @@ public class KisResilienceConfig {
     public Retry kisApiRetry(
             @Value("${kis.api.resilience.retry.max-attempts:3}") int maxAttempts,
             @Value("${kis.api.resilience.retry.initial-wait-ms:300}") long initialWaitMs,
-            @Value("${kis.api.resilience.retry.multiplier:2.0}") double multiplier
+            @Value("${kis.api.resilience.retry.multiplier:2.0}") double multiplier,
+            PipelineMetrics pipelineMetrics
     ) {
         RetryConfig config = RetryConfig.custom()
                 .maxAttempts(maxAttempts)
@@ -52,10 +54,13 @@ public class KisResilienceConfig {
 
         Retry retry = Retry.of("kisApi", config);
         retry.getEventPublisher()
-                .onRetry(event -> log.warn("KIS API 재시도: attempt={}, waitInterval={}, error={}",
-                        event.getNumberOfRetryAttempts(),
-                        event.getWaitInterval(),
-                        event.getLastThrowable().getMessage()))
+                .onRetry(event -> {
+                    pipelineMetrics.countKisRetry();
+                    log.warn("KIS API 재시도: attempt={}, waitInterval={}, error={}",
+                            event.getNumberOfRetryAttempts(),
+                            event.getWaitInterval(),
+                            event.getLastThrowable().getMessage());
+                })
                 .onError(event -> log.error("KIS API 재시도 실패: attempts={}, error={}",
                         event.getNumberOfRetryAttempts(),
                         event.getLastThrowable().getMessage()));
@@ -0,0 +1,26 @@
+package com.stock.stockserver.infrastructure.config;
+
+import com.stock.stockserver.infrastructure.profiling.RecordingCacheResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 캐시 호출을 JFR 이벤트(CacheOperation)로 남기도록 @Cacheable 의 캐시 resolver 를 바꾼다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "profiling.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class ProfilingConfig implements CachingConfigurer {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    @Override
+    public CacheResolver cacheResolver() {
+        return new RecordingCacheResolver(cacheManager);
+    }
+}
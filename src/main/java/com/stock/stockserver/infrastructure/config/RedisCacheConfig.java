@@ -12,6 +12,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.*;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
@@ -20,6 +21,10 @@ public class RedisCacheConfig {
     public static final String LLM_CACHE = "llmAnalysisCache";
     public static final String KIS_DAILY_CACHE = "kisDailyCache";
     public static final String KIS_VOLUME_RANK_CACHE = "kisVolumeRankCache";
+    public static final String KIS_DOMESTIC_VOLUME_RANK_CACHE = "kisDomesticVolumeRankCache";
+    public static final String KIS_OVERSEAS_VOLUME_RANK_CACHE = "kisOverseasVolumeRankCache";
+    public static final String KIS_DOMESTIC_DAILY_CACHE = "kisDomesticDailyCache";
+    public static final String KIS_OVERSEAS_DAILY_CACHE = "kisOverseasDailyCache";
 
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
@@ -43,6 +48,10 @@ public class RedisCacheConfig {
                 .withCacheConfiguration(LLM_CACHE, llmConfig)
                 .withCacheConfiguration(KIS_DAILY_CACHE, kisDailyConfig)
                 .withCacheConfiguration(KIS_VOLUME_RANK_CACHE, kisVolumeRankConfig)
+                // actuator는 시작 시점에 존재하는 캐시만 cache.gets(hit/miss) 지표로 등록하므로 미리 만들어 둔다
+                .initialCacheNames(Set.of(KIS_DOMESTIC_VOLUME_RANK_CACHE, KIS_OVERSEAS_VOLUME_RANK_CACHE,
+                        KIS_DOMESTIC_DAILY_CACHE, KIS_OVERSEAS_DAILY_CACHE))
+                .enableStatistics()
                 .build();
     }
 }
\ No newline at end of file
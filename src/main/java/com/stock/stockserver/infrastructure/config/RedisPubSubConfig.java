@@ -0,0 +1,23 @@
+package com.stock.stockserver.infrastructure.config;
+
+import com.stock.stockserver.infrastructure.consumer.AnalysisProgressSubscriber;
+import com.stock.stockserver.infrastructure.producer.RedisAnalysisProgressPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       AnalysisProgressSubscriber progressSubscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(progressSubscriber,
+                new ChannelTopic(RedisAnalysisProgressPublisher.PROGRESS_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,41 @@
+package com.stock.stockserver.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+
+import java.time.Duration;
+
+/**
+ * Redis Stream 브로커 (analysis.broker=redis-stream).
+ * 구독(consumer)마다 XREADGROUP BLOCK 루프를 하나씩 돌리며, 항목이 들어오면 BLOCK이 바로 풀려 지연이 거의 없다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "redis-stream")
+@Slf4j
+public class RedisStreamConfig {
+
+    @Value("${analysis.redis-stream.poll-timeout-ms:2000}")
+    private long pollTimeoutMs;
+
+    @Value("${analysis.redis-stream.batch-size:1}")
+    private int batchSize;
+
+    @Bean
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> analysisStreamContainer(
+            RedisConnectionFactory redisConnectionFactory) {
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> options =
+                StreamMessageListenerContainerOptions.builder()
+                        .pollTimeout(Duration.ofMillis(pollTimeoutMs))
+                        .batchSize(batchSize)
+                        .errorHandler(e -> log.error("Redis Stream 수신 오류: {}", e.getMessage(), e))
+                        .build();
+        return StreamMessageListenerContainer.create(redisConnectionFactory, options);
+    }
+}
@@ -0,0 +1,78 @@
+package com.stock.stockserver.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업마다 가상 스레드를 하나씩 띄우는 Executor.
+ *
+ * 동시 실행 수는 스레드 수가 아니라 Semaphore permit으로 제한한다.
+ * permit 대기는 작업을 실행할 가상 스레드 안에서 일어나므로 제출 스레드(Kafka 리스너 등)는 블로킹되지 않는다.
+ */
+@Slf4j
+public class SemaphoreVirtualThreadExecutor implements Executor, AutoCloseable {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService delegate;
+
+    public SemaphoreVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        this.name = threadNamePrefix;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+        );
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("permit 대기 중 인터럽트되어 작업을 실행하지 않습니다: executor={}", name);
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("가상 스레드 작업이 제한 시간 내에 끝나지 않아 강제 종료합니다: executor={}", name);
+                delegate.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            delegate.shutdownNow();
+        }
+    }
+}
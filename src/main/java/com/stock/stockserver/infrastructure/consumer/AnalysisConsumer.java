@@ -1,20 +1,27 @@
 package com.stock.stockserver.infrastructure.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.application.AnalysisRequestHandler;
 import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.logging.LogPayloads;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+/**
+ * listener 스레드에서 분석을 끝까지 실행한 뒤 ACK 한다. (analysis.consumer.mode=direct, 기본값)
+ */
 @Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
+@ConditionalOnProperty(name = "analysis.consumer.mode", havingValue = "direct", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class AnalysisConsumer {
 
-    private final StockAnalysisService analysisService;
+    private final AnalysisRequestHandler requestHandler;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(
@@ -24,17 +31,16 @@ public class AnalysisConsumer {
     ) public void consumeAnalysisRequest(String message, Acknowledgment ack) {
         try {
             AnalysisEvent event = objectMapper.readValue(message, AnalysisEvent.class);
-            String analysisId = event.analysisId();
 
-            log.info("Received analysis request from Kafka: analysisId={}, target={}",
-                    analysisId, event.resolvedTarget());
-
-            analysisService.saveJob(analysisId);
-            analysisService.runFullAnalysis(analysisId, event.resolvedTarget());
+            boolean executed = requestHandler.handle(event);
             ack.acknowledge();
-            log.info("Analysis completed and ACK'd: analysisId={}", analysisId);
+            if (executed) {
+                log.info("Analysis completed and ACK'd: analysisId={}", event.analysisId());
+            } else {
+                log.info("Duplicate analysis request skipped and ACK'd: analysisId={}", event.analysisId());
+            }
         } catch (Exception e) {
-            log.error("Failed to process analysis request: message={}", message, e);
+            log.error("Failed to process analysis request: message={}", LogPayloads.truncate(message), e);
             throw new RuntimeException("Analysis processing failed", e);
         }
     }
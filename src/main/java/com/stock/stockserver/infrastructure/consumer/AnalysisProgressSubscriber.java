@@ -0,0 +1,31 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.dto.AnalysisProgressEvent;
+import com.stock.stockserver.presentation.AnalysisProgressEmitters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisProgressSubscriber implements MessageListener {
+
+    private final AnalysisProgressEmitters emitters;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            emitters.dispatch(objectMapper.readValue(body, AnalysisProgressEvent.class));
+        } catch (Exception e) {
+            log.warn("진행 이벤트 처리 실패: error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.dto.AnalysisStockTask;
+import com.stock.stockserver.infrastructure.logging.LogPayloads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * fan-out 모드의 종목 단위 작업 항목 소비.
+ * 같은 consumer group의 모든 노드가 파티션을 나눠 받으므로, 작업 하나의 종목들이 클러스터 전체로 분산된다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisTaskConsumer {
+
+    private final StockAnalysisService analysisService;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "analysis-stock-tasks",
+            groupId = "${spring.kafka.consumer.group-id:stock-analysis-group}",
+            concurrency = "${analysis.fan-out.concurrency:3}"
+    )
+    public void consumeStockTask(String message, Acknowledgment ack) {
+        try {
+            AnalysisStockTask task = objectMapper.readValue(message, AnalysisStockTask.class);
+
+            // 코디네이터가 정한 작업 마감 시각을 그대로 따른다
+            AnalysisDeadline.at(task.deadline()).runWith(() ->
+                    analysisService.runStockTask(task.analysisId(), task.toStockData(), task.total()));
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("종목 작업 항목 처리 실패: message={}", LogPayloads.truncate(message), e);
+            throw new RuntimeException("Stock task processing failed", e);
+        }
+    }
+}
@@ -4,14 +4,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock.stockserver.domain.entity.FailedAnalysisRequest;
 import com.stock.stockserver.domain.repository.FailedAnalysisRequestRepository;
 import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.logging.LogPayloads;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
+/**
+ * analysis-requests.DLT 메시지를 실패 기록으로 남긴다. (재처리는 DltRetryService)
+ *
+ * 지연 재시도 토픽을 모두 거친 메시지(pooled 모드는 워커가 바로 보낸 메시지)가 들어오며,
+ * 리스너는 KafkaConfig의 RetryTopicConfiguration이 DLT 핸들러로 등록한다.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -20,26 +26,28 @@ public class DltMessageProcessor {
     private final ObjectMapper objectMapper;
     private final FailedAnalysisRequestRepository failedAnalysisRequestRepository;
 
-    @KafkaListener(
-            topics = "analysis-requests.DLT",
-            groupId = "${spring.kafka.consumer.group-id:stock-analysis-group}-dlt",
-            containerFactory = "kafkaListenerContainerFactory"
-    )
     public void processDltMessage(String message, Acknowledgment ack) {
-        log.warn("DLT에서 메시지 수신: message={}", message);
-        
+        record(message);
+        ack.acknowledge();
+    }
+
+    /**
+     * 브로커와 무관하게 DLT 메시지 1건을 실패 기록으로 남긴다. (Redis Stream DLT consumer도 사용)
+     * 처리할 수 없는 메시지는 원문 그대로 저장한다. (로그에는 앞부분만 남긴다)
+     */
+    public void record(String message) {
+        log.warn("DLT에서 메시지 수신: message={}", LogPayloads.truncate(message));
+
         try {
             AnalysisEvent event = objectMapper.readValue(message, AnalysisEvent.class);
-            
+
             handleDltEvent(event);
-            
+
             log.info("DLT 메시지 처리 완료: analysisId={}", event.analysisId());
-            ack.acknowledge();
-            
+
         } catch (Exception e) {
-            log.error("DLT 메시지 파싱 실패, DB에 저장: message={}", message, e);
+            log.error("DLT 메시지 파싱 실패, DB에 저장: message={}", LogPayloads.truncate(message), e);
             saveFailedMessage(message, e.getMessage());
-            ack.acknowledge();
         }
     }
 
@@ -61,7 +69,7 @@ public class DltMessageProcessor {
     }
 
     private void saveFailedMessage(String message, String errorMessage) {
-        log.error("DLT 메시지 저장 (파싱 실패): message={}, error={}", message, errorMessage);
+        log.error("DLT 메시지 저장 (파싱 실패): message={}, error={}", LogPayloads.truncate(message), errorMessage);
         
         FailedAnalysisRequest failedRequest = FailedAnalysisRequest.builder()
                 .analysisId("unknown")
@@ -0,0 +1,222 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisRequestHandler;
+import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.dto.AnalysisStockTask;
+import com.stock.stockserver.infrastructure.config.AnalysisRetryPolicy;
+import com.stock.stockserver.infrastructure.logging.LogPayloads;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 브로커 없이 같은 프로세스 안에서 분석 요청/종목 작업 항목을 실행한다. (analysis.broker=in-memory, in-memory 프로필)
+ *
+ * 요청과 작업 항목은 각각 크기가 정해진 대기열을 가진 워커 풀로 바로 넘어가며, 대기열이 차면 발행이 실패한다.
+ * 재시도/DLT는 Kafka 구성과 같다. 실패한 항목은 analysis.retry.* 지연 후 다시 실행하고,
+ * 재시도를 모두 쓰면 분석 요청은 DltMessageProcessor로 실패 기록을 남긴다. (재처리는 DltRetryService)
+ *
+ * 종료 시에는 새 요청을 받지 않고, 대기 중인 재시도는 DLT로 옮긴 뒤 이미 받은 요청과 작업 항목을 끝까지 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "in-memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryAnalysisDispatcher implements SmartLifecycle {
+
+    private final AnalysisRequestHandler requestHandler;
+    private final StockAnalysisService analysisService;
+    private final DltMessageProcessor dltMessageProcessor;
+    private final ObjectMapper objectMapper;
+    private final AnalysisRetryPolicy retryPolicy;
+
+    // 재시도 대기 중인 항목 (종료 시 DLT로 옮긴다)
+    private final Map<Long, Object> pendingRetries = new ConcurrentHashMap<>();
+    private final AtomicLong retrySequence = new AtomicLong();
+
+    private ThreadPoolTaskExecutor requestWorkers;
+    private ThreadPoolTaskExecutor taskWorkers;
+    private ThreadPoolTaskScheduler retryScheduler;
+    private volatile boolean running;
+    private volatile boolean draining;
+
+    @Value("${analysis.in-memory.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${analysis.in-memory.concurrency:3}")
+    private int concurrency;
+
+    @Value("${analysis.fan-out.concurrency:3}")
+    private int taskConcurrency;
+
+    @Value("${analysis.deadline-seconds:300}")
+    private long deadlineSeconds;
+
+    public void submit(AnalysisEvent event) {
+        if (!running || draining) {
+            throw new IllegalStateException("종료 중이라 분석 요청을 받을 수 없습니다. analysisId=" + event.analysisId());
+        }
+        enqueue(event, 0);
+    }
+
+    /**
+     * 종료 중에도 받는다. (처리 중인 요청이 발행하는 작업 항목까지 끝내야 drain 이 완료된다)
+     */
+    public void submitTasks(List<AnalysisStockTask> tasks) {
+        for (AnalysisStockTask task : tasks) {
+            enqueue(task, 0);
+        }
+    }
+
+    private void enqueue(Object message, int attempt) {
+        ThreadPoolTaskExecutor workers = message instanceof AnalysisEvent ? requestWorkers : taskWorkers;
+        workers.execute(() -> process(message, attempt));
+    }
+
+    private void process(Object message, int attempt) {
+        try {
+            if (message instanceof AnalysisEvent event) {
+                boolean executed = requestHandler.handle(event);
+                if (!executed) {
+                    log.info("Duplicate analysis request skipped: analysisId={}", event.analysisId());
+                }
+            } else if (message instanceof AnalysisStockTask task) {
+                // 코디네이터가 정한 작업 마감 시각을 그대로 따른다
+                AnalysisDeadline.at(task.deadline()).runWith(() ->
+                        analysisService.runStockTask(task.analysisId(), task.toStockData(), task.total()));
+            }
+        } catch (Exception e) {
+            if (draining || !retryPolicy.canRetry(attempt)) {
+                log.error("재시도 없이 DLT로 이동: attempt={}, draining={}", attempt + 1, draining, e);
+                deadLetter(message);
+            } else {
+                scheduleRetry(message, attempt + 1, e);
+            }
+        }
+    }
+
+    private void scheduleRetry(Object message, int attempt, Exception cause) {
+        long delayMs = retryPolicy.delayMs(attempt);
+        log.warn("처리 실패, {}ms 후 재시도 ({}회차): error={}", delayMs, attempt, cause.getMessage());
+
+        long id = retrySequence.incrementAndGet();
+        pendingRetries.put(id, message);
+        retryScheduler.schedule(() -> {
+            if (pendingRetries.remove(id) == null) {
+                return;     // 종료하면서 이미 DLT로 옮겼다
+            }
+            try {
+                enqueue(message, attempt);
+            } catch (Exception e) {
+                log.error("재시도 대기열이 가득 차 DLT로 이동: error={}", e.getMessage());
+                deadLetter(message);
+            }
+        }, Instant.now().plusMillis(delayMs));
+    }
+
+    private void deadLetter(Object message) {
+        if (message instanceof AnalysisStockTask task) {
+            // Kafka 구성과 같이 종목 작업 항목 DLT는 별도로 재처리하지 않는다
+            log.error("종목 작업 항목 최종 실패: analysisId={}, stockCode={}", task.analysisId(), task.stockCode());
+            return;
+        }
+        try {
+            dltMessageProcessor.record(objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("DLT 기록 실패, 요청 유실: message={}, error={}", LogPayloads.truncate(message), e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void start() {
+        requestWorkers = workers("InMemory-Analysis-", concurrency);
+        taskWorkers = workers("InMemory-StockTask-", taskConcurrency);
+        retryScheduler = new ThreadPoolTaskScheduler();
+        retryScheduler.setPoolSize(1);
+        retryScheduler.setThreadNamePrefix("InMemory-Retry-");
+        retryScheduler.initialize();
+
+        draining = false;
+        running = true;
+        log.info("in-memory 분석 dispatcher 시작: concurrency={}, taskConcurrency={}, queueCapacity={}",
+                concurrency, taskConcurrency, queueCapacity);
+    }
+
+    private ThreadPoolTaskExecutor workers(String threadNamePrefix, int size) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds((int) deadlineSeconds);
+        executor.initialize();
+        return executor;
+    }
+
+    @Override
+    public void stop() {
+        drain();
+    }
+
+    /**
+     * drain 은 마감 시각만큼 걸릴 수 있으므로 별도 스레드에서 진행하고 끝나면 callback 으로 알린다.
+     * (spring.lifecycle.timeout-per-shutdown-phase 를 deadline-seconds 보다 길게 둔다)
+     */
+    @Override
+    public void stop(Runnable callback) {
+        Thread.ofPlatform().name("InMemory-Drain").start(() -> {
+            try {
+                drain();
+            } finally {
+                callback.run();
+            }
+        });
+    }
+
+    private void drain() {
+        draining = true;
+        log.info("in-memory 분석 dispatcher 종료: 대기 중인 작업 처리 시작");
+
+        pendingRetries.keySet().forEach(id -> {
+            Object message = pendingRetries.remove(id);
+            if (message != null) {
+                deadLetter(message);
+            }
+        });
+        retryScheduler.shutdown();
+
+        // 요청 워커가 끝나야 그 요청이 발행한 작업 항목까지 작업 워커 대기열에 들어온다
+        requestWorkers.shutdown();
+        taskWorkers.shutdown();
+        running = false;
+        log.info("in-memory 분석 dispatcher 종료 완료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버 graceful shutdown 이 끝나 새 요청이 더 들어오지 않은 뒤에 정지한다.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
@@ -0,0 +1,149 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisRequestHandler;
+import com.stock.stockserver.dto.AnalysisEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석을 워커 풀에서 실행하는 consumer. (analysis.consumer.mode=pooled)
+ *
+ * listener 스레드는 레코드를 워커에 넘기고 바로 poll 로 돌아가므로, 분석이 길어져도
+ * max.poll.interval.ms 를 넘겨 리밸런스가 일어나지 않는다. 워커가 모두 사용 중이면 컨테이너를 pause 해
+ * 더 가져오지 않고, 여유가 생기면 resume 한다. ACK는 작업이 끝나는 순서대로 하되
+ * 컨테이너의 asyncAcks 설정이 offset 순서대로 커밋한다.
+ * 실패는 워커 스레드에서 일어나 listener 예외로 동작하는 재시도 토픽(analysis.retry.*)을 거치지 않는다.
+ * 즉 지연 재시도 없이 바로 analysis-requests.DLT 로 보낸다. (DLT 재처리는 DltRetryService)
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
+@ConditionalOnProperty(name = "analysis.consumer.mode", havingValue = "pooled")
+@RequiredArgsConstructor
+@Slf4j
+public class PooledAnalysisConsumer {
+
+    static final String LISTENER_ID = "pooledAnalysisConsumer";
+
+    private final AnalysisRequestHandler requestHandler;
+    private final ObjectMapper objectMapper;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private ThreadPoolTaskExecutor workers;
+
+    @Value("${analysis.consumer.pool-size:4}")
+    private int poolSize;
+
+    @Value("${analysis.deadline-seconds:300}")
+    private long deadlineSeconds;
+
+    @PostConstruct
+    void start() {
+        workers = new ThreadPoolTaskExecutor();
+        workers.setCorePoolSize(poolSize);
+        workers.setMaxPoolSize(poolSize);
+        // 대기열은 pause 전에 이미 poll 된 레코드(max.poll.records 이내)만 받는다
+        workers.setQueueCapacity(Integer.MAX_VALUE);
+        workers.setThreadNamePrefix("Analysis-Worker-");
+        workers.setWaitForTasksToCompleteOnShutdown(true);
+        workers.setAwaitTerminationSeconds((int) deadlineSeconds);
+        workers.initialize();
+        log.info("Analysis worker pool initialized with size: {}", poolSize);
+    }
+
+    @PreDestroy
+    void stop() {
+        workers.shutdown();
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "analysis-requests",
+            groupId = "${spring.kafka.consumer.group-id:stock-analysis-group}",
+            containerFactory = "pooledAnalysisListenerContainerFactory"
+    )
+    public void consumeAnalysisRequest(ConsumerRecord<String, String> record, Acknowledgment ack) {
+        AnalysisEvent event;
+        try {
+            event = objectMapper.readValue(record.value(), AnalysisEvent.class);
+        } catch (Exception e) {
+            log.error("Failed to parse analysis request: message={}", record.value(), e);
+            recover(record, e, ack);
+            return;
+        }
+
+        inFlight.incrementAndGet();
+        updateFlowControl();
+        workers.execute(() -> process(record, event, ack));
+    }
+
+    private void process(ConsumerRecord<String, String> record, AnalysisEvent event, Acknowledgment ack) {
+        try {
+            boolean executed = requestHandler.handle(event);
+            ack.acknowledge();
+            if (executed) {
+                log.info("Analysis completed and ACK'd: analysisId={}", event.analysisId());
+            } else {
+                log.info("Duplicate analysis request skipped and ACK'd: analysisId={}", event.analysisId());
+            }
+        } catch (Exception e) {
+            log.error("Failed to process analysis request: analysisId={}", event.analysisId(), e);
+            recover(record, e, ack);
+        } finally {
+            inFlight.decrementAndGet();
+            updateFlowControl();
+        }
+    }
+
+    /**
+     * DLT 전송에 성공한 경우에만 ACK 한다. 전송까지 실패하면 offset이 커밋되지 않아 재시작/리밸런스 후 다시 받는다.
+     */
+    private void recover(ConsumerRecord<String, String> record, Exception cause, Acknowledgment ack) {
+        try {
+            deadLetterPublishingRecoverer.accept(record, cause);
+            ack.acknowledge();
+        } catch (Exception e) {
+            log.error("DLT 전송 실패, ACK 보류: topic={}, offset={}, error={}",
+                    record.topic(), record.offset(), e.getMessage());
+        }
+    }
+
+    /**
+     * 실행 중인 작업 수로 pause/resume 을 결정한다. 상태 확인과 전환을 한 번에 하도록 동기화한다.
+     */
+    private synchronized void updateFlowControl() {
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(LISTENER_ID);
+        if (container == null) {
+            return;
+        }
+
+        boolean full = inFlight.get() >= poolSize;
+        if (full && !container.isPauseRequested()) {
+            container.pause();
+            log.info("워커 풀이 가득 차 분석 요청 수신 일시 중지: inFlight={}", inFlight.get());
+        } else if (!full && container.isPauseRequested()) {
+            container.resume();
+            log.info("워커 여유가 생겨 분석 요청 수신 재개: inFlight={}", inFlight.get());
+        }
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,247 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisRequestHandler;
+import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.dto.AnalysisStockTask;
+import com.stock.stockserver.infrastructure.config.AnalysisRetryPolicy;
+import com.stock.stockserver.infrastructure.logging.LogPayloads;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.stock.stockserver.infrastructure.producer.RedisStreamAnalysisRequestPublisher.*;
+import static com.stock.stockserver.infrastructure.producer.RedisStreamAnalysisTaskPublisher.TASK_STREAM;
+
+/**
+ * Redis Stream consumer group 으로 분석 요청/종목 작업 항목을 소비한다. (analysis.broker=redis-stream)
+ *
+ * Kafka 구성과 같은 의미를 유지한다.
+ * - 처리에 실패한 항목은 ACK 후 재시도 대기열(ZSET)에 넣고, 지연(analysis.retry.*)이 지나면 attempt를 올려 다시 추가한다.
+ * - 재시도를 모두 소진했거나 메시지를 파싱할 수 없으면 {stream}.DLT 로 옮긴다. analysis-requests.DLT 는 DltMessageProcessor가 기록한다.
+ * - 처리 중 노드가 죽어 ACK 되지 않은 항목(PEL)은 claim-idle-ms 가 지나면 다른 노드가 가져가 이어서 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "redis-stream")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStreamAnalysisConsumer {
+
+    static final String RETRY_KEY = "analysisStreamRetry";
+    private static final String DLT_SUFFIX = ".DLT";
+
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> analysisStreamContainer;
+    private final RedisRepository redisRepository;
+    private final AnalysisRequestHandler requestHandler;
+    private final StockAnalysisService analysisService;
+    private final DltMessageProcessor dltMessageProcessor;
+    private final ObjectMapper objectMapper;
+    private final AnalysisRetryPolicy retryPolicy;
+
+    private final String consumerName = "consumer-" + UUID.randomUUID();
+    private ThreadPoolTaskExecutor reclaimWorkers;
+
+    @Value("${analysis.redis-stream.group:stock-analysis-group}")
+    private String group;
+
+    @Value("${analysis.redis-stream.concurrency:3}")
+    private int concurrency;
+
+    @Value("${analysis.fan-out.concurrency:3}")
+    private int taskConcurrency;
+
+    @Value("${analysis.redis-stream.claim-idle-ms:360000}")
+    private long claimIdleMs;
+
+    @Value("${analysis.redis-stream.reclaim-batch-size:100}")
+    private int reclaimBatchSize;
+
+    @PostConstruct
+    void start() {
+        reclaimWorkers = new ThreadPoolTaskExecutor();
+        reclaimWorkers.setCorePoolSize(concurrency);
+        reclaimWorkers.setMaxPoolSize(concurrency);
+        reclaimWorkers.setThreadNamePrefix("Stream-Reclaim-");
+        reclaimWorkers.setWaitForTasksToCompleteOnShutdown(true);
+        reclaimWorkers.initialize();
+
+        subscribe(ANALYSIS_STREAM, concurrency);
+        subscribe(TASK_STREAM, taskConcurrency);
+        subscribe(DLT_STREAM, 1);
+        analysisStreamContainer.start();
+        log.info("Redis Stream consumer 시작: consumer={}, group={}", consumerName, group);
+    }
+
+    @PreDestroy
+    void stop() {
+        analysisStreamContainer.stop();
+        reclaimWorkers.shutdown();
+    }
+
+    private void subscribe(String stream, int count) {
+        redisRepository.xGroupCreate(stream, group);
+        for (int i = 0; i < count; i++) {
+            analysisStreamContainer.receive(
+                    Consumer.from(group, consumerName + "-" + i),
+                    StreamOffset.create(stream, ReadOffset.lastConsumed()),
+                    record -> onRecord(stream, record.getId().getValue(), record.getValue()));
+        }
+    }
+
+    /**
+     * 항목 1건 처리. 재시도 대기열/DLT 기록까지 끝난 뒤에만 ACK 하므로, 그 사이 Redis 오류가 나면 PEL에 남아 reclaim 된다.
+     */
+    void onRecord(String stream, String recordId, Map<?, ?> fields) {
+        String payload = String.valueOf(fields.get(FIELD_PAYLOAD));
+        int attempt = fields.get(FIELD_ATTEMPT) != null ? Integer.parseInt(String.valueOf(fields.get(FIELD_ATTEMPT))) : 0;
+
+        try {
+            dispatch(stream, payload);
+        } catch (JsonProcessingException e) {
+            log.error("메시지 파싱 실패, DLT로 이동: stream={}, message={}", stream, LogPayloads.truncate(payload), e);
+            deadLetter(stream, payload);
+        } catch (Exception e) {
+            if (!retryPolicy.canRetry(attempt)) {
+                log.error("재시도 횟수 초과, DLT로 이동: stream={}, attempt={}", stream, attempt + 1, e);
+                deadLetter(stream, payload);
+            } else {
+                scheduleRetry(stream, payload, attempt + 1, e);
+            }
+        }
+        redisRepository.xAckAndDelete(stream, group, recordId);
+    }
+
+    private void dispatch(String stream, String payload) throws JsonProcessingException {
+        switch (stream) {
+            case ANALYSIS_STREAM -> {
+                AnalysisEvent event = objectMapper.readValue(payload, AnalysisEvent.class);
+                boolean executed = requestHandler.handle(event);
+                if (executed) {
+                    log.info("Analysis completed and ACK'd: analysisId={}", event.analysisId());
+                } else {
+                    log.info("Duplicate analysis request skipped and ACK'd: analysisId={}", event.analysisId());
+                }
+            }
+            case TASK_STREAM -> {
+                AnalysisStockTask task = objectMapper.readValue(payload, AnalysisStockTask.class);
+                // 코디네이터가 정한 작업 마감 시각을 그대로 따른다
+                AnalysisDeadline.at(task.deadline()).runWith(() ->
+                        analysisService.runStockTask(task.analysisId(), task.toStockData(), task.total()));
+            }
+            case DLT_STREAM -> dltMessageProcessor.record(payload);
+            default -> throw new IllegalArgumentException("알 수 없는 스트림: " + stream);
+        }
+    }
+
+    private void deadLetter(String stream, String payload) {
+        if (stream.endsWith(DLT_SUFFIX)) {
+            log.error("DLT 메시지 처리 실패, 폐기: stream={}, message={}", stream, LogPayloads.truncate(payload));
+            return;
+        }
+        redisRepository.xAdd(stream + DLT_SUFFIX, Map.of(FIELD_PAYLOAD, payload));
+    }
+
+    private void scheduleRetry(String stream, String payload, int attempt, Exception cause) {
+        long delayMs = retryPolicy.delayMs(attempt);
+        log.warn("처리 실패, {}ms 후 재시도 ({}회차): stream={}, error={}", delayMs, attempt, stream, cause.getMessage());
+
+        Map<String, String> retry = new HashMap<>();
+        retry.put("stream", stream);
+        retry.put(FIELD_PAYLOAD, payload);
+        retry.put(FIELD_ATTEMPT, String.valueOf(attempt));
+        // 같은 메시지가 다시 실패해도 멤버가 겹치지 않도록 식별자를 붙인다
+        retry.put("id", UUID.randomUUID().toString());
+        try {
+            redisRepository.zAdd(RETRY_KEY, objectMapper.writeValueAsString(retry), System.currentTimeMillis() + delayMs);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("재시도 항목 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 지연 시간이 지난 재시도 항목을 원래 스트림에 다시 추가한다. ZREM에 성공한 노드만 옮긴다.
+     */
+    @Scheduled(fixedDelayString = "${analysis.redis-stream.retry-poll-interval-ms:1000}")
+    public void releaseDueRetries() {
+        try {
+            Set<String> due = redisRepository.zRangeByScore(RETRY_KEY, 0, System.currentTimeMillis());
+            if (due == null) {
+                return;
+            }
+            for (String member : due) {
+                if (!redisRepository.zRemove(RETRY_KEY, member)) {
+                    continue;
+                }
+                Map<String, String> retry = objectMapper.readValue(member,
+                        objectMapper.getTypeFactory().constructMapType(Map.class, String.class, String.class));
+                redisRepository.xAdd(retry.get("stream"), Map.of(
+                        FIELD_PAYLOAD, retry.get(FIELD_PAYLOAD),
+                        FIELD_ATTEMPT, retry.get(FIELD_ATTEMPT)));
+            }
+        } catch (Exception e) {
+            log.error("재시도 항목 이동 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 죽은 consumer가 ACK 하지 못한 항목을 가져와 처리한다.
+     * 실행 중인 분석을 가로채지 않도록 claim-idle-ms 는 analysis.deadline-seconds 보다 길게 둔다.
+     */
+    @Scheduled(fixedDelayString = "${analysis.redis-stream.reclaim-interval-ms:30000}")
+    public void reclaimAbandoned() {
+        for (String stream : List.of(ANALYSIS_STREAM, TASK_STREAM, DLT_STREAM)) {
+            try {
+                reclaim(stream);
+            } catch (Exception e) {
+                log.error("미처리 항목 reclaim 실패: stream={}, error={}", stream, e.getMessage(), e);
+            }
+        }
+    }
+
+    private void reclaim(String stream) {
+        Duration minIdle = Duration.ofMillis(claimIdleMs);
+        for (PendingMessage pending : redisRepository.xPending(stream, group, reclaimBatchSize)) {
+            if (pending.getElapsedTimeSinceLastDelivery().compareTo(minIdle) < 0) {
+                continue;
+            }
+            List<MapRecord<String, Object, Object>> claimed =
+                    redisRepository.xClaim(stream, group, consumerName + "-reclaim", minIdle, pending.getIdAsString());
+            for (MapRecord<String, Object, Object> record : claimed) {
+                // 처리 중 노드를 반복해서 죽이는 항목은 더 돌리지 않는다
+                if (pending.getTotalDeliveryCount() > retryPolicy.attempts()) {
+                    log.error("전달 횟수 초과, DLT로 이동: stream={}, recordId={}, deliveries={}",
+                            stream, record.getId(), pending.getTotalDeliveryCount());
+                    deadLetter(stream, String.valueOf(record.getValue().get(FIELD_PAYLOAD)));
+                    redisRepository.xAckAndDelete(stream, group, record.getId().getValue());
+                    continue;
+                }
+                log.warn("ACK 되지 않은 항목 재처리: stream={}, recordId={}, deliveries={}",
+                        stream, record.getId(), pending.getTotalDeliveryCount());
+                reclaimWorkers.execute(() -> onRecord(stream, record.getId().getValue(), record.getValue()));
+            }
+        }
+    }
+}
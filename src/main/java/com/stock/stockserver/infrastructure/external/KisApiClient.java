@@ -1,11 +1,19 @@
 package com.stock.stockserver.infrastructure.external;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
 import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.AnalysisTimeline;
 import com.stock.stockserver.dto.DailyPriceDto;
 import com.stock.stockserver.dto.VolumeRankDto;
+import com.stock.stockserver.infrastructure.logging.LogPayloads;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import com.stock.stockserver.infrastructure.profiling.KisCallEvent;
+import com.stock.stockserver.infrastructure.profiling.KisPermitWaitEvent;
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.retry.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +22,7 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.DayOfWeek;
 import java.time.Duration;
@@ -24,6 +33,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.springframework.http.HttpMethod.valueOf;
 
@@ -47,12 +57,14 @@ public class KisApiClient {
     private final String TOKEN_PATH = "/oauth2/tokenP";
     private static final String ACCESS_TOKEN_KEY = "kis:access-token";
     private static final Duration ACCESS_TOKEN_TTL = Duration.ofHours(6);
+    private static final String DOMESTIC_EXCHANGE = "KRX";
 
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final RedisRepository redisRepository;
     private final RateLimiter kisRateLimiter;
     private final Retry kisApiRetry;
+    private final PipelineMetrics pipelineMetrics;
 
 
     /**
@@ -90,7 +102,7 @@ public class KisApiClient {
 
         try {
             String queryString = buildQueryString(params);
-            Map<String, Object> response = callApi("GET", endpoint, queryString, trId);
+            Map<String, Object> response = callApi("GET", endpoint, queryString, trId, DOMESTIC_EXCHANGE, null);
 
             List<VolumeRankDto> results = new ArrayList<>();
             if (response.containsKey("output")) {
@@ -115,10 +127,14 @@ public class KisApiClient {
                 }
             }
 
-            log.info("거래량 Top 10 조회 성공");
-            log.info("KIS Response: {}", results);
+            log.info("거래량 Top 10 조회 성공: {}건", results.size());
+            if (log.isDebugEnabled()) {
+                log.debug("거래량 Top 10 종목: {}", results.stream().map(VolumeRankDto::stockCode).toList());
+            }
             return results;
 
+        } catch (AnalysisDeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("거래량 순위 조회 실패", e);
             return List.of();
@@ -154,7 +170,7 @@ public class KisApiClient {
 
             try {
                 String queryString = buildQueryString(params);
-                Map<String, Object> response = callApi("GET", endpoint, queryString, trId);
+                Map<String, Object> response = callApi("GET", endpoint, queryString, trId, exchange, null);
 
                 if (response.containsKey("output2")) {
                     List<Map<String, Object>> output = (List<Map<String, Object>>) response.get("output2");
@@ -174,6 +190,8 @@ public class KisApiClient {
                                 .build());
                     }
                 }
+            } catch (AnalysisDeadlineExceededException e) {
+                throw e;
             } catch (Exception e) {
                 log.error("해외주식 거래량 순위 조회 실패: exchange={}", exchange, e);
             }
@@ -201,7 +219,10 @@ public class KisApiClient {
                         .build());
         }
 
-        log.info("해외주식 거래량 Top 10 조회 성공: exchanges={}, selectedResults={}", overseasExchanges, topResults);
+        log.info("해외주식 거래량 Top 10 조회 성공: exchanges={}, {}건", overseasExchanges, topResults.size());
+        if (log.isDebugEnabled()) {
+            log.debug("해외주식 거래량 Top 10 종목: {}", topResults.stream().map(VolumeRankDto::stockCode).toList());
+        }
         return topResults;
     }
 
@@ -250,35 +271,15 @@ public class KisApiClient {
 
         try {
             String queryString = buildQueryString(params);
-            Map<String, Object> response = callApi("GET", endpoint, queryString, trId);
-
-            List<DailyPriceDto> results = new ArrayList<>();
-
-            if (response.containsKey("output2")) {
-                List<Map<String, Object>> output =
-                        (List<Map<String, Object>>) response.get("output2");
-
-                for (Map<String, Object> item : output) {
-                    LocalDate tradeDate = LocalDate.parse(
-                            (String) item.get("stck_bsop_date"),
-                            DateTimeFormatter.BASIC_ISO_DATE
-                    );
-
-                    results.add(DailyPriceDto.builder()
-                            .stockCode(stockCode)
-                            .tradeDate(tradeDate)
-                            .openPrice(Double.parseDouble((String) item.get("stck_oprc")))
-                            .closePrice(Double.parseDouble((String) item.get("stck_clpr")))
-                            .highPrice(Double.parseDouble((String) item.get("stck_hgpr")))
-                            .lowPrice(Double.parseDouble((String) item.get("stck_lwpr")))
-                            .volume(Long.parseLong((String) item.get("acml_vol")))
-                            .build());
-                }
-            }
+            Map<String, Object> response = callApi("GET", endpoint, queryString, trId, DOMESTIC_EXCHANGE, stockCode);
+
+            List<DailyPriceDto> results = toDomesticDailyPrices(stockCode, response);
 
             log.info("일봉 조회 성공: {} ~ {}", startDate, endDate);
             return results;
 
+        } catch (AnalysisDeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("일봉 데이터 조회 실패: {}", stockCode, e);
             return List.of();
@@ -303,42 +304,82 @@ public class KisApiClient {
 
         try {
             String queryString = buildQueryString(params);
-            Map<String, Object> response = callApi("GET", endpoint, queryString, trId);
-
-            List<DailyPriceDto> results = new ArrayList<>();
-
-            if (response.containsKey("output2")) {
-                List<Map<String, Object>> output =
-                        (List<Map<String, Object>>) response.get("output2");
-
-                for (Map<String, Object> item : output) {
-                    LocalDate tradeDate = LocalDate.parse(
-                            valueAsString(item.get("xymd")),
-                            DateTimeFormatter.BASIC_ISO_DATE
-                    );
-
-                    results.add(DailyPriceDto.builder()
-                            .stockCode(stockCode)
-                            .tradeDate(tradeDate)
-                            .openPrice(parseDouble(item.get("open")))
-                            .closePrice(parseDouble(item.get("clos")))
-                            .highPrice(parseDouble(item.get("high")))
-                            .lowPrice(parseDouble(item.get("low")))
-                            .volume(parseLong(item.get("tvol")))
-                            .build());
-                }
-            }
+            Map<String, Object> response = callApi("GET", endpoint, queryString, trId, exchangeCode, stockCode);
+
+            List<DailyPriceDto> results = toOverseasDailyPrices(stockCode, response);
 
             log.info("해외주식 일봉 조회 성공: exchange={}, stockCode={}, count={}",
                     exchangeCode, stockCode, results.size());
             return results.stream().limit(days).toList();
 
+        } catch (AnalysisDeadlineExceededException e) {
+            throw e;
         } catch (Exception e) {
             log.error("해외주식 일봉 데이터 조회 실패: exchange={}, stockCode={}", exchangeCode, stockCode, e);
             return List.of();
         }
     }
 
+    /**
+     * 국내 일봉 응답(output2) → DailyPriceDto
+     */
+    List<DailyPriceDto> toDomesticDailyPrices(String stockCode, Map<String, Object> response) {
+        List<DailyPriceDto> results = new ArrayList<>();
+
+        if (response.containsKey("output2")) {
+            List<Map<String, Object>> output =
+                    (List<Map<String, Object>>) response.get("output2");
+
+            for (Map<String, Object> item : output) {
+                LocalDate tradeDate = LocalDate.parse(
+                        (String) item.get("stck_bsop_date"),
+                        DateTimeFormatter.BASIC_ISO_DATE
+                );
+
+                results.add(DailyPriceDto.builder()
+                        .stockCode(stockCode)
+                        .tradeDate(tradeDate)
+                        .openPrice(Double.parseDouble((String) item.get("stck_oprc")))
+                        .closePrice(Double.parseDouble((String) item.get("stck_clpr")))
+                        .highPrice(Double.parseDouble((String) item.get("stck_hgpr")))
+                        .lowPrice(Double.parseDouble((String) item.get("stck_lwpr")))
+                        .volume(Long.parseLong((String) item.get("acml_vol")))
+                        .build());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 해외 일봉 응답(output2) → DailyPriceDto
+     */
+    List<DailyPriceDto> toOverseasDailyPrices(String stockCode, Map<String, Object> response) {
+        List<DailyPriceDto> results = new ArrayList<>();
+
+        if (response.containsKey("output2")) {
+            List<Map<String, Object>> output =
+                    (List<Map<String, Object>>) response.get("output2");
+
+            for (Map<String, Object> item : output) {
+                LocalDate tradeDate = LocalDate.parse(
+                        valueAsString(item.get("xymd")),
+                        DateTimeFormatter.BASIC_ISO_DATE
+                );
+
+                results.add(DailyPriceDto.builder()
+                        .stockCode(stockCode)
+                        .tradeDate(tradeDate)
+                        .openPrice(parseDouble(item.get("open")))
+                        .closePrice(parseDouble(item.get("clos")))
+                        .highPrice(parseDouble(item.get("high")))
+                        .lowPrice(parseDouble(item.get("low")))
+                        .volume(parseLong(item.get("tvol")))
+                        .build());
+            }
+        }
+        return results;
+    }
+
     private LocalDate getLastTradingDate() {
         LocalDate today = LocalDate.now();
         LocalTime now = LocalTime.now();
@@ -358,34 +399,87 @@ public class KisApiClient {
     }
 
     private Map<String, Object> callApi(String method, String endpoint,
-                                        String queryString, String trId)
+                                        String queryString, String trId, String exchange, String stockCode)
             throws Exception {
 
         String fullUrl = queryString != null && !queryString.isEmpty()
                 ? baseUrl + endpoint + "?" + queryString
                 : baseUrl + endpoint;
 
+        AnalysisDeadline deadline = AnalysisDeadline.current();
+        deadline.checkNotExpired("KIS " + trId);
         String accessToken = getAccessToken();
 
+        AnalysisTimeline.Stage stage = AnalysisTimeline.currentStage();
+        AtomicInteger attempts = new AtomicInteger();
+        KisCallEvent callEvent = KisCallEvent.start(exchange, trId, stockCode);
+        long start = System.nanoTime();
+        String outcome = PipelineMetrics.FAILURE;
         try {
-            String responseBody = Retry.decorateSupplier(kisApiRetry,
-                    RateLimiter.decorateSupplier(kisRateLimiter,
-                            () -> executeApiCall(method, fullUrl, endpoint, trId, accessToken)
-                    )
-            ).get();
-
-            return objectMapper.readValue(responseBody, Map.class);
+            // 재시도마다 permit을 받기 전에 마감 시각을 확인해, 초과한 작업이 permit을 소모하지 않도록 한다
+            String responseBody = Retry.decorateSupplier(kisApiRetry, () -> {
+                deadline.checkNotExpired("KIS " + trId);
+                if (attempts.incrementAndGet() > 1) {
+                    stage.retry();
+                }
+                long permitRequestedAt = System.nanoTime();
+                KisPermitWaitEvent permitEvent = KisPermitWaitEvent.start(exchange, trId, stockCode);
+                acquirePermit(deadline, trId);
+                permitEvent.finish();
+                long permitWait = System.nanoTime() - permitRequestedAt;
+                pipelineMetrics.recordKisPermitWait(exchange, permitWait);
+                stage.addWait(permitWait);
+                return executeApiCall(method, fullUrl, endpoint, trId, accessToken, deadline);
+            }).get();
+
+            Map<String, Object> response = objectMapper.readValue(responseBody, Map.class);
+            outcome = PipelineMetrics.SUCCESS;
+            return response;
+        } catch (AnalysisDeadlineExceededException e) {
+            outcome = PipelineMetrics.DEADLINE;
+            log.warn("KIS API 호출 중단 (마감 시각 초과): endpoint={}, trId={}", endpoint, trId);
+            throw e;
         } catch (WebClientResponseException e) {
+            outcome = "http_" + e.getStatusCode().value();
             log.error("API 호출 실패: method={}, endpoint={}, trId={}, status={}, body={}",
-                    method, endpoint, trId, e.getStatusCode(), e.getResponseBodyAsString(), e);
+                    method, endpoint, trId, e.getStatusCode(), LogPayloads.truncate(e.getResponseBodyAsString()), e);
             throw e;
         } catch (Exception e) {
             log.error("API 호출 실패: {} {}", method, endpoint, e);
             throw e;
+        } finally {
+            pipelineMetrics.recordKisCall(exchange, trId, outcome, System.nanoTime() - start);
+            callEvent.finish(outcome, Math.max(0, attempts.get() - 1));
         }
     }
 
-    private String executeApiCall(String method, String fullUrl, String endpoint, String trId, String accessToken) {
+    /**
+     * permit 대기를 min(rate-limit.timeout-ms, 마감까지 남은 시간)으로 제한한다.
+     * RateLimiter 기본 대기는 timeout-ms 만 보므로, 마감 직전 작업도 최대 timeout-ms 동안 스레드를 잡고 있게 된다.
+     * timeout-ms 안에 받을 수 없으면 RequestNotPermitted, 마감 전에 받을 수 없으면 마감 초과로 중단한다.
+     * (마감 초과로 중단할 때는 이미 예약된 permit 1개가 그대로 소모된다)
+     */
+    private void acquirePermit(AnalysisDeadline deadline, String trId) {
+        Duration maxWait = deadline.cap(kisRateLimiter.getRateLimiterConfig().getTimeoutDuration());
+        long nanosToWait = kisRateLimiter.reservePermission();
+        if (nanosToWait < 0) {
+            throw RequestNotPermitted.createRequestNotPermitted(kisRateLimiter);
+        }
+        if (nanosToWait > maxWait.toNanos()) {
+            throw deadline.exceeded("KIS " + trId + " permit 대기");
+        }
+        if (nanosToWait > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(nanosToWait));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw deadline.exceeded("KIS " + trId + " permit 대기");
+            }
+        }
+    }
+
+    private String executeApiCall(String method, String fullUrl, String endpoint, String trId,
+                                  String accessToken, AnalysisDeadline deadline) {
         return webClient.method(valueOf(method))
                 .uri(fullUrl)
                 .header("Authorization", "Bearer " + accessToken)
@@ -397,7 +491,8 @@ public class KisApiClient {
                 .bodyToMono(String.class)
                 .doOnError(WebClientResponseException.class, e ->
                         log.warn("KIS API 응답 오류: endpoint={}, trId={}, status={}, body={}",
-                                endpoint, trId, e.getStatusCode(), e.getResponseBodyAsString()))
+                                endpoint, trId, e.getStatusCode(), LogPayloads.truncate(e.getResponseBodyAsString())))
+                .timeout(deadline.remaining(), Mono.error(() -> deadline.exceeded("KIS " + trId)))
                 .block();
     }
 
@@ -409,7 +504,11 @@ public class KisApiClient {
         return fetchNewAccessToken();
     }
 
+    /**
+     * 토큰 발급도 분석 작업의 마감 시각을 넘기지 않는다. (작업 밖에서는 기본 타임아웃)
+     */
     private String fetchNewAccessToken() {
+        AnalysisDeadline deadline = AnalysisDeadline.current();
         Map<String, String> requestBody = Map.of(
                 "grant_type", "client_credentials",
                 "appkey", appKey,
@@ -424,6 +523,7 @@ public class KisApiClient {
                 .bodyValue(requestBody)
                 .retrieve()
                 .bodyToMono(Map.class)
+                .timeout(deadline.remaining(), Mono.error(() -> deadline.exceeded("KIS 토큰 발급")))
                 .block();
 
         if (response == null) {
@@ -440,7 +540,7 @@ public class KisApiClient {
         return accessToken;
     }
 
-    private String buildQueryString(Map<String, String> params) {
+    String buildQueryString(Map<String, String> params) {
         StringBuilder sb = new StringBuilder();
         boolean first = true;
 
@@ -461,7 +561,7 @@ public class KisApiClient {
         return value == null ? null : String.valueOf(value).trim();
     }
 
-    private Double parseDouble(Object value) {
+    Double parseDouble(Object value) {
         String text = valueAsString(value);
         if (text == null || text.isBlank()) {
             return 0.0;
@@ -469,7 +569,7 @@ public class KisApiClient {
         return Double.parseDouble(text.replace(",", ""));
     }
 
-    private Long parseLong(Object value) {
+    Long parseLong(Object value) {
         String text = valueAsString(value);
         if (text == null || text.isBlank()) {
             return 0L;
@@ -2,9 +2,13 @@ package com.stock.stockserver.infrastructure.external;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
+import com.stock.stockserver.domain.AnalysisTimeline;
 import com.stock.stockserver.domain.RecommendationStatus;
 import com.stock.stockserver.dto.LLMAnalysisResponseDto;
 import com.stock.stockserver.dto.StockDataDto;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
+import com.stock.stockserver.infrastructure.profiling.LlmCallEvent;
 import com.stock.stockserver.infrastructure.strategy.LLMAnalysisStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +28,7 @@ public class LLMApiClient {
 
     private final Map<String, LLMAnalysisStrategy> strategies;
     private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
 
     @Cacheable(
             cacheNames = "llmAnalysisCache",
@@ -46,6 +51,9 @@ public class LLMApiClient {
         } catch (LLMTruncatedException e) {
             log.error("LLM 응답이 max_tokens로 잘렸습니다 — fallback 생략하고 DLT로 전파: {}", stockData.stockCode());
             throw e;
+        } catch (AnalysisDeadlineExceededException e) {
+            log.warn("분석 마감 시각 초과 — fallback 생략: {}", stockData.stockCode());
+            throw e;
         } catch (Exception e) {
             log.warn("Primary LLM 실패, fallback 시도: {} - {}", stockData.stockCode(), e.getMessage());
 
@@ -53,6 +61,8 @@ public class LLMApiClient {
             if (fallbackStrategy != null) {
                 try {
                     return executeAnalysis(fallbackStrategy, stockData);
+                } catch (AnalysisDeadlineExceededException deadlineException) {
+                    throw deadlineException;
                 } catch (Exception fallbackException) {
                     log.error("Fallback LLM도 실패: {} - {}", stockData.stockCode(), fallbackException.getMessage());
                     return createErrorResponse(
@@ -67,13 +77,38 @@ public class LLMApiClient {
     }
 
     private LLMAnalysisResponseDto executeAnalysis(LLMAnalysisStrategy strategy, StockDataDto stockData) {
-        String analysisText = strategy.analyze(stockData);
+        String providerName = strategy.getProviderName();
+        // fallback 은 같은 종목의 두 번째 llm 단계로 남는다
+        AnalysisTimeline.Stage stage = AnalysisTimeline.current()
+                .start(AnalysisTimeline.LLM, stockData.stockCode())
+                .provider(providerName);
+        LlmCallEvent callEvent = LlmCallEvent.start(providerName, stockData.stockCode());
+        long start = System.nanoTime();
+        long responseLength = 0;
+        String outcome = PipelineMetrics.FAILURE;
+        try {
+            String analysisText = strategy.analyze(stockData);
 
-        if (analysisText == null) {
-            throw new IllegalStateException("Analysis returned null");
-        }
+            if (analysisText == null) {
+                throw new IllegalStateException("Analysis returned null");
+            }
+            responseLength = analysisText.length();
+            pipelineMetrics.recordLlmResponseSize(providerName, analysisText.length());
 
-        return parseLLMResponse(analysisText);
+            LLMAnalysisResponseDto response = parseLLMResponse(analysisText);
+            outcome = response.recommendation() == RecommendationStatus.ERROR ? "parse_error" : PipelineMetrics.SUCCESS;
+            return response;
+        } catch (LLMTruncatedException e) {
+            outcome = "truncated";
+            throw e;
+        } catch (AnalysisDeadlineExceededException e) {
+            outcome = PipelineMetrics.DEADLINE;
+            throw e;
+        } finally {
+            pipelineMetrics.recordLlmCall(providerName, outcome, System.nanoTime() - start);
+            stage.end(outcome);
+            callEvent.finish(outcome, responseLength);
+        }
     }
 
     private LLMAnalysisStrategy getFallbackStrategy(LLMAnalysisStrategy primaryStrategy) {
@@ -97,7 +132,7 @@ public class LLMApiClient {
                 .build();
     }
 
-    private LLMAnalysisResponseDto parseLLMResponse(String fullText) {
+    LLMAnalysisResponseDto parseLLMResponse(String fullText) {
         try {
             int jsonStart = fullText.lastIndexOf("{");
             if (jsonStart == -1) {
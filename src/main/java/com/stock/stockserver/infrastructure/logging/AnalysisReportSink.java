@@ -0,0 +1,155 @@
+package com.stock.stockserver.infrastructure.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.entity.LLMAnalysisResult;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 결과 리포트 기록.
+ *
+ * 분석 스레드는 결과 목록을 넘기기만 하고, JSON 변환과 파일 쓰기는 전용 스레드 1개가 한다.
+ * 대기열이 가득 차면 리포트를 버리고 analysis.report.dropped 로 센다. (결과 원문은 DB에 이미 저장되어 있다)
+ * 기록은 analysis.report 로거로 남기며, logback-spring.xml 이 별도 롤링 파일(analysis-report.log)로 보낸다.
+ *
+ * 작업 1건마다 요약 한 줄(type=summary)과 종목별 본문(type=result)을 JSON 한 줄씩 쓴다.
+ * 본문은 body-sample-rate 비율만 남기고 body-max-chars 에서 자른다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisReportSink {
+
+    static final String REPORT_LOGGER = "analysis.report";
+
+    private static final Logger REPORT = LoggerFactory.getLogger(REPORT_LOGGER);
+
+    private final ObjectMapper objectMapper;
+    private final PipelineMetrics pipelineMetrics;
+
+    @Value("${analysis.report.enabled:true}")
+    private boolean enabled;
+
+    @Value("${analysis.report.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${analysis.report.body-max-chars:8000}")
+    private int bodyMaxChars;
+
+    @Value("${analysis.report.body-sample-rate:1.0}")
+    private double bodySampleRate;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "analysis-report");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 리포트를 대기열에 넣고 바로 돌아온다.
+     */
+    public void submit(String analysisId, List<LLMAnalysisResult> results) {
+        if (!enabled || results.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> write(analysisId, results));
+        } catch (RejectedExecutionException e) {
+            pipelineMetrics.countReportDropped();
+        }
+    }
+
+    private void write(String analysisId, List<LLMAnalysisResult> results) {
+        if (!REPORT.isInfoEnabled()) {
+            return;
+        }
+        try {
+            for (Object record : toRecords(analysisId, results)) {
+                REPORT.info(objectMapper.writeValueAsString(record));
+            }
+        } catch (Exception e) {
+            log.warn("분석 리포트 기록 실패: analysisId={}, error={}", analysisId, e.getMessage());
+        }
+    }
+
+    List<Object> toRecords(String analysisId, List<LLMAnalysisResult> results) {
+        List<SummaryRecord.Item> items = results.stream()
+                .map(result -> new SummaryRecord.Item(result.getStockCode(), result.getStockName(),
+                        String.valueOf(result.getRecommendation()), result.getConfidence()))
+                .toList();
+
+        List<Object> records = new ArrayList<>(results.size() + 1);
+        records.add(new SummaryRecord("summary", analysisId, results.size(), items));
+        for (LLMAnalysisResult result : results) {
+            if (sampled()) {
+                records.add(toResultRecord(analysisId, result));
+            }
+        }
+        return records;
+    }
+
+    private ResultRecord toResultRecord(String analysisId, LLMAnalysisResult result) {
+        String analysis = result.getLlmAnalysis();
+        int length = analysis != null ? analysis.length() : 0;
+        boolean truncated = length > bodyMaxChars;
+        return new ResultRecord("result", analysisId, result.getStockCode(), result.getStockName(),
+                String.valueOf(result.getTarget()), String.valueOf(result.getRecommendation()), result.getConfidence(),
+                length, truncated, truncated ? analysis.substring(0, bodyMaxChars) : analysis);
+    }
+
+    private boolean sampled() {
+        return bodySampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < bodySampleRate;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            log.warn("분석 리포트 대기열을 모두 기록하지 못하고 종료합니다: 남은 리포트={}", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    record SummaryRecord(String type, String analysisId, int count, List<Item> results) {
+
+        record Item(String stockCode, String stockName, String recommendation, Double confidence) {
+        }
+    }
+
+    record ResultRecord(
+            String type,
+            String analysisId,
+            String stockCode,
+            String stockName,
+            String target,
+            String recommendation,
+            Double confidence,
+            int analysisLength,
+            boolean truncated,
+            String analysis
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.stock.stockserver.infrastructure.logging;
+
+/**
+ * 로그에 남길 외부 응답/메시지 원문을 일정 길이로 자른다.
+ * 원문 전체는 로그 대신 DB(실패 메시지, 분석 결과)나 분석 리포트 파일에 남긴다.
+ */
+public final class LogPayloads {
+
+    public static final int DEFAULT_MAX_CHARS = 512;
+
+    private LogPayloads() {
+    }
+
+    public static String truncate(Object payload) {
+        return truncate(payload, DEFAULT_MAX_CHARS);
+    }
+
+    public static String truncate(Object payload, int maxChars) {
+        if (payload == null) {
+            return null;
+        }
+        String text = payload.toString();
+        if (text.length() <= maxChars) {
+            return text;
+        }
+        return text.substring(0, maxChars) + "...(+" + (text.length() - maxChars) + " chars)";
+    }
+}
@@ -0,0 +1,139 @@
+package com.stock.stockserver.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 파이프라인 단계별 지표. (/actuator/prometheus)
+ *
+ * 호출부는 측정한 값만 넘기고, 이름/태그는 여기서 한곳에 정한다.
+ * 캐시 hit/miss는 RedisCacheManager 통계를 actuator가 cache.gets 로 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    public static final String DEADLINE = "deadline";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * KIS API 호출 1건 (rate limit 대기와 재시도 포함)
+     */
+    public void recordKisCall(String exchange, String trId, String outcome, long elapsedNanos) {
+        Timer.builder("kis.api.calls")
+                .tag("exchange", exchange)
+                .tag("tr_id", trId)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * rate limiter permit 을 받기까지 기다린 시간 (재시도마다 기록)
+     */
+    public void recordKisPermitWait(String exchange, long elapsedNanos) {
+        Timer.builder("kis.ratelimiter.wait")
+                .tag("exchange", exchange)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void countKisRetry() {
+        Counter.builder("kis.api.retries")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void recordLlmCall(String provider, String outcome, long elapsedNanos) {
+        Timer.builder("llm.analysis")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLlmPromptSize(String provider, int chars) {
+        DistributionSummary.builder("llm.prompt.size")
+                .baseUnit("chars")
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .record(chars);
+    }
+
+    public void recordLlmResponseSize(String provider, int chars) {
+        DistributionSummary.builder("llm.response.size")
+                .baseUnit("chars")
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .record(chars);
+    }
+
+    /**
+     * 현재 트랜잭션이 끝나는 시점(커밋/롤백 포함)까지를 저장 시간으로 기록한다.
+     * 트랜잭션 메서드 시작 시 호출한다. 트랜잭션 밖이면 아무것도 기록하지 않는다.
+     */
+    public void recordDbSaveOnCompletion(String entity, int rows) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        long start = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                String outcome = status == STATUS_COMMITTED ? SUCCESS : FAILURE;
+                Timer.builder("db.save")
+                        .tag("entity", entity)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                DistributionSummary.builder("db.save.rows")
+                        .tag("entity", entity)
+                        .register(meterRegistry)
+                        .record(rows);
+            }
+        });
+    }
+
+    /**
+     * 대기열이 가득 차 기록하지 못하고 버린 분석 리포트 (AnalysisReportSink)
+     */
+    public void countReportDropped() {
+        Counter.builder("analysis.report.dropped")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 요청 발행부터 consumer가 처리를 시작할 때까지 (브로커 대기 시간)
+     */
+    public void recordQueueLatency(String target, Duration latency) {
+        Timer.builder("analysis.queue.latency")
+                .tag("target", target)
+                .register(meterRegistry)
+                .record(latency.isNegative() ? Duration.ZERO : latency);
+    }
+
+    /**
+     * 요청 발행부터 처리 종료까지. fan-out 모드(mode=fan-out)는 종목 작업 항목 배포까지다.
+     */
+    public void recordJobDuration(String target, String mode, String outcome, Duration duration) {
+        Timer.builder("analysis.job.duration")
+                .tag("target", target)
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(duration.isNegative() ? Duration.ZERO : duration);
+    }
+}
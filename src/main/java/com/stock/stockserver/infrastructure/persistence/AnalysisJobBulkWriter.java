@@ -0,0 +1,96 @@
+package com.stock.stockserver.infrastructure.persistence;
+
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * analysis_jobs 대량 upsert (write-behind flush 전용).
+ *
+ * analysisId를 직접 할당하는 엔티티라 JPA saveAll은 행마다 SELECT 후 INSERT/UPDATE를 실행한다.
+ * flush 시에는 상태 변경을 모아 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 기록한다.
+ *
+ * 모든 노드가 flush 하므로, 느린 노드가 먼저 읽은 RUNNING 이 다른 노드가 쓴 DONE 을 덮지 않도록
+ * Redis 에 기록된 updated_at 이 DB 행보다 오래되지 않았을 때만 상태를 바꾼다.
+ * (MySQL 은 SET 절을 왼쪽부터 적용하므로 updated_at 은 마지막에 바꾼다)
+ * timeline 은 작업 종료 후에만 해시에 담기므로, 값이 없으면 DB 에 있는 값을 그대로 둔다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class AnalysisJobBulkWriter {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO analysis_jobs
+                (analysis_id, status, error_message, timeline, created_at, updated_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+
+            ON DUPLICATE KEY UPDATE
+                status = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at, VALUES(status), status),
+                error_message = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at, VALUES(error_message), error_message),
+                timeline = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at, COALESCE(VALUES(timeline), timeline), timeline),
+                updated_at = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at, VALUES(updated_at), updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실행한 SQL 문장 수 (DB 왕복 횟수)
+     */
+    public int upsertAll(List<AnalysisJob> jobs) {
+        if (jobs == null || jobs.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int statements = 0;
+
+        for (int from = 0; from < jobs.size(); from += ROWS_PER_STATEMENT) {
+            List<AnalysisJob> chunk = jobs.subList(from, Math.min(from + ROWS_PER_STATEMENT, jobs.size()));
+            jdbcTemplate.update(buildSql(chunk.size()), toArgs(chunk, now));
+            statements++;
+        }
+
+        log.debug("analysis_jobs upsert 완료: rows={}, statements={}", jobs.size(), statements);
+        return statements;
+    }
+
+    static String buildSql(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2) + UPSERT_SUFFIX.length());
+        sb.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(ROW_PLACEHOLDER);
+        }
+        sb.append(UPSERT_SUFFIX);
+        return sb.toString();
+    }
+
+    // 시각은 Redis 에 기록된 값을 쓰고, 없을 때만 flush 시각으로 채운다
+    private Object[] toArgs(List<AnalysisJob> chunk, Timestamp now) {
+        List<Object> args = new ArrayList<>(chunk.size() * 6);
+        for (AnalysisJob job : chunk) {
+            args.add(job.getAnalysisId());
+            args.add(job.getStatus().name());
+            args.add(job.getErrorMessage());
+            args.add(job.getTimeline());
+            args.add(job.getCreatedAt() != null ? Timestamp.valueOf(job.getCreatedAt()) : now);
+            args.add(job.getUpdatedAt() != null ? Timestamp.valueOf(job.getUpdatedAt()) : now);
+        }
+        return args.toArray();
+    }
+}
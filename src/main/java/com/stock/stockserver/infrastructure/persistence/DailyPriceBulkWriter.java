@@ -0,0 +1,98 @@
+package com.stock.stockserver.infrastructure.persistence;
+
+import com.stock.stockserver.dto.DailyPriceDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * daily_prices 대량 upsert.
+ *
+ * DailyPrice는 IDENTITY 전략이라 Hibernate JDBC 배치가 동작하지 않으므로,
+ * (stock_code, trade_date) 유니크 키 기준 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 직접 기록한다.
+ * 한 문장에 최대 {@link #ROWS_PER_STATEMENT}행을 담아 전체 종목의 일봉도 몇 번의 왕복으로 끝낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class DailyPriceBulkWriter {
+
+    static final int ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO daily_prices
+                (stock_code, trade_date, open_price, close_price, high_price, low_price, volume, created_at, updated_at)
+            VALUES
+            """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+
+            ON DUPLICATE KEY UPDATE
+                open_price = VALUES(open_price),
+                close_price = VALUES(close_price),
+                high_price = VALUES(high_price),
+                low_price = VALUES(low_price),
+                volume = VALUES(volume),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 실행한 SQL 문장 수 (DB 왕복 횟수)
+     */
+    public int upsertAll(List<DailyPriceDto> dailyPrices) {
+        if (dailyPrices == null || dailyPrices.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int statements = 0;
+
+        for (int from = 0; from < dailyPrices.size(); from += ROWS_PER_STATEMENT) {
+            List<DailyPriceDto> chunk = dailyPrices.subList(from, Math.min(from + ROWS_PER_STATEMENT, dailyPrices.size()));
+            jdbcTemplate.update(buildSql(chunk.size()), toArgs(chunk, now));
+            statements++;
+        }
+
+        log.debug("daily_prices upsert 완료: rows={}, statements={}", dailyPrices.size(), statements);
+        return statements;
+    }
+
+    static String buildSql(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW_PLACEHOLDER.length() + 2) + UPSERT_SUFFIX.length());
+        sb.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(ROW_PLACEHOLDER);
+        }
+        sb.append(UPSERT_SUFFIX);
+        return sb.toString();
+    }
+
+    private Object[] toArgs(List<DailyPriceDto> chunk, Timestamp now) {
+        List<Object> args = new ArrayList<>(chunk.size() * 9);
+        for (DailyPriceDto dto : chunk) {
+            args.add(dto.stockCode());
+            args.add(Date.valueOf(dto.tradeDate()));
+            args.add(BigDecimal.valueOf(dto.openPrice()));
+            args.add(BigDecimal.valueOf(dto.closePrice()));
+            args.add(BigDecimal.valueOf(dto.highPrice()));
+            args.add(BigDecimal.valueOf(dto.lowPrice()));
+            args.add(dto.volume());
+            args.add(now);
+            args.add(now);
+        }
+        return args.toArray();
+    }
+}
@@ -1,15 +1,53 @@
 package com.stock.stockserver.infrastructure.persistence;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class RedisRepository {
 
+    // 값이 기대한 값(소유자 토큰)일 때만 만료 시간을 갱신/삭제한다
+    private static final DefaultRedisScript<Long> COMPARE_AND_EXPIRE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final DefaultRedisScript<Long> COMPARE_AND_DELETE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    // 전역 시퀀스(INCR)를 score 로 기록한다. 노드 간 시계 차이나 같은 밀리초 안의 변경에도 score 가 항상 바뀐다
+    private static final DefaultRedisScript<Long> ZADD_NEXT_SEQUENCE = new DefaultRedisScript<>(
+            "local seq = redis.call('incr', KEYS[2]) redis.call('zadd', KEYS[1], seq, ARGV[1]) return seq",
+            Long.class);
+    // ARGV = member, score 쌍. 읽은 뒤 score 가 바뀐(다시 변경된) 멤버는 남긴다
+    private static final DefaultRedisScript<Long> COMPARE_AND_ZREM = new DefaultRedisScript<>(
+            "local removed = 0 "
+                    + "for i = 1, #ARGV, 2 do "
+                    + "local score = redis.call('zscore', KEYS[1], ARGV[i]) "
+                    + "if score and tonumber(score) == tonumber(ARGV[i + 1]) then "
+                    + "removed = removed + redis.call('zrem', KEYS[1], ARGV[i]) end "
+                    + "end "
+                    + "return removed",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public String get(String key) {
@@ -23,4 +61,251 @@ public class RedisRepository {
     public void set(String key, String value, Duration ttl) {
         redisTemplate.opsForValue().set(key, value, ttl);
     }
+
+    /**
+     * SET NX PX. 키가 없을 때만 기록한다.
+     */
+    public boolean setIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, ttl));
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    public boolean compareAndExpire(String key, String expected, Duration ttl) {
+        Long result = redisTemplate.execute(COMPARE_AND_EXPIRE, List.of(key), expected, String.valueOf(ttl.toMillis()));
+        return result != null && result > 0;
+    }
+
+    public boolean compareAndDelete(String key, String expected) {
+        Long result = redisTemplate.execute(COMPARE_AND_DELETE, List.of(key), expected);
+        return result != null && result > 0;
+    }
+
+    public void zAdd(String key, String member, double score) {
+        redisTemplate.opsForZSet().add(key, member, score);
+    }
+
+    public Set<String> zRangeByScore(String key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScore(key, min, max);
+    }
+
+    /**
+     * sequenceKey 를 INCR 한 값을 score 로 member 를 추가(갱신)한다.
+     */
+    public long zAddNextSequence(String key, String sequenceKey, String member) {
+        Long seq = redisTemplate.execute(ZADD_NEXT_SEQUENCE, List.of(key, sequenceKey), member);
+        return seq != null ? seq : 0;
+    }
+
+    /**
+     * @return member → score (score 오름차순)
+     */
+    public Map<String, Double> zRangeWithScores(String key) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(key, 0, -1);
+        Map<String, Double> result = new LinkedHashMap<>();
+        if (tuples != null) {
+            tuples.forEach(tuple -> result.put(tuple.getValue(), tuple.getScore()));
+        }
+        return result;
+    }
+
+    /**
+     * score 가 읽은 값 그대로인 멤버만 지운다. (스크립트 1회)
+     *
+     * @return 지운 멤버 수
+     */
+    public long zRemoveIfScoreUnchanged(String key, Map<String, Double> members) {
+        if (members.isEmpty()) {
+            return 0;
+        }
+        String[] args = new String[members.size() * 2];
+        int i = 0;
+        for (Map.Entry<String, Double> member : members.entrySet()) {
+            args[i++] = member.getKey();
+            args[i++] = String.valueOf(member.getValue().longValue());
+        }
+        Long removed = redisTemplate.execute(COMPARE_AND_ZREM, List.of(key), (Object[]) args);
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * @return 이번 호출에서 제거했으면 true (여러 노드가 같은 멤버를 가져가려 할 때 한 노드만 true)
+     */
+    public boolean zRemove(String key, String member) {
+        Long removed = redisTemplate.opsForZSet().remove(key, member);
+        return removed != null && removed > 0;
+    }
+
+    public String hGet(String key, String field) {
+        return redisTemplate.<String, String>opsForHash().get(key, field);
+    }
+
+    public Map<String, String> hGetAll(String key) {
+        return redisTemplate.<String, String>opsForHash().entries(key);
+    }
+
+    /**
+     * 여러 해시를 파이프라인으로 한 번에 조회한다. 없는 키는 빈 Map으로 반환된다.
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<String, String>> hGetAllPipelined(List<String> keys) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (String key : keys) {
+                stringConnection.hGetAll(key);
+            }
+            return null;
+        });
+        return results.stream()
+                .map(result -> (Map<String, String>) result)
+                .toList();
+    }
+
+    /**
+     * fields는 덮어쓰고 fieldsIfAbsent는 없을 때만 기록한 뒤 TTL을 갱신한다. (파이프라인 1회 왕복)
+     */
+    public void hPutAll(String key, Map<String, String> fields, Map<String, String> fieldsIfAbsent, Duration ttl) {
+        hPutAll(key, fields, fieldsIfAbsent, List.of(), ttl);
+    }
+
+    /**
+     * hPutAll 과 같고, fieldsToDelete 는 같은 파이프라인에서 지운다.
+     */
+    public void hPutAll(String key, Map<String, String> fields, Map<String, String> fieldsIfAbsent,
+                        Collection<String> fieldsToDelete, Duration ttl) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMSet(key, fields);
+            fieldsIfAbsent.forEach((field, value) -> stringConnection.hSetNX(key, field, value));
+            if (!fieldsToDelete.isEmpty()) {
+                stringConnection.hDel(key, fieldsToDelete.toArray(String[]::new));
+            }
+            stringConnection.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    public Long hIncrBy(String key, String field, long delta) {
+        return redisTemplate.<String, String>opsForHash().increment(key, field, delta);
+    }
+
+    /**
+     * 집합에 추가하고 TTL을 갱신한다. (파이프라인 1회 왕복)
+     *
+     * @return 새로 추가되었으면 true, 이미 있던 멤버면 false
+     */
+    public boolean sAdd(String key, String member, Duration ttl) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.sAdd(key, member);
+            stringConnection.expire(key, ttl.toSeconds());
+            return null;
+        });
+        return !results.isEmpty() && results.get(0) instanceof Long added && added > 0;
+    }
+
+    public Set<String> sMembers(String key) {
+        return redisTemplate.opsForSet().members(key);
+    }
+
+    public long sCard(String key) {
+        Long size = redisTemplate.opsForSet().size(key);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * 집합을 members 로 교체하고 TTL을 갱신한다. members 가 비어 있으면 키를 지운다. (파이프라인 1회 왕복)
+     */
+    public void sReplace(String key, Collection<String> members, Duration ttl) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(key);
+            if (!members.isEmpty()) {
+                stringConnection.sAdd(key, members.toArray(String[]::new));
+                stringConnection.expire(key, ttl.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 리스트 끝에 추가하고 TTL을 갱신한다. (파이프라인 1회 왕복)
+     */
+    public void rPush(String key, String value, Duration ttl) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.rPush(key, value);
+            stringConnection.expire(key, ttl.toSeconds());
+            return null;
+        });
+    }
+
+    public List<String> lRange(String key, long start, long end) {
+        return redisTemplate.opsForList().range(key, start, end);
+    }
+
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    public String xAdd(String key, Map<String, String> fields) {
+        RecordId recordId = redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(key));
+        return recordId != null ? recordId.getValue() : null;
+    }
+
+    /**
+     * 여러 항목을 파이프라인으로 한 번에 추가한다.
+     */
+    public void xAddPipelined(String key, List<Map<String, String>> entries) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Map<String, String> fields : entries) {
+                stringConnection.xAdd(key, fields);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 스트림이 없으면 함께 만든다. 그룹이 이미 있으면(BUSYGROUP) 그대로 둔다.
+     */
+    public void xGroupCreate(String key, String group) {
+        try {
+            redisTemplate.opsForStream().createGroup(key, ReadOffset.from("0"), group);
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 처리 완료한 항목을 ACK 하고 스트림에서 지운다. (파이프라인 1회 왕복)
+     */
+    public void xAckAndDelete(String key, String group, String recordId) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.xAck(key, group, RecordId.of(recordId));
+            stringConnection.xDel(key, RecordId.of(recordId));
+            return null;
+        });
+    }
+
+    public PendingMessages xPending(String key, String group, long count) {
+        return redisTemplate.opsForStream().pending(key, group, Range.unbounded(), count);
+    }
+
+    /**
+     * minIdle 이상 ACK 되지 않은 항목만 consumer 소유로 가져온다. (여러 노드가 동시에 요청해도 한 노드만 가져간다)
+     */
+    public List<MapRecord<String, Object, Object>> xClaim(String key, String group, String consumer,
+                                                          Duration minIdle, String recordId) {
+        return redisTemplate.opsForStream().claim(key, group, consumer, minIdle, RecordId.of(recordId));
+    }
 }
@@ -0,0 +1,143 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.stock.stockserver.domain.entity.AnalysisOutboxEvent;
+import com.stock.stockserver.domain.repository.AnalysisOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * outbox 테이블을 주기적으로 비워 Kafka로 전송한다.
+ *
+ * 한 배치는 세 단계로 나뉜다. DB 커넥션과 행 잠금은 앞뒤의 짧은 트랜잭션에서만 잡고, 브로커 I/O 동안에는 잡지 않는다.
+ * 1. claim   : SKIP LOCKED로 잠근 행에 이 relay 와 만료 시각(claim-ttl-ms)을 기록하고 바로 커밋
+ * 2. 전송     : 트랜잭션 밖에서 한꺼번에 send/flush 하고 ack를 기다린다 (배치 전체 send-timeout-ms)
+ * 3. 정리     : ack를 받은 행은 삭제, 실패한 행은 claim 을 풀어 다음 주기에 다시 전송
+ * relay 가 전송 도중 죽으면 claim 이 만료된 뒤 다른 relay 가 가져간다. (at-least-once, 중복은 AnalysisExecutionGuard가 걸러낸다)
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
+@ConditionalOnProperty(name = "analysis.publisher.outbox.enabled", havingValue = "true")
+@Slf4j
+public class AnalysisOutboxRelay {
+
+    private final AnalysisOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String relayId = UUID.randomUUID().toString();
+
+    @Value("${analysis.publisher.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${analysis.publisher.outbox.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    // send-timeout-ms 보다 길어야 한다. 이 시간 안에 정리하지 못한 행은 다른 relay 가 다시 전송한다
+    @Value("${analysis.publisher.outbox.claim-ttl-ms:60000}")
+    private long claimTtlMs;
+
+    public AnalysisOutboxRelay(AnalysisOutboxRepository outboxRepository,
+                               @Qualifier("outboxKafkaTemplate") KafkaTemplate<String, String> outboxKafkaTemplate,
+                               TransactionTemplate transactionTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${analysis.publisher.outbox.poll-interval-ms:200}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception e) {
+            log.error("outbox 전송 실패 (다음 주기에 재시도): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 전송 후 삭제한 행 수 (일부라도 실패하면 -1)
+     */
+    int relayBatch() {
+        List<AnalysisOutboxEvent> events = claimBatch();
+        if (events == null || events.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (AnalysisOutboxEvent event : events) {
+            sends.add(send(event));
+        }
+        outboxKafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        List<Long> sent = new ArrayList<>(events.size());
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (awaitAck(sends.get(i), events.get(i), deadline)) {
+                sent.add(events.get(i).getId());
+            } else {
+                failed.add(events.get(i).getId());
+            }
+        }
+
+        transactionTemplate.execute(status -> {
+            if (!sent.isEmpty()) {
+                outboxRepository.deleteClaimed(sent, relayId);
+            }
+            if (!failed.isEmpty()) {
+                outboxRepository.releaseClaimed(failed, relayId);
+            }
+            return null;
+        });
+
+        log.debug("outbox 전송 완료: {}/{} 건", sent.size(), events.size());
+        return failed.isEmpty() ? sent.size() : -1;
+    }
+
+    // 잠금은 claim 기록이 커밋될 때까지만 유지된다
+    private List<AnalysisOutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<AnalysisOutboxEvent> events = outboxRepository.lockClaimable(now, batchSize);
+            LocalDateTime claimedUntil = now.plus(Duration.ofMillis(claimTtlMs));
+            events.forEach(event -> event.claim(relayId, claimedUntil));
+            return events;
+        });
+    }
+
+    private CompletableFuture<?> send(AnalysisOutboxEvent event) {
+        try {
+            return outboxKafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private boolean awaitAck(CompletableFuture<?> send, AnalysisOutboxEvent event, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            log.warn("outbox 메시지 전송 실패: analysisId={}, error={}", event.getMessageKey(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.stock.stockserver.application.AnalysisRequestPublisher;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.consumer.InMemoryAnalysisDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 분석 요청을 같은 프로세스의 dispatcher 대기열에 넣는다. (analysis.broker=in-memory)
+ * 대기열에 들어가면 곧 ack 이므로 모든 발행 메서드가 같은 동작을 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "in-memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryAnalysisRequestPublisher implements AnalysisRequestPublisher {
+
+    private final InMemoryAnalysisDispatcher dispatcher;
+
+    @Override
+    public void publish(String analysisId) {
+        publish(analysisId, AnalysisTarget.ALL);
+    }
+
+    @Override
+    public void publish(String analysisId, AnalysisTarget target) {
+        dispatcher.submit(AnalysisEvent.of(analysisId, target));
+        log.info("Analysis request queued in memory: analysisId={}, target={}", analysisId, target);
+    }
+
+    @Override
+    public void publishAndWaitForAck(String analysisId) {
+        publish(analysisId, AnalysisTarget.ALL);
+    }
+
+    @Override
+    public void publishAndWaitForAck(String analysisId, AnalysisTarget target) {
+        publish(analysisId, target);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String analysisId, AnalysisTarget target) {
+        try {
+            publish(analysisId, target);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.stock.stockserver.application.AnalysisTaskPublisher;
+import com.stock.stockserver.dto.AnalysisStockTask;
+import com.stock.stockserver.infrastructure.consumer.InMemoryAnalysisDispatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "in-memory")
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryAnalysisTaskPublisher implements AnalysisTaskPublisher {
+
+    private final InMemoryAnalysisDispatcher dispatcher;
+
+    @Override
+    public void publishAll(List<AnalysisStockTask> tasks) {
+        dispatcher.submitTasks(tasks);
+
+        if (!tasks.isEmpty()) {
+            log.info("종목 작업 항목 발행 완료: analysisId={}, count={}", tasks.get(0).analysisId(), tasks.size());
+        }
+    }
+}
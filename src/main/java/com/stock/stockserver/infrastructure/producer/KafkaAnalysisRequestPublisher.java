@@ -7,10 +7,14 @@ import com.stock.stockserver.domain.AnalysisTarget;
 import com.stock.stockserver.dto.AnalysisEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaAnalysisRequestPublisher implements AnalysisRequestPublisher {
@@ -44,6 +48,14 @@ public class KafkaAnalysisRequestPublisher implements AnalysisRequestPublisher {
         log.info("Analysis request re-sent to Kafka: analysisId={}, target={}", analysisId, target);
     }
 
+    @Override
+    public CompletableFuture<Void> publishAsync(String analysisId, AnalysisTarget target) {
+        String message = toMessage(analysisId, target);
+        return kafkaTemplate.send(ANALYSIS_TOPIC, analysisId, message)
+                .thenAccept(result -> log.debug("Analysis request re-sent to Kafka: analysisId={}, target={}",
+                        analysisId, target));
+    }
+
     private String toMessage(String analysisId, AnalysisTarget target) {
         try {
             return objectMapper.writeValueAsString(AnalysisEvent.of(analysisId, target));
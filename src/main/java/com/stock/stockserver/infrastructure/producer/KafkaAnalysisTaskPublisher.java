@@ -0,0 +1,40 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisTaskPublisher;
+import com.stock.stockserver.dto.AnalysisStockTask;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaAnalysisTaskPublisher implements AnalysisTaskPublisher {
+
+    public static final String TASK_TOPIC = "analysis-stock-tasks";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publishAll(List<AnalysisStockTask> tasks) throws Exception {
+        List<CompletableFuture<?>> sends = new ArrayList<>(tasks.size());
+        for (AnalysisStockTask task : tasks) {
+            // 종목 코드를 key로 써서 항목이 파티션 전체에 고르게 퍼지도록 한다
+            sends.add(kafkaTemplate.send(TASK_TOPIC, task.stockCode(), objectMapper.writeValueAsString(task)));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get();
+
+        if (!tasks.isEmpty()) {
+            log.info("종목 작업 항목 발행 완료: analysisId={}, count={}", tasks.get(0).analysisId(), tasks.size());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisRequestPublisher;
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.domain.entity.AnalysisOutboxEvent;
+import com.stock.stockserver.domain.repository.AnalysisJobRepository;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.domain.repository.AnalysisOutboxRepository;
+import com.stock.stockserver.dto.AnalysisEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 분석 요청을 브로커 대신 outbox 테이블에 기록한다. (analysis.publisher.outbox.enabled=true)
+ *
+ * 작업 행(RUNNING)과 요청 메시지를 한 트랜잭션에 쓰므로, 응답으로 받은 analysisId는 항상 조회되고
+ * 요청이 유실되지 않는다. 브로커 전송은 AnalysisOutboxRelay가 모아서 처리하므로 API 응답 시간이 브로커와 무관하다.
+ * write-behind 모드여도 작업 행은 AnalysisJobRepository 로 이 트랜잭션에서 직접 기록하고,
+ * Redis 해시(AnalysisJobStore)는 커밋된 뒤에만 갱신해 DLT 재처리(FAILED → RUNNING) 시에도 조회 상태가 맞고
+ * 롤백되면 Redis 에 RUNNING 이 남지 않는다.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "kafka", matchIfMissing = true)
+@ConditionalOnProperty(name = "analysis.publisher.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxAnalysisRequestPublisher implements AnalysisRequestPublisher {
+
+    private static final String ANALYSIS_TOPIC = "analysis-requests";
+
+    private final AnalysisOutboxRepository outboxRepository;
+    private final AnalysisJobRepository analysisJobRepository;
+    private final AnalysisJobStore jobStore;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void publish(String analysisId) {
+        publish(analysisId, AnalysisTarget.ALL);
+    }
+
+    /**
+     * 내부 호출(publish(String), publishAsync 등)에도 트랜잭션이 걸리도록 @Transactional 대신 TransactionTemplate 을 쓴다.
+     */
+    @Override
+    public void publish(String analysisId, AnalysisTarget target) {
+        AnalysisJob job = AnalysisJob.builder()
+                .analysisId(analysisId)
+                .status(AnalysisStatus.RUNNING)
+                .errorMessage(null)
+                .build();
+        String message = toMessage(analysisId, target);
+
+        transactionTemplate.execute(status -> {
+            analysisJobRepository.save(job);
+            outboxRepository.save(AnalysisOutboxEvent.builder()
+                    .topic(ANALYSIS_TOPIC)
+                    .messageKey(analysisId)
+                    .payload(message)
+                    .build());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    jobStore.cache(job);
+                }
+            });
+            return null;
+        });
+        log.info("Analysis request written to outbox: analysisId={}, target={}", analysisId, target);
+    }
+
+    @Override
+    public void publishAndWaitForAck(String analysisId) {
+        publish(analysisId, AnalysisTarget.ALL);
+    }
+
+    /**
+     * outbox 기록(커밋)이 곧 유실되지 않는 시점이므로 브로커 ack를 기다리지 않는다.
+     */
+    @Override
+    public void publishAndWaitForAck(String analysisId, AnalysisTarget target) {
+        publish(analysisId, target);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String analysisId, AnalysisTarget target) {
+        publish(analysisId, target);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private String toMessage(String analysisId, AnalysisTarget target) {
+        try {
+            return objectMapper.writeValueAsString(AnalysisEvent.of(analysisId, target));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("분석 요청 메시지 직렬화에 실패했습니다. analysisId=" + analysisId, e);
+        }
+    }
+}
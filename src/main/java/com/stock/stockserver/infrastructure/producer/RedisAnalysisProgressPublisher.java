@@ -0,0 +1,34 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisProgressPublisher;
+import com.stock.stockserver.dto.AnalysisProgressEvent;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 진행 이벤트를 Redis 채널로 발행한다. 어느 노드에서 분석이 실행되든
+ * SSE 연결을 가진 노드가 구독해 클라이언트에 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisAnalysisProgressPublisher implements AnalysisProgressPublisher {
+
+    public static final String PROGRESS_CHANNEL = "analysis-progress";
+
+    private final RedisRepository redisRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(AnalysisProgressEvent event) {
+        try {
+            redisRepository.publish(PROGRESS_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("진행 이벤트 발행 실패: analysisId={}, type={}, error={}",
+                    event.analysisId(), event.type(), e.getMessage());
+        }
+    }
+}
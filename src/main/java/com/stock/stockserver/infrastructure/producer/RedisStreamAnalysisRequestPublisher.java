@@ -0,0 +1,74 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisRequestPublisher;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 분석 요청을 Redis Stream(analysis-requests)에 추가한다. (analysis.broker=redis-stream)
+ * XADD 응답이 곧 브로커 ack 이므로 모든 발행 메서드가 같은 동작을 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "redis-stream")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStreamAnalysisRequestPublisher implements AnalysisRequestPublisher {
+
+    public static final String ANALYSIS_STREAM = "analysis-requests";
+    public static final String DLT_STREAM = ANALYSIS_STREAM + ".DLT";
+    public static final String FIELD_PAYLOAD = "payload";
+    public static final String FIELD_ATTEMPT = "attempt";
+
+    private final RedisRepository redisRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(String analysisId) {
+        publish(analysisId, AnalysisTarget.ALL);
+    }
+
+    @Override
+    public void publish(String analysisId, AnalysisTarget target) {
+        String recordId = redisRepository.xAdd(ANALYSIS_STREAM, Map.of(FIELD_PAYLOAD, toMessage(analysisId, target)));
+        log.info("Analysis request added to Redis stream: analysisId={}, target={}, recordId={}",
+                analysisId, target, recordId);
+    }
+
+    @Override
+    public void publishAndWaitForAck(String analysisId) {
+        publish(analysisId, AnalysisTarget.ALL);
+    }
+
+    @Override
+    public void publishAndWaitForAck(String analysisId, AnalysisTarget target) {
+        publish(analysisId, target);
+    }
+
+    @Override
+    public CompletableFuture<Void> publishAsync(String analysisId, AnalysisTarget target) {
+        try {
+            publish(analysisId, target);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private String toMessage(String analysisId, AnalysisTarget target) {
+        try {
+            return objectMapper.writeValueAsString(AnalysisEvent.of(analysisId, target));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("분석 요청 메시지 직렬화에 실패했습니다. analysisId=" + analysisId, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisTaskPublisher;
+import com.stock.stockserver.dto.AnalysisStockTask;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.stock.stockserver.infrastructure.producer.RedisStreamAnalysisRequestPublisher.FIELD_PAYLOAD;
+
+@Component
+@ConditionalOnProperty(name = "analysis.broker", havingValue = "redis-stream")
+@RequiredArgsConstructor
+@Slf4j
+public class RedisStreamAnalysisTaskPublisher implements AnalysisTaskPublisher {
+
+    public static final String TASK_STREAM = "analysis-stock-tasks";
+
+    private final RedisRepository redisRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publishAll(List<AnalysisStockTask> tasks) throws Exception {
+        List<Map<String, String>> entries = new ArrayList<>(tasks.size());
+        for (AnalysisStockTask task : tasks) {
+            entries.add(Map.of(FIELD_PAYLOAD, objectMapper.writeValueAsString(task)));
+        }
+        redisRepository.xAddPipelined(TASK_STREAM, entries);
+
+        if (!tasks.isEmpty()) {
+            log.info("종목 작업 항목 발행 완료: analysisId={}, count={}", tasks.get(0).analysisId(), tasks.size());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 캐시(@Cacheable) 조회/저장/삭제 1건 (Redis 왕복과 직렬화 포함).
+ */
+@Name("com.stock.stockserver.CacheOperation")
+@Label("Cache Operation")
+@Category({"Stock Server", "Cache"})
+@Description("캐시 조회/저장/삭제 1건")
+@StackTrace(false)
+public class CacheOperationEvent extends Event {
+
+    static final String GET = "get";
+    static final String PUT = "put";
+    static final String EVICT = "evict";
+    static final String CLEAR = "clear";
+
+    @Label("Cache Name")
+    String cacheName;
+
+    @Label("Key")
+    String key;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Hit")
+    boolean hit;
+
+    static CacheOperationEvent start(String cacheName, String operation, Object key) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        if (event.isEnabled()) {
+            event.cacheName = cacheName;
+            event.operation = operation;
+            event.key = key != null ? key.toString() : null;
+            event.begin();
+        }
+        return event;
+    }
+
+    void finish(boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.hit = hit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import com.stock.stockserver.dto.ProfilingRecordingDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDK Flight Recorder 기록 관리.
+ *
+ * 상시 기록(continuous)은 시작 시점부터 최근 maxAge/maxSize 만큼만 디스크 저장소에 유지되고,
+ * 지연이 튄 뒤에 dump 해서 그 구간을 볼 수 있다. 필요할 때는 최대 시간/크기가 제한된 기록을 따로 한 개 시작/중지할 수 있다.
+ */
+@Component
+@ConditionalOnProperty(name = "profiling.jfr.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class FlightRecordingService {
+
+    static final String CONTINUOUS_NAME = "stockserver-continuous";
+    static final String ON_DEMAND_NAME = "stockserver-on-demand";
+    static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    // 환경 변수(KIS/LLM API 키), 시스템 프로퍼티, JVM 인자가 그대로 담기는 이벤트. 기록 파일을 내려받는 사람에게 노출되지 않도록 끈다
+    static final List<String> SENSITIVE_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private static final List<Class<? extends Event>> DOMAIN_EVENTS = List.of(
+            KisCallEvent.class, KisPermitWaitEvent.class, LlmCallEvent.class, CacheOperationEvent.class);
+    private static final long MB = 1024L * 1024L;
+
+    @Value("${profiling.jfr.continuous.enabled:false}")
+    private boolean continuousEnabled;
+
+    @Value("${profiling.jfr.continuous.max-age-minutes:30}")
+    private long continuousMaxAgeMinutes;
+
+    @Value("${profiling.jfr.continuous.max-size-mb:256}")
+    private long continuousMaxSizeMb;
+
+    // 상시 기록에서 이보다 짧은 도메인 이벤트는 버린다 (캐시 hit 처럼 잦고 짧은 이벤트 억제)
+    @Value("${profiling.jfr.continuous.event-threshold-ms:0}")
+    private long continuousEventThresholdMs;
+
+    @Value("${profiling.jfr.on-demand.max-duration-seconds:600}")
+    private long onDemandMaxDurationSeconds;
+
+    @Value("${profiling.jfr.on-demand.max-size-mb:512}")
+    private long onDemandMaxSizeMb;
+
+    private Recording continuous;
+    private Recording onDemand;
+    private Path onDemandFile;
+    private String onDemandSettings;
+
+    @PostConstruct
+    public void startContinuous() {
+        if (!continuousEnabled) {
+            return;
+        }
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight Recorder를 사용할 수 없어 상시 기록을 시작하지 않습니다");
+            return;
+        }
+
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName(CONTINUOUS_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(Duration.ofMinutes(continuousMaxAgeMinutes));
+            recording.setMaxSize(continuousMaxSizeMb * MB);
+            disableSensitiveEvents(recording);
+            enableDomainEvents(recording, Duration.ofMillis(continuousEventThresholdMs));
+            recording.start();
+            continuous = recording;
+            log.info("JFR 상시 기록 시작: maxAge={}분, maxSize={}MB", continuousMaxAgeMinutes, continuousMaxSizeMb);
+        } catch (IOException | ParseException e) {
+            log.warn("JFR 상시 기록 시작 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 상시 기록의 현재 보관분(최근 maxAge)을 임시 파일로 복사한다. 파일은 호출한 쪽이 지운다.
+     *
+     * @return 상시 기록이 꺼져 있으면 null
+     */
+    public Path dumpContinuous() throws IOException {
+        Recording recording = continuous;
+        if (recording == null) {
+            return null;
+        }
+        Path file = Files.createTempFile("stockserver-continuous-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    /**
+     * 기록을 시작한다. duration 과 크기는 설정된 최대값으로 제한되며, duration 이 지나면 스스로 멈춘다.
+     *
+     * @throws IllegalStateException 이미 실행 중인 기록이 있을 때
+     */
+    public synchronized ProfilingRecordingDto start(Duration duration, String settings) throws IOException, ParseException {
+        if (!SETTINGS.contains(settings)) {
+            throw new IllegalArgumentException("지원하지 않는 JFR 설정: " + settings);
+        }
+        if (onDemand != null && onDemand.getState() == RecordingState.RUNNING) {
+            throw new IllegalStateException("이미 실행 중인 JFR 기록이 있습니다");
+        }
+        discardOnDemand();
+
+        Duration maxDuration = Duration.ofSeconds(onDemandMaxDurationSeconds);
+        Duration bounded = duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0
+                ? maxDuration : duration;
+
+        Path file = Files.createTempFile("stockserver-profile-", ".jfr");
+        Recording recording = new Recording(Configuration.getConfiguration(settings));
+        recording.setName(ON_DEMAND_NAME);
+        recording.setToDisk(true);
+        recording.setDuration(bounded);
+        recording.setMaxSize(onDemandMaxSizeMb * MB);
+        // duration 이 지나거나 stop 하면 이 파일에 기록된다
+        recording.setDestination(file);
+        disableSensitiveEvents(recording);
+        enableDomainEvents(recording, Duration.ZERO);
+        recording.start();
+
+        onDemand = recording;
+        onDemandFile = file;
+        onDemandSettings = settings;
+        log.info("JFR 기록 시작: settings={}, duration={}", settings, bounded);
+        return status();
+    }
+
+    /**
+     * 기록을 멈추고(이미 멈췄으면 그대로) 기록 파일을 넘긴다. 파일은 호출한 쪽이 지운다.
+     *
+     * @return 시작한 기록이 없으면 null
+     */
+    public synchronized Path stop() {
+        if (onDemand == null) {
+            return null;
+        }
+        if (onDemand.getState() == RecordingState.RUNNING || onDemand.getState() == RecordingState.DELAYED) {
+            onDemand.stop();
+        }
+        Path file = onDemandFile;
+        onDemand.close();
+        onDemand = null;
+        onDemandFile = null;
+        log.info("JFR 기록 중지: file={}", file);
+        return file;
+    }
+
+    /**
+     * @return 시작한 기록이 없으면 null
+     */
+    public synchronized ProfilingRecordingDto status() {
+        if (onDemand == null) {
+            return null;
+        }
+        return new ProfilingRecordingDto(onDemand.getName(), onDemand.getState().name(), onDemandSettings,
+                onDemand.getStartTime(), onDemand.getDuration(), onDemand.getMaxSize());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        discardOnDemand();
+        if (continuous != null) {
+            continuous.close();
+            continuous = null;
+        }
+    }
+
+    // 가져가지 않은 이전 기록과 파일을 정리한다
+    private void discardOnDemand() {
+        if (onDemand == null) {
+            return;
+        }
+        onDemand.close();
+        try {
+            Files.deleteIfExists(onDemandFile);
+        } catch (IOException e) {
+            log.warn("이전 JFR 기록 파일 삭제 실패: file={}, error={}", onDemandFile, e.getMessage());
+        }
+        onDemand = null;
+        onDemandFile = null;
+    }
+
+    private static void disableSensitiveEvents(Recording recording) {
+        SENSITIVE_EVENTS.forEach(recording::disable);
+    }
+
+    private static void enableDomainEvents(Recording recording, Duration threshold) {
+        DOMAIN_EVENTS.forEach(event -> recording.enable(event).withThreshold(threshold));
+    }
+}
@@ -0,0 +1,59 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import com.stock.stockserver.domain.AnalysisTimeline;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * KIS API 호출 1건 (permit 대기와 재시도 포함). PipelineMetrics 의 kis.api.calls 와 같은 구간이다.
+ */
+@Name("com.stock.stockserver.KisCall")
+@Label("KIS API Call")
+@Category({"Stock Server", "KIS"})
+@Description("KIS API 호출 1건 (permit 대기, 재시도 포함)")
+@StackTrace(false)
+public class KisCallEvent extends Event {
+
+    @Label("Analysis ID")
+    String analysisId;
+
+    @Label("Stock Code")
+    String stockCode;
+
+    @Label("Exchange")
+    String exchange;
+
+    @Label("TR ID")
+    String trId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Retries")
+    int retries;
+
+    public static KisCallEvent start(String exchange, String trId, String stockCode) {
+        KisCallEvent event = new KisCallEvent();
+        if (event.isEnabled()) {
+            event.exchange = exchange;
+            event.trId = trId;
+            event.stockCode = stockCode;
+            event.analysisId = AnalysisTimeline.current().analysisId();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(String outcome, int retries) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            this.retries = retries;
+            commit();
+        }
+    }
+}
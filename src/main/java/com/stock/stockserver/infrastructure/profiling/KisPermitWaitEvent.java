@@ -0,0 +1,46 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 시도 1회가 KIS RateLimiter permit 을 받기까지 기다린 구간.
+ */
+@Name("com.stock.stockserver.KisPermitWait")
+@Label("KIS Rate Limiter Wait")
+@Category({"Stock Server", "KIS"})
+@Description("KIS RateLimiter permit 대기 (시도 1회)")
+@StackTrace(false)
+public class KisPermitWaitEvent extends Event {
+
+    @Label("Stock Code")
+    String stockCode;
+
+    @Label("Exchange")
+    String exchange;
+
+    @Label("TR ID")
+    String trId;
+
+    public static KisPermitWaitEvent start(String exchange, String trId, String stockCode) {
+        KisPermitWaitEvent event = new KisPermitWaitEvent();
+        if (event.isEnabled()) {
+            event.exchange = exchange;
+            event.trId = trId;
+            event.stockCode = stockCode;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+}
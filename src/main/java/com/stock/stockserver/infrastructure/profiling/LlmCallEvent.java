@@ -0,0 +1,57 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import com.stock.stockserver.domain.AnalysisTimeline;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * provider 1곳에 대한 LLM 분석 호출 1건 (재시도와 응답 파싱 포함). fallback 은 별도 이벤트로 남는다.
+ */
+@Name("com.stock.stockserver.LlmCall")
+@Label("LLM Call")
+@Category({"Stock Server", "LLM"})
+@Description("LLM 분석 호출 1건 (재시도, 응답 파싱 포함)")
+@StackTrace(false)
+public class LlmCallEvent extends Event {
+
+    @Label("Analysis ID")
+    String analysisId;
+
+    @Label("Stock Code")
+    String stockCode;
+
+    @Label("Provider")
+    String provider;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Response Length")
+    @DataAmount(DataAmount.BYTES)
+    long responseLength;
+
+    public static LlmCallEvent start(String provider, String stockCode) {
+        LlmCallEvent event = new LlmCallEvent();
+        if (event.isEnabled()) {
+            event.provider = provider;
+            event.stockCode = stockCode;
+            event.analysisId = AnalysisTimeline.current().analysisId();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(String outcome, long responseLength) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            this.responseLength = responseLength;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 호출마다 {@link CacheOperationEvent} 를 남기는 decorator.
+ *
+ * CacheManager 는 그대로 두고 RecordingCacheResolver 가 @Cacheable 호출에만 감싸서 넘기므로,
+ * RedisCacheManager 통계(cache.gets 지표)는 영향을 받지 않는다.
+ */
+class RecordingCache implements Cache {
+
+    private final Cache delegate;
+
+    RecordingCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.GET, key);
+        ValueWrapper value = null;
+        try {
+            value = delegate.get(key);
+            return value;
+        } finally {
+            event.finish(value != null);
+        }
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.GET, key);
+        T value = null;
+        try {
+            value = delegate.get(key, type);
+            return value;
+        } finally {
+            event.finish(value != null);
+        }
+    }
+
+    // sync=true 조회는 miss 시 valueLoader 실행까지 한 구간이라 hit 여부를 구분하지 않는다
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.GET, key);
+        try {
+            return delegate.get(key, valueLoader);
+        } finally {
+            event.finish(false);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.PUT, key);
+        try {
+            delegate.put(key, value);
+        } finally {
+            event.finish(false);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.PUT, key);
+        ValueWrapper existing = null;
+        try {
+            existing = delegate.putIfAbsent(key, value);
+            return existing;
+        } finally {
+            event.finish(existing != null);
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.EVICT, key);
+        try {
+            delegate.evict(key);
+        } finally {
+            event.finish(false);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.EVICT, key);
+        boolean present = false;
+        try {
+            present = delegate.evictIfPresent(key);
+            return present;
+        } finally {
+            event.finish(present);
+        }
+    }
+
+    @Override
+    public void clear() {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.CLEAR, null);
+        try {
+            delegate.clear();
+        } finally {
+            event.finish(false);
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        CacheOperationEvent event = CacheOperationEvent.start(getName(), CacheOperationEvent.CLEAR, null);
+        boolean invalidated = false;
+        try {
+            invalidated = delegate.invalidate();
+            return invalidated;
+        } finally {
+            event.finish(invalidated);
+        }
+    }
+}
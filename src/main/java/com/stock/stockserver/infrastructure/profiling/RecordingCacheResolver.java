@@ -0,0 +1,45 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 어노테이션(@Cacheable)이 사용할 캐시를 CacheManager 에서 찾아 {@link RecordingCache} 로 감싼다.
+ * CacheManager 는 캐시 설정(CachingConfigurer)보다 늦게 만들어질 수 있어 처음 사용할 때 꺼낸다.
+ */
+public class RecordingCacheResolver implements CacheResolver {
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public RecordingCacheResolver(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Collection<String> cacheNames = context.getOperation().getCacheNames();
+        List<Cache> result = new ArrayList<>(cacheNames.size());
+        for (String cacheName : cacheNames) {
+            Cache cache = caches.computeIfAbsent(cacheName, name -> {
+                Cache target = cacheManager.getObject().getCache(name);
+                return target != null ? new RecordingCache(target) : null;
+            });
+            if (cache == null) {
+                throw new IllegalArgumentException(
+                        "Cannot find cache named '" + cacheName + "' for " + context.getOperation());
+            }
+            result.add(cache);
+        }
+        return result;
+    }
+}
@@ -2,8 +2,12 @@ package com.stock.stockserver.infrastructure.strategy;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
+import com.stock.stockserver.domain.AnalysisTimeline;
 import com.stock.stockserver.dto.StockDataDto;
 import com.stock.stockserver.infrastructure.external.LLMTruncatedException;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,9 +38,12 @@ public class ClaudeAnalysisStrategy implements LLMAnalysisStrategy {
     @Value("${llm.claude.max-tokens}")
     private int maxTokens;
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(45);
+
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final LLMAnalysisPromptBuilder promptBuilder;
+    private final PipelineMetrics pipelineMetrics;
 
     @Override
     public String getProviderName() {
@@ -46,6 +53,7 @@ public class ClaudeAnalysisStrategy implements LLMAnalysisStrategy {
     @Override
     public String analyze(StockDataDto stockData) {
         String prompt = buildPrompt(stockData);
+        pipelineMetrics.recordLlmPromptSize(getProviderName(), prompt.length());
 
         Map<String, Object> requestBody = Map.of(
                 "model", model,
@@ -53,6 +61,11 @@ public class ClaudeAnalysisStrategy implements LLMAnalysisStrategy {
                 "messages", List.of(Map.of("role", "user", "content", prompt))
         );
 
+        AnalysisDeadline deadline = AnalysisDeadline.current();
+        deadline.checkNotExpired("Claude 호출");
+        // 재시도 콜백은 reactor 스레드에서 실행되므로 진행 중 단계를 미리 잡아 둔다
+        AnalysisTimeline.Stage stage = AnalysisTimeline.currentStage();
+
         try {
             String responseBody = webClient.post()
                     .uri(baseUrl)
@@ -62,20 +75,24 @@ public class ClaudeAnalysisStrategy implements LLMAnalysisStrategy {
                     .bodyValue(requestBody)
                     .retrieve()
                     .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(45))
+                    .timeout(deadline.cap(REQUEST_TIMEOUT))
                     .retryWhen(Retry.backoff(2, Duration.ofSeconds(2))
                             .maxBackoff(Duration.ofSeconds(10))
-                            .doBeforeRetry(retrySignal ->
-                                    log.warn("CLAUDE API 재시도: {} - 시도 {}/{}",
-                                            stockData.stockCode(),
-                                            retrySignal.totalRetries() + 1, 2)
-                            )
+                            .filter(throwable -> !deadline.isExpired())
+                            .doBeforeRetry(retrySignal -> {
+                                stage.retry();
+                                log.warn("CLAUDE API 재시도: {} - 시도 {}/{}",
+                                        stockData.stockCode(),
+                                        retrySignal.totalRetries() + 1, 2);
+                            })
                     )
+                    .timeout(deadline.remaining())
+                    .onErrorMap(throwable -> deadline.isExpired(), throwable -> deadline.exceeded("Claude 호출"))
                     .block();
 
             return parseResponse(responseBody, stockData);
 
-        } catch (LLMTruncatedException e) {
+        } catch (LLMTruncatedException | AnalysisDeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("Claude API 호출 실패: {}", stockData.stockCode(), e);
@@ -1,8 +1,12 @@
 package com.stock.stockserver.infrastructure.strategy;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
+import com.stock.stockserver.domain.AnalysisTimeline;
 import com.stock.stockserver.dto.StockDataDto;
 import com.stock.stockserver.infrastructure.external.LLMTruncatedException;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,9 +37,12 @@ public class GPTAnalysisStrategy implements LLMAnalysisStrategy {
     @Value("${llm.gpt.max-tokens}")
     private int maxTokens;
 
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(45);
+
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final LLMAnalysisPromptBuilder promptBuilder;
+    private final PipelineMetrics pipelineMetrics;
 
     @Override
     public String getProviderName() {
@@ -45,6 +52,7 @@ public class GPTAnalysisStrategy implements LLMAnalysisStrategy {
     @Override
     public String analyze(StockDataDto stockData) {
         String prompt = buildPrompt(stockData);
+        pipelineMetrics.recordLlmPromptSize(getProviderName(), prompt.length());
 
         Map<String, Object> request = Map.of(
                 "model", model,
@@ -52,6 +60,11 @@ public class GPTAnalysisStrategy implements LLMAnalysisStrategy {
                 "messages", List.of(Map.of("role", "user", "content", prompt))
         );
 
+        AnalysisDeadline deadline = AnalysisDeadline.current();
+        deadline.checkNotExpired("GPT 호출");
+        // 재시도 콜백은 reactor 스레드에서 실행되므로 진행 중 단계를 미리 잡아 둔다
+        AnalysisTimeline.Stage stage = AnalysisTimeline.currentStage();
+
         try {
             String responseBody = webClient.post()
                     .uri(baseUrl)
@@ -60,15 +73,19 @@ public class GPTAnalysisStrategy implements LLMAnalysisStrategy {
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(45))
+                    .timeout(deadline.cap(REQUEST_TIMEOUT))
                     .retryWhen(Retry.backoff(2, Duration.ofSeconds(2))
                             .maxBackoff(Duration.ofSeconds(10))
-                            .doBeforeRetry(retrySignal ->
-                                    log.warn("GPT API 재시도: {} - 시도 {}/{}",
-                                            stockData.stockCode(),
-                                            retrySignal.totalRetries() + 1, 2)
-                            )
+                            .filter(throwable -> !deadline.isExpired())
+                            .doBeforeRetry(retrySignal -> {
+                                stage.retry();
+                                log.warn("GPT API 재시도: {} - 시도 {}/{}",
+                                        stockData.stockCode(),
+                                        retrySignal.totalRetries() + 1, 2);
+                            })
                     )
+                    .timeout(deadline.remaining())
+                    .onErrorMap(throwable -> deadline.isExpired(), throwable -> deadline.exceeded("GPT 호출"))
                     .block();
 
             Map<String, Object> response = objectMapper.readValue(responseBody, Map.class);
@@ -89,7 +106,7 @@ public class GPTAnalysisStrategy implements LLMAnalysisStrategy {
             }
             return null;
 
-        } catch (LLMTruncatedException e) {
+        } catch (LLMTruncatedException | AnalysisDeadlineExceededException e) {
             throw e;
         } catch (Exception e) {
             log.error("GPT API 호출 실패: {}", stockData.stockCode(), e);
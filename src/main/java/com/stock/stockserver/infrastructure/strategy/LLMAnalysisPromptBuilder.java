@@ -1,26 +1,21 @@
 package com.stock.stockserver.infrastructure.strategy;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.DailyPriceSeries;
 import com.stock.stockserver.dto.StockDataDto;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
-
 @Component
 public class LLMAnalysisPromptBuilder {
 
-    private final ObjectMapper objectMapper;
     private final Environment environment;
 
     @Value("${llm.provider}")
     private String provider;
 
-    public LLMAnalysisPromptBuilder(ObjectMapper objectMapper, Environment environment) {
-        this.objectMapper = objectMapper;
+    public LLMAnalysisPromptBuilder(Environment environment) {
         this.environment = environment;
     }
 
@@ -119,7 +114,7 @@ public class LLMAnalysisPromptBuilder {
                 stockData.priceHigh52Week().doubleValue(),
                 stockData.priceLow52Week().doubleValue(),
                 calculatePrice52WeekPercentage(stockData),
-                formatDailyPrices(stockData.dailyPricesJson()),
+                formatDailyPrices(stockData.dailyPrices()),
                 currencyUnit,
                 koreanCharBudget
         );
@@ -136,28 +131,23 @@ public class LLMAnalysisPromptBuilder {
         return ((current - low) / low) * 100;
     }
 
-    private String formatDailyPrices(String dailyPricesJson) {
-        try {
-            List<Map<String, Object>> prices = objectMapper.readValue(dailyPricesJson, List.class);
-            StringBuilder sb = new StringBuilder();
-
-            int count = Math.min(10, prices.size());
-            for (int i = 0; i < count; i++) {
-                Map<String, Object> price = prices.get(i);
-                sb.append(String.format(
-                        "%s: 시가 %s, 종가 %s, 고가 %s, 저가 %s, 거래량 %s\n",
-                        price.get("tradeDate"),
-                        price.get("openPrice"),
-                        price.get("closePrice"),
-                        price.get("highPrice"),
-                        price.get("lowPrice"),
-                        price.get("volume")
-                ));
-            }
-
-            return sb.toString();
-        } catch (Exception e) {
-            return dailyPricesJson;
+    private String formatDailyPrices(DailyPriceSeries dailyPrices) {
+        if (dailyPrices == null) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder();
+        int count = Math.min(10, dailyPrices.size());
+        for (int i = 0; i < count; i++) {
+            sb.append(dailyPrices.tradeDate(i))
+                    .append(": 시가 ").append(dailyPrices.openPrice(i))
+                    .append(", 종가 ").append(dailyPrices.closePrice(i))
+                    .append(", 고가 ").append(dailyPrices.highPrice(i))
+                    .append(", 저가 ").append(dailyPrices.lowPrice(i))
+                    .append(", 거래량 ").append(dailyPrices.volume(i))
+                    .append('\n');
         }
+
+        return sb.toString();
     }
 }
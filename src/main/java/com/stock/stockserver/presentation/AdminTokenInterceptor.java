@@ -0,0 +1,43 @@
+package com.stock.stockserver.presentation;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * /api/admin/** 운영자 API 인증. X-Admin-Token 헤더가 설정된 토큰(admin.api-token)과 같을 때만 통과시킨다.
+ *
+ * JFR 기록처럼 프로세스 내부 상태가 그대로 담긴 응답을 내주므로, 토큰이 설정되지 않았으면 모든 요청을 거부한다.
+ */
+@Slf4j
+public class AdminTokenInterceptor implements HandlerInterceptor {
+
+    static final String HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminTokenInterceptor(String token) {
+        this.token = token == null || token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (token == null) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return false;
+        }
+
+        String provided = request.getHeader(HEADER);
+        if (provided == null || !MessageDigest.isEqual(token, provided.getBytes(StandardCharsets.UTF_8))) {
+            log.warn("운영자 API 인증 실패: uri={}, remote={}", request.getRequestURI(), request.getRemoteAddr());
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,21 +1,28 @@
 package com.stock.stockserver.presentation;
 
-import com.stock.stockserver.application.AnalysisRequestPublisher;
+import com.stock.stockserver.application.AnalysisRequestService;
+import com.stock.stockserver.application.AnalysisTimelineService;
 import com.stock.stockserver.application.StockAnalysisService;
 import com.stock.stockserver.domain.AnalysisTarget;
 import com.stock.stockserver.domain.entity.AnalysisJob;
 import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
+import com.stock.stockserver.dto.AnalysisProgressEvent;
 import com.stock.stockserver.dto.AnalysisResultDto;
+import com.stock.stockserver.dto.AnalysisResultPageDto;
 import com.stock.stockserver.dto.AnalysisStatusDto;
+import com.stock.stockserver.dto.AnalysisTimelineDto;
+import com.stock.stockserver.dto.AnalysisTimelineReportDto;
 import com.stock.stockserver.dto.PostAnalysisDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/analysis")
@@ -24,7 +31,11 @@ import java.util.UUID;
 public class AnalysisController {
 
     private final StockAnalysisService analysisService;
-    private final AnalysisRequestPublisher analysisRequestPublisher;
+    private final AnalysisRequestService analysisRequestService;
+    private final AnalysisProgressEmitters progressEmitters;
+    private final AnalysisTimelineService timelineService;
+
+    private static final int MAX_BULK_STATUS_IDS = 100;
 
     /**
      * 분석 실행
@@ -47,15 +58,7 @@ public class AnalysisController {
     }
 
     private ResponseEntity<PostAnalysisDto> publishAnalysis(AnalysisTarget target) {
-        String analysisId = UUID.randomUUID().toString();
-        analysisRequestPublisher.publish(analysisId, target);
-
-        return ResponseEntity.ok(
-                new PostAnalysisDto(
-                    analysisId,
-                    AnalysisStatus.RUNNING
-                )
-        );
+        return ResponseEntity.ok(analysisRequestService.submit(target));
     }
 
     @GetMapping("/status/{analysisId}")
@@ -67,8 +70,44 @@ public class AnalysisController {
         return ResponseEntity.ok(new AnalysisStatusDto(status));
     }
 
+    /**
+     * 여러 작업의 상태/진행률 일괄 조회 (Redis 파이프라인 1회)
+     */
+    @GetMapping("/status")
+    public ResponseEntity<List<AnalysisJobStatusDto>> getStatuses(@RequestParam List<String> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_BULK_STATUS_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(analysisService.getJobStatuses(ids));
+    }
+
+    /**
+     * 분석 진행 스트림 (SSE). 구독 시점 상태를 먼저 보내고, 이후 종목별 진행/결과와 종료 이벤트를 보낸다.
+     */
+    @GetMapping(value = "/stream/{analysisId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProgress(@PathVariable String analysisId) {
+        // 먼저 구독해 두고 상태를 읽어야 그 사이에 끝난 작업의 종료 이벤트를 놓치지 않는다
+        SseEmitter emitter = progressEmitters.subscribe(analysisId);
+        List<AnalysisJobStatusDto> statuses = analysisService.getJobStatuses(List.of(analysisId));
+        if (statuses.isEmpty()) {
+            // MVC 에 넘기지 않은 emitter 는 완료/타임아웃 콜백이 불리지 않으므로 직접 구독을 해제한다
+            progressEmitters.unsubscribe(analysisId, emitter);
+            return ResponseEntity.notFound().build();
+        }
+
+        progressEmitters.sendTo(analysisId, emitter, AnalysisProgressEvent.snapshot(statuses.get(0)));
+        return ResponseEntity.ok(emitter);
+    }
+
+    /**
+     * 분석 결과 요약 목록 (본문 제외, cursor 기반 페이지)
+     */
     @GetMapping("/result/{analysisId}")
-    public ResponseEntity<List<AnalysisResultDto>> getResult(@PathVariable String analysisId) {
+    public ResponseEntity<AnalysisResultPageDto> getResult(
+            @PathVariable String analysisId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
         AnalysisJob job = analysisService.getAnalysisJob(analysisId);
 
         if (job == null) {
@@ -79,16 +118,50 @@ public class AnalysisController {
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         }
 
-        List<AnalysisResultDto> results = analysisService.getAnalysisResults(analysisId);
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok(analysisService.getAnalysisResults(analysisId, cursor, size));
+    }
+
+    /**
+     * 종목별 분석 본문 조회
+     */
+    @GetMapping("/result/{analysisId}/{stockCode}")
+    public ResponseEntity<AnalysisResultDto> getStockResult(@PathVariable String analysisId,
+                                                            @PathVariable String stockCode) {
+        AnalysisResultDto result = analysisService.getAnalysisResult(analysisId, stockCode);
+        if (result == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 작업 1건의 단계별 소요 시간과 critical path (진행 중이면 지금까지 끝난 단계)
+     */
+    @GetMapping("/timeline/{analysisId}")
+    public ResponseEntity<AnalysisTimelineDto> getTimeline(@PathVariable String analysisId) {
+        AnalysisTimelineDto timeline = timelineService.getTimeline(analysisId);
+        if (timeline == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(timeline);
+    }
+
+    /**
+     * 최근 종료된 작업 limit 건의 단계별 소요 시간 백분위
+     */
+    @GetMapping("/timeline/report")
+    public ResponseEntity<AnalysisTimelineReportDto> getTimelineReport(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(timelineService.report(limit));
     }
 
     /**
      * 최근 분석 결과 조회
      */
     @GetMapping("/latest")
-    public ResponseEntity<List<AnalysisResultDto>> getLatestAnalysis() {
-        List<AnalysisResultDto> results = analysisService.getLatestAnalysis();
-        return ResponseEntity.ok(results);
+    public ResponseEntity<AnalysisResultPageDto> getLatestAnalysis(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(analysisService.getLatestAnalysis(cursor, size));
     }
 }
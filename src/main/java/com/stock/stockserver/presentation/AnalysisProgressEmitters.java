@@ -0,0 +1,98 @@
+package com.stock.stockserver.presentation;
+
+import com.stock.stockserver.dto.AnalysisProgressEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 이 노드에 연결된 분석 진행 SSE 구독자 목록.
+ * Redis 채널로 들어온 이벤트를 해당 analysisId 구독자에게만 전달한다.
+ */
+@Component
+@Slf4j
+public class AnalysisProgressEmitters {
+
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${analysis.progress.sse-timeout-ms:600000}")
+    private long timeoutMs;
+
+    public SseEmitter subscribe(String analysisId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        emitters.computeIfAbsent(analysisId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        emitter.onCompletion(() -> remove(analysisId, emitter));
+        emitter.onTimeout(() -> remove(analysisId, emitter));
+        emitter.onError(e -> remove(analysisId, emitter));
+        return emitter;
+    }
+
+    public void dispatch(AnalysisProgressEvent event) {
+        List<SseEmitter> targets = emitters.get(event.analysisId());
+        if (targets == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : targets) {
+            send(emitter, event);
+        }
+
+        if (event.type().isTerminal()) {
+            List<SseEmitter> finished = emitters.remove(event.analysisId());
+            if (finished != null) {
+                finished.forEach(SseEmitter::complete);
+            }
+        }
+    }
+
+    /**
+     * 단일 구독자에게 이벤트를 보낸다. 종료 이벤트면 연결을 닫는다.
+     */
+    public void sendTo(String analysisId, SseEmitter emitter, AnalysisProgressEvent event) {
+        send(emitter, event);
+        if (event.type().isTerminal()) {
+            remove(analysisId, emitter);
+            emitter.complete();
+        }
+    }
+
+    /**
+     * 응답으로 돌려주지 않은 구독을 정리한다. (예: 작업이 없어 404 를 반환하는 경우)
+     */
+    public void unsubscribe(String analysisId, SseEmitter emitter) {
+        remove(analysisId, emitter);
+        emitter.complete();
+    }
+
+    int subscriberCount(String analysisId) {
+        List<SseEmitter> targets = emitters.get(analysisId);
+        return targets == null ? 0 : targets.size();
+    }
+
+    private void send(SseEmitter emitter, AnalysisProgressEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(event.type().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 구독 해제: analysisId={}, error={}", event.analysisId(), e.getMessage());
+            remove(event.analysisId(), emitter);
+        }
+    }
+
+    private void remove(String analysisId, SseEmitter emitter) {
+        emitters.computeIfPresent(analysisId, (id, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
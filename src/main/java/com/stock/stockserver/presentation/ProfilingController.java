@@ -0,0 +1,100 @@
+package com.stock.stockserver.presentation;
+
+import com.stock.stockserver.dto.ProfilingRecordingDto;
+import com.stock.stockserver.infrastructure.profiling.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * JFR 기록 관리 (운영자 전용, X-Admin-Token 필요 — AdminTokenInterceptor).
+ * 받은 .jfr 파일은 JDK Mission Control 또는 `jfr print --events com.stock.stockserver.*` 로 본다.
+ */
+@RestController
+@RequestMapping("/api/admin/profiling")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "profiling.jfr.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class ProfilingController {
+
+    private final FlightRecordingService recordingService;
+
+    /**
+     * 기록 시작. 최대 시간(profiling.jfr.on-demand.max-duration-seconds)이 지나면 스스로 멈춘다.
+     */
+    @PostMapping("/recordings")
+    public ResponseEntity<ProfilingRecordingDto> startRecording(
+            @RequestParam(defaultValue = "60") long durationSeconds,
+            @RequestParam(defaultValue = "profile") String settings
+    ) throws IOException, ParseException {
+        try {
+            return ResponseEntity.ok(recordingService.start(Duration.ofSeconds(durationSeconds), settings));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(recordingService.status());
+        }
+    }
+
+    @GetMapping("/recordings")
+    public ResponseEntity<ProfilingRecordingDto> getRecording() {
+        ProfilingRecordingDto status = recordingService.status();
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(status);
+    }
+
+    /**
+     * 기록을 멈추고 .jfr 파일을 내려받는다.
+     */
+    @PostMapping("/recordings/stop")
+    public ResponseEntity<StreamingResponseBody> stopRecording() throws IOException {
+        Path file = recordingService.stop();
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return download(file, "stockserver-profile.jfr");
+    }
+
+    /**
+     * 상시 기록의 최근 구간(profiling.jfr.continuous.max-age-minutes)을 내려받는다. 지연이 튄 직후에 호출한다.
+     */
+    @GetMapping("/continuous")
+    public ResponseEntity<StreamingResponseBody> dumpContinuous() throws IOException {
+        Path file = recordingService.dumpContinuous();
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return download(file, "stockserver-continuous.jfr");
+    }
+
+    // 전송이 끝나면 임시 파일을 지운다
+    private ResponseEntity<StreamingResponseBody> download(Path file, String filename) throws IOException {
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .body(body);
+    }
+}
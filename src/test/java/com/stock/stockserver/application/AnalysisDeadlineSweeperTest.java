@@ -0,0 +1,53 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class AnalysisDeadlineSweeperTest {
+
+    private AnalysisJobStore jobStore;
+    private StockAnalysisService analysisService;
+    private AnalysisDeadlineSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        jobStore = mock(AnalysisJobStore.class);
+        analysisService = mock(StockAnalysisService.class);
+        sweeper = new AnalysisDeadlineSweeper(jobStore, analysisService);
+        ReflectionTestUtils.setField(sweeper, "graceMs", 30_000L);
+    }
+
+    @Test
+    @DisplayName("sweep - 마감 + grace 가 지난 작업 중 마감 기록을 가져간 작업만 정리한다")
+    void sweepExpiredJobs() {
+        when(jobStore.getExpiredJobIds(70_000L)).thenReturn(new LinkedHashSet<>(List.of("a", "b", "c")));
+        when(jobStore.untrackDeadline("a")).thenReturn(true);
+        when(jobStore.untrackDeadline("b")).thenReturn(false);   // 다른 노드가 가져감
+        when(jobStore.untrackDeadline("c")).thenReturn(true);
+        when(analysisService.expireStockTasks("a")).thenReturn(true);
+        when(analysisService.expireStockTasks("c")).thenReturn(false);  // 이미 끝난 작업
+
+        assertEquals(1, sweeper.sweepExpiredJobs(100_000L));
+
+        verify(analysisService, never()).expireStockTasks("b");
+    }
+
+    @Test
+    @DisplayName("sweep - 정리 실패는 다음 주기로 넘긴다")
+    void sweep_swallowsFailure() {
+        when(jobStore.getExpiredJobIds(anyLong())).thenThrow(new IllegalStateException("redis down"));
+
+        sweeper.sweep();
+
+        verifyNoInteractions(analysisService);
+    }
+}
@@ -0,0 +1,87 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.repository.AnalysisExecutionLedger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisExecutionGuardTest {
+
+    @Mock
+    private AnalysisExecutionLedger ledger;
+
+    private AnalysisExecutionGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new AnalysisExecutionGuard(ledger);
+        ReflectionTestUtils.setField(guard, "leaseTtlMs", 30_000L);
+    }
+
+    @Test
+    @DisplayName("runOnce - lease 획득 후 실행하고 처리 완료 표시")
+    void runOnce_executesAndMarksProcessed() {
+        when(ledger.tryAcquire(eq("test-id"), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean executed = guard.runOnce("test-id", AnalysisDeadline.after(Duration.ofMinutes(1)), runs::incrementAndGet);
+
+        assertTrue(executed);
+        assertEquals(1, runs.get());
+        verify(ledger).markProcessed("test-id");
+        verify(ledger).release(eq("test-id"), anyString());
+    }
+
+    @Test
+    @DisplayName("runOnce - 이미 처리된 요청은 실행하지 않는다")
+    void runOnce_skipsProcessed() {
+        when(ledger.isProcessed("test-id")).thenReturn(true);
+
+        boolean executed = guard.runOnce("test-id", AnalysisDeadline.after(Duration.ofMinutes(1)),
+                () -> fail("중복 실행"));
+
+        assertFalse(executed);
+        verify(ledger, never()).tryAcquire(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("runOnce - 다른 실행이 lease를 가지고 있으면 완료될 때까지 기다린 뒤 건너뛴다")
+    void runOnce_waitsForRunningExecution() {
+        when(ledger.isProcessed("test-id")).thenReturn(false, true);
+        when(ledger.tryAcquire(eq("test-id"), anyString(), any(Duration.class))).thenReturn(false);
+
+        boolean executed = guard.runOnce("test-id", AnalysisDeadline.after(Duration.ofMillis(200)),
+                () -> fail("중복 실행"));
+
+        assertFalse(executed);
+        verify(ledger, never()).markProcessed(anyString());
+    }
+
+    @Test
+    @DisplayName("runOnce - 실행 실패 시 완료 표시 없이 lease만 반납 (재시도 가능)")
+    void runOnce_failureReleasesLease() {
+        when(ledger.tryAcquire(eq("test-id"), anyString(), any(Duration.class))).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> guard.runOnce("test-id",
+                AnalysisDeadline.after(Duration.ofMinutes(1)), () -> {
+                    throw new IllegalStateException("분석 실패");
+                }));
+
+        verify(ledger, never()).markProcessed(anyString());
+        verify(ledger).release(eq("test-id"), anyString());
+    }
+}
@@ -0,0 +1,75 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.infrastructure.persistence.AnalysisJobBulkWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class AnalysisJobFlushServiceTest {
+
+    private AnalysisJobStore jobStore;
+    private AnalysisJobBulkWriter analysisJobBulkWriter;
+    private AnalysisJobFlushService flushService;
+
+    @BeforeEach
+    void setUp() {
+        jobStore = mock(AnalysisJobStore.class);
+        analysisJobBulkWriter = mock(AnalysisJobBulkWriter.class);
+        flushService = new AnalysisJobFlushService(jobStore, analysisJobBulkWriter);
+    }
+
+    @Test
+    @DisplayName("flush - write-behind 모드가 아니면 아무것도 하지 않는다")
+    void flush_disabled() {
+        when(jobStore.isWriteBehind()).thenReturn(false);
+
+        flushService.flush();
+
+        verify(jobStore, never()).getDirtyJobs();
+        verifyNoInteractions(analysisJobBulkWriter);
+    }
+
+    @Test
+    @DisplayName("flush - dirty 작업을 일괄 upsert 후 읽은 시퀀스로 정리")
+    void flush_upsertsDirtyJobsThenClears() {
+        AnalysisJob job = AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build();
+        when(jobStore.isWriteBehind()).thenReturn(true);
+        Map<String, Double> dirty = Map.of("job-1", 42.0);
+        when(jobStore.getDirtyJobs()).thenReturn(dirty);
+        when(jobStore.getCachedJobs(Set.of("job-1"))).thenReturn(List.of(job));
+
+        assertEquals(1, flushService.flushDirtyJobs());
+
+        var inOrder = inOrder(analysisJobBulkWriter, jobStore);
+        inOrder.verify(analysisJobBulkWriter).upsertAll(List.of(job));
+        // flush 도중 다시 변경된 작업은 시퀀스가 달라 지워지지 않는다 (RedisRepository.zRemoveIfScoreUnchanged)
+        inOrder.verify(jobStore).clearDirty(dirty);
+    }
+
+    @Test
+    @DisplayName("flush - DB 반영 실패 시 dirty 집합을 유지한다")
+    void flush_keepsDirtyOnFailure() {
+        when(jobStore.isWriteBehind()).thenReturn(true);
+        when(jobStore.getDirtyJobs()).thenReturn(Map.of("job-1", 42.0));
+        when(jobStore.getCachedJobs(any())).thenReturn(List.of());
+        when(analysisJobBulkWriter.upsertAll(any())).thenThrow(new RuntimeException("db down"));
+
+        flushService.flush();
+
+        verify(jobStore, never()).clearDirty(any());
+    }
+}
@@ -0,0 +1,102 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisRequestHandlerTest {
+
+    @Mock
+    private StockAnalysisService analysisService;
+
+    @Mock
+    private AnalysisExecutionGuard executionGuard;
+
+    @Mock
+    private PipelineMetrics pipelineMetrics;
+
+    @Mock
+    private AnalysisTimelineService timelineService;
+
+    @InjectMocks
+    private AnalysisRequestHandler requestHandler;
+
+    @ParameterizedTest
+    @MethodSource("analysisTargets")
+    @DisplayName("handle - 분석 대상별 작업 저장 후 분석 실행")
+    void handle_byTarget(AnalysisTarget target) {
+        runGuardedAction();
+
+        boolean executed = requestHandler.handle(new AnalysisEvent("test-id", target, LocalDateTime.now()));
+
+        assertTrue(executed);
+        verify(analysisService).saveJob("test-id");
+        verify(analysisService).runFullAnalysis(eq("test-id"), eq(target), any(AnalysisDeadline.class));
+    }
+
+    @Test
+    @DisplayName("handle - 대상이 없으면 ALL 로 실행")
+    void handle_defaultTarget() {
+        runGuardedAction();
+
+        requestHandler.handle(new AnalysisEvent("test-id", null, LocalDateTime.now()));
+
+        verify(analysisService).runFullAnalysis(eq("test-id"), eq(AnalysisTarget.ALL), any(AnalysisDeadline.class));
+    }
+
+    @Test
+    @DisplayName("handle - fan-out 모드에서는 종목 작업 항목만 배포")
+    void handle_fanOut() {
+        ReflectionTestUtils.setField(requestHandler, "fanOutEnabled", true);
+        runGuardedAction();
+
+        requestHandler.handle(new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now()));
+
+        verify(analysisService).saveJob("test-id");
+        verify(analysisService).dispatchStockTasks(eq("test-id"), eq(AnalysisTarget.ALL), any(AnalysisDeadline.class));
+        verify(analysisService, never()).runFullAnalysis(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("handle - 중복 요청은 실행하지 않는다")
+    void handle_duplicateSkipped() {
+        when(executionGuard.runOnce(eq("test-id"), any(AnalysisDeadline.class), any(Runnable.class))).thenReturn(false);
+
+        boolean executed = requestHandler.handle(new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now()));
+
+        assertFalse(executed);
+        verifyNoInteractions(analysisService);
+    }
+
+    private void runGuardedAction() {
+        when(executionGuard.runOnce(eq("test-id"), any(AnalysisDeadline.class), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(2).run();
+                    return true;
+                });
+    }
+
+    private static Stream<AnalysisTarget> analysisTargets() {
+        return Stream.of(AnalysisTarget.DOMESTIC, AnalysisTarget.OVERSEAS, AnalysisTarget.ALL);
+    }
+}
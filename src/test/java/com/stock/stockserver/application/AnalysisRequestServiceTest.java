@@ -0,0 +1,174 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.repository.AnalysisCoalescingStore;
+import com.stock.stockserver.domain.repository.AnalysisCoalescingStore.Registration;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
+import com.stock.stockserver.dto.PostAnalysisDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisRequestServiceTest {
+
+    @Mock
+    private AnalysisRequestPublisher analysisRequestPublisher;
+
+    @Mock
+    private AnalysisCoalescingStore coalescingStore;
+
+    @Mock
+    private AnalysisJobStore jobStore;
+
+    private AnalysisRequestService requestService;
+
+    @BeforeEach
+    void setUp() {
+        requestService = new AnalysisRequestService(analysisRequestPublisher, coalescingStore, jobStore);
+        ReflectionTestUtils.setField(requestService, "coalescingEnabled", true);
+        ReflectionTestUtils.setField(requestService, "freshWindowSeconds", 600L);
+        ReflectionTestUtils.setField(requestService, "deadlineSeconds", 300L);
+        ReflectionTestUtils.setField(requestService, "missingStatusGraceSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("submit - coalescing 비활성화 시 항상 새 작업 발행")
+    void submit_disabledPublishesNewJob() {
+        ReflectionTestUtils.setField(requestService, "coalescingEnabled", false);
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.ALL);
+
+        assertEquals(AnalysisStatus.RUNNING, response.status());
+        verify(analysisRequestPublisher).publish(response.analysisId(), AnalysisTarget.ALL);
+        verifyNoInteractions(coalescingStore);
+    }
+
+    @Test
+    @DisplayName("submit - 대표 작업이 없으면 등록 후 발행")
+    void submit_registersAndPublishes() {
+        when(coalescingStore.register(eq(AnalysisTarget.DOMESTIC), any(LocalDate.class), any(Registration.class), any(Duration.class)))
+                .thenReturn(true);
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.DOMESTIC);
+
+        assertEquals(AnalysisStatus.RUNNING, response.status());
+        verify(coalescingStore).register(eq(AnalysisTarget.DOMESTIC), any(LocalDate.class),
+                argThat(registration -> registration.analysisId().equals(response.analysisId())
+                        && registration.registeredAt() != null),
+                eq(Duration.ofSeconds(900)));
+        verify(analysisRequestPublisher).publish(response.analysisId(), AnalysisTarget.DOMESTIC);
+    }
+
+    @Test
+    @DisplayName("submit - 같은 대상/세션 작업이 실행 중이면 그 ID로 합류")
+    void submit_attachesToRunningJob() {
+        when(coalescingStore.find(eq(AnalysisTarget.DOMESTIC), any(LocalDate.class))).thenReturn(registered("running-id"));
+        when(jobStore.getStatuses(List.of("running-id"))).thenReturn(List.of(status("running-id", AnalysisStatus.RUNNING, Instant.now())));
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.DOMESTIC);
+
+        assertEquals("running-id", response.analysisId());
+        assertEquals(AnalysisStatus.RUNNING, response.status());
+        verifyNoInteractions(analysisRequestPublisher);
+    }
+
+    @Test
+    @DisplayName("submit - fresh-window 안에 완료된 작업은 DONE 상태로 재사용")
+    void submit_reusesFreshDoneJob() {
+        when(coalescingStore.find(eq(AnalysisTarget.OVERSEAS), any(LocalDate.class))).thenReturn(registered("done-id"));
+        when(jobStore.getStatuses(List.of("done-id")))
+                .thenReturn(List.of(status("done-id", AnalysisStatus.DONE, Instant.now().minusSeconds(60))));
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.OVERSEAS);
+
+        assertEquals("done-id", response.analysisId());
+        assertEquals(AnalysisStatus.DONE, response.status());
+        verifyNoInteractions(analysisRequestPublisher);
+    }
+
+    @Test
+    @DisplayName("submit - 오래전 완료된 작업은 해제하고 새 작업 발행")
+    void submit_replacesStaleDoneJob() {
+        Registration stale = registered("stale-id");
+        when(coalescingStore.find(eq(AnalysisTarget.ALL), any(LocalDate.class))).thenReturn(stale);
+        when(jobStore.getStatuses(List.of("stale-id")))
+                .thenReturn(List.of(status("stale-id", AnalysisStatus.DONE, Instant.now().minusSeconds(3600))));
+        when(coalescingStore.register(eq(AnalysisTarget.ALL), any(LocalDate.class), any(Registration.class), any(Duration.class)))
+                .thenReturn(true);
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.ALL);
+
+        assertNotEquals("stale-id", response.analysisId());
+        verify(coalescingStore).unregister(eq(AnalysisTarget.ALL), any(LocalDate.class), eq(stale));
+        verify(analysisRequestPublisher).publish(response.analysisId(), AnalysisTarget.ALL);
+    }
+
+    @Test
+    @DisplayName("submit - 동시 요청이 먼저 등록했으면 그 작업에 합류")
+    void submit_attachesToConcurrentWinner() {
+        when(coalescingStore.find(eq(AnalysisTarget.ALL), any(LocalDate.class))).thenReturn(null, registered("winner-id"));
+        when(coalescingStore.register(eq(AnalysisTarget.ALL), any(LocalDate.class), any(Registration.class), any(Duration.class)))
+                .thenReturn(false);
+        when(jobStore.getStatuses(List.of("winner-id"))).thenReturn(List.of());
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.ALL);
+
+        assertEquals("winner-id", response.analysisId());
+        assertEquals(AnalysisStatus.RUNNING, response.status());
+        verifyNoInteractions(analysisRequestPublisher);
+    }
+
+    @Test
+    @DisplayName("submit - 발행 실패 시 대표 작업 등록 해제")
+    void submit_publishFailureUnregisters() {
+        when(coalescingStore.register(eq(AnalysisTarget.ALL), any(LocalDate.class), any(Registration.class), any(Duration.class)))
+                .thenReturn(true);
+        doThrow(new IllegalStateException("broker down"))
+                .when(analysisRequestPublisher).publish(anyString(), eq(AnalysisTarget.ALL));
+
+        assertThrows(IllegalStateException.class, () -> requestService.submit(AnalysisTarget.ALL));
+
+        verify(coalescingStore).unregister(eq(AnalysisTarget.ALL), any(LocalDate.class), any(Registration.class));
+    }
+
+    @Test
+    @DisplayName("submit - 등록 후 유예 시간이 지나도 작업 상태가 없으면(비동기 발행 유실) 해제하고 새로 발행")
+    void submit_replacesGhostRegistration() {
+        Registration ghost = new Registration("ghost-id", Instant.now().minusSeconds(120));
+        when(coalescingStore.find(eq(AnalysisTarget.DOMESTIC), any(LocalDate.class))).thenReturn(ghost);
+        when(jobStore.getStatuses(List.of("ghost-id"))).thenReturn(List.of());
+        when(coalescingStore.register(eq(AnalysisTarget.DOMESTIC), any(LocalDate.class), any(Registration.class), any(Duration.class)))
+                .thenReturn(true);
+
+        PostAnalysisDto response = requestService.submit(AnalysisTarget.DOMESTIC);
+
+        assertNotEquals("ghost-id", response.analysisId());
+        verify(coalescingStore).unregister(eq(AnalysisTarget.DOMESTIC), any(LocalDate.class), eq(ghost));
+        verify(analysisRequestPublisher).publish(response.analysisId(), AnalysisTarget.DOMESTIC);
+    }
+
+    private Registration registered(String analysisId) {
+        return new Registration(analysisId, Instant.now());
+    }
+
+    private AnalysisJobStatusDto status(String analysisId, AnalysisStatus status, Instant updatedAt) {
+        return new AnalysisJobStatusDto(analysisId, status, null, null, null, updatedAt, updatedAt);
+    }
+}
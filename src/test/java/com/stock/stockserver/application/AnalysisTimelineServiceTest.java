@@ -0,0 +1,129 @@
+package com.stock.stockserver.application;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTimeline;
+import com.stock.stockserver.domain.AnalysisTimeline.StageTiming;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.domain.repository.AnalysisTimelineStore;
+import com.stock.stockserver.dto.AnalysisTimelineDto;
+import com.stock.stockserver.dto.AnalysisTimelineDto.CriticalStage;
+import com.stock.stockserver.dto.AnalysisTimelineReportDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisTimelineServiceTest {
+
+    private static final Instant START = Instant.parse("2026-01-05T00:00:00Z");
+
+    @Mock
+    private AnalysisTimelineStore timelineStore;
+
+    @Mock
+    private AnalysisJobStore jobStore;
+
+    @InjectMocks
+    private AnalysisTimelineService timelineService;
+
+    @Test
+    @DisplayName("criticalPath - 순차 단계는 합산, 종목별 단계는 가장 느린 종목 (fallback 호출은 합산)")
+    void criticalPath_sumsSequentialAndPicksSlowestStock() {
+        List<StageTiming> stages = List.of(
+                timing(AnalysisTimeline.QUEUE_WAIT, null, 0, 50),
+                timing(AnalysisTimeline.VOLUME_RANK, "DOMESTIC", 50, 100),
+                timing(AnalysisTimeline.COLLECT_STOCK, "005930", 150, 300),
+                timing(AnalysisTimeline.COLLECT_STOCK, "000660", 150, 200),
+                timing(AnalysisTimeline.LLM, "005930", 500, 4000),
+                timing(AnalysisTimeline.LLM, "000660", 500, 3000),
+                timing(AnalysisTimeline.LLM, "000660", 3500, 2000));
+
+        List<CriticalStage> path = AnalysisTimelineService.criticalPath(stages);
+
+        assertEquals(List.of(
+                new CriticalStage(AnalysisTimeline.QUEUE_WAIT, null, 50),
+                new CriticalStage(AnalysisTimeline.VOLUME_RANK, null, 100),
+                new CriticalStage(AnalysisTimeline.COLLECT_STOCK, "005930", 300),
+                new CriticalStage(AnalysisTimeline.LLM, "000660", 5000)), path);
+    }
+
+    @Test
+    @DisplayName("finish - 쌓인 단계를 시작 시각 순으로 정리해 저장한다")
+    void finish_savesSortedTimeline() throws Exception {
+        when(timelineStore.getStages("test-id")).thenReturn(List.of(
+                timing(AnalysisTimeline.LLM, "005930", 500, 4000),
+                timing(AnalysisTimeline.QUEUE_WAIT, null, 0, 50)));
+
+        timelineService.finish("test-id", AnalysisStatus.DONE);
+
+        ArgumentCaptor<AnalysisTimelineDto> captor = ArgumentCaptor.forClass(AnalysisTimelineDto.class);
+        verify(timelineStore).save(captor.capture());
+        AnalysisTimelineDto saved = captor.getValue();
+        assertEquals(AnalysisStatus.DONE, saved.status());
+        assertEquals(AnalysisTimeline.QUEUE_WAIT, saved.stages().get(0).stage());
+        assertEquals(2, saved.criticalPath().size());
+    }
+
+    @Test
+    @DisplayName("finish - 기록된 단계가 없으면 저장하지 않는다")
+    void finish_skipsWhenNoStages() throws Exception {
+        when(timelineStore.getStages("test-id")).thenReturn(List.of());
+
+        timelineService.finish("test-id", AnalysisStatus.FAILED);
+
+        verify(timelineStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("getTimeline - 저장된 기록이 없으면 진행 중 단계로 만든다")
+    void getTimeline_fallsBackToRunningStages() {
+        when(timelineStore.find("test-id")).thenReturn(null);
+        when(timelineStore.getStages("test-id")).thenReturn(List.of(timing(AnalysisTimeline.QUEUE_WAIT, null, 0, 50)));
+        when(jobStore.getStatus("test-id")).thenReturn(AnalysisStatus.RUNNING);
+
+        AnalysisTimelineDto timeline = timelineService.getTimeline("test-id");
+
+        assertEquals(AnalysisStatus.RUNNING, timeline.status());
+        assertEquals(1, timeline.stages().size());
+    }
+
+    @Test
+    @DisplayName("toReport - 작업별 critical path 와 전체 시간을 백분위로 요약하고 느린 작업을 고른다")
+    void toReport_aggregatesPercentiles() {
+        List<AnalysisTimelineDto> timelines = List.of(
+                timeline("fast", 1000, 800),
+                timeline("slow", 9000, 8000),
+                timeline("mid", 3000, 2500));
+
+        AnalysisTimelineReportDto report = AnalysisTimelineService.toReport(timelines);
+
+        assertEquals(3, report.jobs());
+        assertEquals(3000, report.totalMs().p50());
+        assertEquals(9000, report.totalMs().max());
+        assertEquals(8000, report.criticalPath().get(AnalysisTimeline.LLM).max());
+        assertEquals(0, report.criticalPath().get(AnalysisTimeline.COLLECT_STOCK).count());
+        assertEquals("slow", report.slowest().get(0).analysisId());
+    }
+
+    private static StageTiming timing(String stage, String subject, long offsetMs, long durationMs) {
+        return new StageTiming(stage, subject, null, AnalysisTimeline.SUCCESS,
+                START.plusMillis(offsetMs), durationMs, 0, 0);
+    }
+
+    private static AnalysisTimelineDto timeline(String analysisId, long totalMs, long llmMs) {
+        List<StageTiming> stages = List.of(timing(AnalysisTimeline.LLM, "005930", 0, llmMs));
+        return new AnalysisTimelineDto(analysisId, AnalysisStatus.DONE, totalMs, stages,
+                AnalysisTimelineService.criticalPath(stages));
+    }
+}
@@ -0,0 +1,128 @@
+package com.stock.stockserver.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.entity.FailedAnalysisRequest;
+import com.stock.stockserver.domain.repository.FailedAnalysisRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DltRetryPageServiceTest {
+
+    private FailedAnalysisRequestRepository repository;
+    private AnalysisRequestPublisher publisher;
+    private DltRetryPageService service;
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(FailedAnalysisRequestRepository.class);
+        publisher = mock(AnalysisRequestPublisher.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+
+        service = new DltRetryPageService(repository, publisher,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionTemplate);
+        ReflectionTestUtils.setField(service, "maxInFlight", 2);
+        ReflectionTestUtils.setField(service, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(service, "claimTtlMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("retryNextPage - claim 한 행을 트랜잭션 밖에서 재전송하고, ack 받은 행만 처리 완료")
+    void retryNextPage_marksOnlyAckedRows() {
+        FailedAnalysisRequest acked = failedRequest(1L, "acked", 0);
+        FailedAnalysisRequest rejected = failedRequest(2L, "rejected", 0);
+        when(repository.lockClaimable(any(), eq(10))).thenReturn(List.of(acked, rejected));
+        when(publisher.publishAsync("acked", AnalysisTarget.DOMESTIC)).thenAnswer(invocation -> {
+            assertFalse(inTransaction.get(), "발행 중에는 트랜잭션(커넥션, 행 잠금)을 잡지 않는다");
+            return CompletableFuture.completedFuture(null);
+        });
+        when(publisher.publishAsync("rejected", AnalysisTarget.DOMESTIC))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        DltRetryPageService.PageResult result = service.retryNextPage(10);
+
+        assertEquals(2, result.claimed());
+        assertEquals(1, result.failed());
+        String nodeId = (String) ReflectionTestUtils.getField(service, "nodeId");
+        assertEquals(nodeId, acked.getClaimedBy());
+        assertTrue(acked.getClaimedUntil().isAfter(LocalDateTime.now()));
+        verify(repository).markRetried(eq(List.of(1L)), eq(nodeId), any());
+        verify(repository).releaseClaimed(List.of(2L), nodeId);
+        // 엔티티는 producer 스레드에서 바꾸지 않는다
+        assertFalse(acked.getProcessed());
+        assertEquals(0, acked.getRetryCount());
+    }
+
+    @Test
+    @DisplayName("retryNextPage - ack 가 오지 않으면 페이지 전체 send-timeout-ms 뒤 claim 을 푼다")
+    void retryNextPage_releasesOnAckTimeout() {
+        ReflectionTestUtils.setField(service, "sendTimeoutMs", 100L);
+        when(repository.lockClaimable(any(), eq(10))).thenReturn(List.of(failedRequest(1L, "slow", 0)));
+        when(publisher.publishAsync("slow", AnalysisTarget.DOMESTIC)).thenReturn(new CompletableFuture<>());
+
+        DltRetryPageService.PageResult result = service.retryNextPage(10);
+
+        assertEquals(1, result.failed());
+        verify(repository).releaseClaimed(eq(List.of(1L)), any());
+        verify(repository, never()).markRetried(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("retryNextPage - 최대 재시도 횟수를 넘긴 요청은 발행하지 않고 claim 트랜잭션에서 처리 완료")
+    void retryNextPage_exhaustedRequest() {
+        FailedAnalysisRequest exhausted = failedRequest(1L, "exhausted", DltRetryPageService.MAX_RETRY_COUNT);
+        when(repository.lockClaimable(any(), eq(10))).thenReturn(List.of(exhausted));
+
+        DltRetryPageService.PageResult result = service.retryNextPage(10);
+
+        assertEquals(1, result.claimed());
+        assertEquals(0, result.failed());
+        assertTrue(exhausted.getProcessed());
+        assertNull(exhausted.getClaimedBy());
+        verifyNoInteractions(publisher);
+        verify(repository, never()).markRetried(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("retryNextPage - 미처리 요청이 없으면 빈 결과")
+    void retryNextPage_empty() {
+        when(repository.lockClaimable(any(), eq(10))).thenReturn(List.of());
+
+        assertEquals(0, service.retryNextPage(10).claimed());
+        verifyNoInteractions(publisher);
+    }
+
+    private FailedAnalysisRequest failedRequest(Long id, String analysisId, int retryCount) {
+        return FailedAnalysisRequest.builder()
+                .id(id)
+                .analysisId(analysisId)
+                .originalMessage("{\"analysisId\":\"" + analysisId + "\",\"target\":\"DOMESTIC\"}")
+                .failedAt(LocalDateTime.now())
+                .retryCount(retryCount)
+                .build();
+    }
+}
@@ -1,27 +1,40 @@
 package com.stock.stockserver.application;
 
 import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.domain.AnalysisDeadline;
 import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.AnalysisTimeline;
+import com.stock.stockserver.domain.DailyPriceSeries;
 import com.stock.stockserver.domain.AnalysisStatus;
 import com.stock.stockserver.domain.RecommendationStatus;
 import com.stock.stockserver.domain.entity.LLMAnalysisResult;
 import com.stock.stockserver.domain.repository.AnalysisJobStore;
 import com.stock.stockserver.domain.repository.LLMAnalysisResultRepository;
+import com.stock.stockserver.dto.AnalysisProgressEvent;
 import com.stock.stockserver.dto.AnalysisResultDto;
+import com.stock.stockserver.dto.AnalysisResultPageDto;
+import com.stock.stockserver.dto.AnalysisResultSummaryDto;
+import com.stock.stockserver.dto.AnalysisStockTask;
 import com.stock.stockserver.dto.LLMAnalysisResponseDto;
 import com.stock.stockserver.dto.StockDataDto;
 import com.stock.stockserver.infrastructure.external.LLMApiClient;
+import com.stock.stockserver.infrastructure.logging.AnalysisReportSink;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.math.BigDecimal;
 import java.util.stream.Stream;
@@ -50,6 +63,18 @@ class StockAnalysisServiceTest {
     @Mock
     private AnalysisResultSaveService analysisResultSaveService;
 
+    @Mock
+    private AnalysisProgressPublisher progressPublisher;
+
+    @Mock
+    private AnalysisTaskPublisher taskPublisher;
+
+    @Mock
+    private AnalysisTimelineService timelineService;
+
+    @Mock
+    private AnalysisReportSink reportSink;
+
     private StockAnalysisService stockAnalysisService;
 
     @BeforeEach
@@ -60,8 +85,14 @@ class StockAnalysisServiceTest {
                 analysisResultRepository,
                 analysisResultSaveService,
                 jobStore,
-                Runnable::run
+                progressPublisher,
+                taskPublisher,
+                Runnable::run,
+                timelineService,
+                reportSink
         );
+        lenient().when(timelineService.bind(any()))
+                .thenAnswer(invocation -> AnalysisTimeline.of(invocation.getArgument(0), timing -> { }));
     }
 
     @Test
@@ -75,24 +106,53 @@ class StockAnalysisServiceTest {
     }
 
     @Test
-    @DisplayName("getLatestAnalysis - 최근 분석 결과 조회")
+    @DisplayName("getLatestAnalysis - 최근 분석 결과 요약 조회")
     void getLatestAnalysis() {
-        LLMAnalysisResult result1 = LLMAnalysisResult.builder()
+        when(analysisResultRepository.findSummariesByAnalysisDate(any(), eq(Long.MAX_VALUE), any()))
+                .thenReturn(Arrays.asList(summary(10L)));
+
+        AnalysisResultPageDto page = stockAnalysisService.getLatestAnalysis(null, 20);
+
+        assertNotNull(page);
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+        verify(analysisResultRepository).findSummariesByAnalysisDate(any(), eq(Long.MAX_VALUE), eq(PageRequest.of(0, 21)));
+    }
+
+    @Test
+    @DisplayName("getAnalysisResults - 다음 페이지가 있으면 마지막 id를 cursor로 반환")
+    void getAnalysisResults_returnsNextCursor() {
+        when(analysisResultRepository.findSummariesByAnalysisId(eq("test-id"), eq(30L), any()))
+                .thenReturn(List.of(summary(29L), summary(28L), summary(27L)));
+
+        AnalysisResultPageDto page = stockAnalysisService.getAnalysisResults("test-id", 30L, 2);
+
+        assertEquals(List.of(29L, 28L), page.items().stream().map(AnalysisResultSummaryDto::id).toList());
+        assertEquals(28L, page.nextCursor());
+        verify(analysisResultRepository).findSummariesByAnalysisId("test-id", 30L, PageRequest.of(0, 3));
+    }
+
+    @Test
+    @DisplayName("getAnalysisResult - 종목별 본문 조회")
+    void getAnalysisResult() {
+        LLMAnalysisResult result = LLMAnalysisResult.builder()
                 .stockCode("005930")
                 .stockName("Samsung")
                 .analysisDate(LocalDate.now())
                 .llmAnalysis("Analysis text")
-                .recommendation(com.stock.stockserver.domain.RecommendationStatus.BUY)
+                .recommendation(RecommendationStatus.BUY)
+                .confidence(0.8)
                 .analysisId("test-id")
                 .build();
+        when(analysisResultRepository.findFirstByAnalysisIdAndStockCode("test-id", "005930"))
+                .thenReturn(Optional.of(result));
+        when(analysisResultRepository.findFirstByAnalysisIdAndStockCode("test-id", "000660"))
+                .thenReturn(Optional.empty());
 
-        when(analysisResultRepository.findTop20ByAnalysisDateOrderByCreatedAtDesc(any()))
-                .thenReturn(Arrays.asList(result1));
+        AnalysisResultDto dto = stockAnalysisService.getAnalysisResult("test-id", "005930");
 
-        List<AnalysisResultDto> results = stockAnalysisService.getLatestAnalysis();
-
-        assertNotNull(results);
-        assertEquals(1, results.size());
+        assertEquals("Analysis text", dto.llmAnalysis());
+        assertNull(stockAnalysisService.getAnalysisResult("test-id", "000660"));
     }
 
     @ParameterizedTest
@@ -112,8 +172,49 @@ class StockAnalysisServiceTest {
 
         assertEquals(1, results.size());
         assertEquals(target, results.get(0).getTarget());
+        assertEquals(0.8, results.get(0).getConfidence());
+        verify(progressPublisher).publish(argThat(event ->
+                event.type() == AnalysisProgressEvent.Type.RESULT && "005930".equals(event.stockCode())));
         verify(dataCollectionService).collectStockData(target);
-        verify(analysisResultSaveService).saveAll(any());
+        verify(analysisResultSaveService).save(any());
+        verify(jobStore).markStockCompleted("analysis-id", "005930");
+        verify(reportSink).submit("analysis-id", results);
+    }
+
+    @Test
+    @DisplayName("runFullAnalysisInternal - 재처리 시 체크포인트에 있는 종목은 건너뛴다")
+    void runFullAnalysisInternal_skipsCompletedStocks() {
+        StockDataDto done = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        StockDataDto pending = stockData(AnalysisTarget.DOMESTIC, "000660", "SK hynix");
+        when(dataCollectionService.collectStockData(AnalysisTarget.DOMESTIC)).thenReturn(List.of(done, pending));
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930"));
+        when(llmApiClient.analyzeStock(pending)).thenReturn(LLMAnalysisResponseDto.builder()
+                .recommendation(RecommendationStatus.SELL)
+                .confidence(0.6)
+                .summary("summary")
+                .fullAnalysis("analysis")
+                .build());
+
+        List<LLMAnalysisResult> results = stockAnalysisService.runFullAnalysisInternal("analysis-id", AnalysisTarget.DOMESTIC);
+
+        assertEquals(List.of("000660"), results.stream().map(LLMAnalysisResult::getStockCode).toList());
+        verify(llmApiClient, never()).analyzeStock(done);
+        verify(jobStore).startProgress("analysis-id", 2, 1);
+        verify(analysisResultRepository, never()).findStockCodesByAnalysisId(any());
+    }
+
+    @Test
+    @DisplayName("runFullAnalysisInternal - 체크포인트가 없으면 DB에 저장된 종목으로 판단")
+    void runFullAnalysisInternal_fallsBackToSavedResults() {
+        StockDataDto done = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        when(dataCollectionService.collectStockData(AnalysisTarget.DOMESTIC)).thenReturn(List.of(done));
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of());
+        when(analysisResultRepository.findStockCodesByAnalysisId("analysis-id")).thenReturn(List.of("005930"));
+
+        List<LLMAnalysisResult> results = stockAnalysisService.runFullAnalysisInternal("analysis-id", AnalysisTarget.DOMESTIC);
+
+        assertTrue(results.isEmpty());
+        verifyNoInteractions(llmApiClient, analysisResultSaveService);
     }
 
     @ParameterizedTest
@@ -129,6 +230,163 @@ class StockAnalysisServiceTest {
                 "analysis-id".equals(job.getAnalysisId())
                         && job.getStatus() == AnalysisStatus.DONE
         ));
+        verify(progressPublisher).publish(argThat(event -> event.type() == AnalysisProgressEvent.Type.DONE));
+    }
+
+    @Test
+    @DisplayName("dispatchStockTasks - 남은 종목만 작업 항목으로 발행하고 작업은 진행 중으로 둔다")
+    void dispatchStockTasks_publishesPendingStocks() throws Exception {
+        StockDataDto done = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        StockDataDto pending = stockData(AnalysisTarget.DOMESTIC, "000660", "SK hynix");
+        AnalysisDeadline deadline = AnalysisDeadline.after(Duration.ofMinutes(1));
+        when(dataCollectionService.collectStockData(AnalysisTarget.DOMESTIC)).thenReturn(List.of(done, pending));
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930"));
+
+        stockAnalysisService.dispatchStockTasks("analysis-id", AnalysisTarget.DOMESTIC, deadline);
+
+        ArgumentCaptor<List<AnalysisStockTask>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskPublisher).publishAll(captor.capture());
+        List<AnalysisStockTask> tasks = captor.getValue();
+        assertEquals(1, tasks.size());
+        assertEquals("000660", tasks.get(0).stockCode());
+        assertEquals(2, tasks.get(0).total());
+        assertEquals(deadline.expiresAt(), tasks.get(0).deadline());
+
+        verify(jobStore).resetSettledStocks("analysis-id", List.of("005930"));
+        verify(jobStore).startProgress("analysis-id", 2, 1);
+        verify(jobStore).trackDeadline("analysis-id", deadline.expiresAt());
+        verify(jobStore, never()).save(any());
+        verifyNoInteractions(llmApiClient);
+    }
+
+    @Test
+    @DisplayName("runStockTask - 마지막 종목을 집계한 노드가 작업을 완료 처리")
+    void runStockTask_completesJobOnLastStock() {
+        StockDataDto stockData = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        when(llmApiClient.analyzeStock(stockData)).thenReturn(LLMAnalysisResponseDto.builder()
+                .recommendation(RecommendationStatus.BUY)
+                .confidence(0.8)
+                .summary("summary")
+                .fullAnalysis("analysis")
+                .build());
+        when(jobStore.markStockSettled("analysis-id", "005930")).thenReturn(true);
+        when(jobStore.incrementProgress("analysis-id")).thenReturn(2L);
+        when(jobStore.countSettledStocks("analysis-id")).thenReturn(2L);
+        when(jobStore.claimFinish("analysis-id")).thenReturn(true);
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of(), Set.of("000660", "005930"));
+
+        stockAnalysisService.runStockTask("analysis-id", stockData, 2);
+
+        verify(analysisResultSaveService).save(any());
+        verify(jobStore).untrackDeadline("analysis-id");
+        verify(jobStore).save(argThat(job -> job.getStatus() == AnalysisStatus.DONE));
+        verify(progressPublisher).publish(argThat(event -> event.type() == AnalysisProgressEvent.Type.RESULT));
+        verify(progressPublisher).publish(argThat(event -> event.type() == AnalysisProgressEvent.Type.DONE));
+    }
+
+    @Test
+    @DisplayName("runStockTask - 재전달된 항목은 다시 분석하거나 집계하지 않는다")
+    void runStockTask_skipsRedeliveredTask() {
+        StockDataDto stockData = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930"));
+        when(jobStore.markStockSettled("analysis-id", "005930")).thenReturn(false);
+
+        stockAnalysisService.runStockTask("analysis-id", stockData, 2);
+
+        verifyNoInteractions(llmApiClient, analysisResultSaveService, progressPublisher);
+        verify(jobStore, never()).incrementProgress(any());
+        verify(jobStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("runStockTask - 집계 직후 죽은 노드의 항목이 재전달되면 작업을 마무리한다")
+    void runStockTask_redeliveredTaskFinishesJob() {
+        StockDataDto stockData = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930", "000660"));
+        when(jobStore.markStockSettled("analysis-id", "005930")).thenReturn(false);
+        when(jobStore.countSettledStocks("analysis-id")).thenReturn(2L);
+        when(jobStore.claimFinish("analysis-id")).thenReturn(true);
+
+        stockAnalysisService.runStockTask("analysis-id", stockData, 2);
+
+        verify(jobStore, never()).incrementProgress(any());
+        verify(jobStore).save(argThat(job -> job.getStatus() == AnalysisStatus.DONE));
+    }
+
+    @Test
+    @DisplayName("runStockTask - 다른 노드가 이미 마무리한 작업은 다시 기록하지 않는다")
+    void runStockTask_finishClaimedByOtherNode() {
+        StockDataDto stockData = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930"));
+        when(jobStore.markStockSettled("analysis-id", "005930")).thenReturn(true);
+        // 재배포 중 이전 항목까지 집계되어 전체 종목 수를 넘는 경우
+        when(jobStore.countSettledStocks("analysis-id")).thenReturn(3L);
+        when(jobStore.claimFinish("analysis-id")).thenReturn(false);
+
+        stockAnalysisService.runStockTask("analysis-id", stockData, 2);
+
+        verify(jobStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("runStockTask - 진행률 갱신 실패와 유실된 항목이 있어도 마감 시각 이후 작업이 끝난다")
+    void runStockTask_droppedTaskAndProgressFailureExpireJob() {
+        StockDataDto first = stockData(AnalysisTarget.DOMESTIC, "005930", "Samsung");
+        StockDataDto dropped = stockData(AnalysisTarget.DOMESTIC, "000660", "SK hynix");
+        StockDataDto last = stockData(AnalysisTarget.DOMESTIC, "035420", "NAVER");
+        when(llmApiClient.analyzeStock(any())).thenReturn(LLMAnalysisResponseDto.builder()
+                .recommendation(RecommendationStatus.BUY)
+                .confidence(0.8)
+                .summary("summary")
+                .fullAnalysis("analysis")
+                .build());
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of());
+        when(jobStore.markStockSettled(eq("analysis-id"), any())).thenReturn(true);
+        // 첫 항목의 HINCRBY 가 실패해 카운터는 집계보다 1 적다
+        when(jobStore.incrementProgress("analysis-id"))
+                .thenThrow(new IllegalStateException("redis timeout"))
+                .thenReturn(1L);
+        when(jobStore.countSettledStocks("analysis-id")).thenReturn(1L, 2L);
+
+        stockAnalysisService.runStockTask("analysis-id", first, 3);
+        stockAnalysisService.runStockTask("analysis-id", last, 3);
+
+        // dropped 항목은 DLT로 빠져 처리되지 않았다
+        verify(llmApiClient, never()).analyzeStock(dropped);
+        verify(jobStore, never()).save(any());
+
+        when(jobStore.getStatus("analysis-id")).thenReturn(AnalysisStatus.RUNNING);
+        when(jobStore.claimFinish("analysis-id")).thenReturn(true);
+        when(jobStore.getProgressTotal("analysis-id")).thenReturn(3);
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930", "035420"));
+
+        assertTrue(stockAnalysisService.expireStockTasks("analysis-id"));
+
+        verify(jobStore).save(argThat(job -> job.getStatus() == AnalysisStatus.FAILED
+                && job.getErrorMessage().contains("2/3")));
+        verify(progressPublisher).publish(argThat(event -> event.type() == AnalysisProgressEvent.Type.FAILED));
+    }
+
+    @Test
+    @DisplayName("expireStockTasks - 결과가 모두 저장되어 있으면 DONE, 이미 끝난 작업은 건드리지 않는다")
+    void expireStockTasks() {
+        when(jobStore.getStatus("done-id")).thenReturn(AnalysisStatus.DONE);
+        when(jobStore.getStatus("analysis-id")).thenReturn(AnalysisStatus.RUNNING);
+        when(jobStore.claimFinish("analysis-id")).thenReturn(true);
+        when(jobStore.getProgressTotal("analysis-id")).thenReturn(2);
+        when(jobStore.getCompletedStocks("analysis-id")).thenReturn(Set.of("005930", "000660"));
+
+        assertFalse(stockAnalysisService.expireStockTasks("done-id"));
+        assertTrue(stockAnalysisService.expireStockTasks("analysis-id"));
+
+        verify(jobStore).save(argThat(job -> "analysis-id".equals(job.getAnalysisId())
+                && job.getStatus() == AnalysisStatus.DONE));
+        verify(jobStore, never()).claimFinish("done-id");
+    }
+
+    private AnalysisResultSummaryDto summary(Long id) {
+        return new AnalysisResultSummaryDto(id, AnalysisTarget.DOMESTIC, "005930", "Samsung",
+                LocalDate.now(), RecommendationStatus.BUY, 0.8);
     }
 
     private StockDataDto stockData(AnalysisTarget target, String stockCode, String stockName) {
@@ -144,7 +402,7 @@ class StockAnalysisServiceTest {
                 .priceHigh52Week(BigDecimal.valueOf(120))
                 .priceLow52Week(BigDecimal.valueOf(80))
                 .analysisDate(LocalDate.now())
-                .dailyPricesJson("[]")
+                .dailyPrices(DailyPriceSeries.empty())
                 .build();
     }
 
@@ -1,9 +1,6 @@
 package com.stock.stockserver.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock.stockserver.domain.AnalysisTarget;
-import com.stock.stockserver.domain.repository.DailyPriceRepository;
-import com.stock.stockserver.domain.repository.StockDataRepository;
 import com.stock.stockserver.dto.DailyPriceDto;
 import com.stock.stockserver.dto.StockDataDto;
 import com.stock.stockserver.dto.VolumeRankDto;
@@ -25,22 +22,16 @@ import static org.mockito.Mockito.*;
 class StockDataCollectionServiceTest {
 
     private KisApiClient kisApiClient;
-    private StockDataRepository stockDataRepository;
-    private DailyPriceRepository dailyPriceRepository;
-    private ObjectMapper objectMapper;
+    private StockDataSaveService stockDataSaveService;
     private StockDataCollectionService service;
 
     @BeforeEach
     void setUp() {
         kisApiClient = mock(KisApiClient.class);
-        stockDataRepository = mock(StockDataRepository.class);
-        dailyPriceRepository = mock(DailyPriceRepository.class);
-        objectMapper = mock(ObjectMapper.class);
+        stockDataSaveService = mock(StockDataSaveService.class);
         service = new StockDataCollectionService(
                 kisApiClient,
-                stockDataRepository,
-                dailyPriceRepository,
-                objectMapper,
+                stockDataSaveService,
                 Runnable::run
         );
         ReflectionTestUtils.setField(service, "daysBack", 60);
@@ -49,34 +40,32 @@ class StockDataCollectionServiceTest {
     @ParameterizedTest
     @MethodSource("singleTargets")
     @DisplayName("collectStockData - 국내/해외 단일 대상 수집")
-    void collectStockData_singleTarget(AnalysisTarget target) throws Exception {
+    void collectStockData_singleTarget(AnalysisTarget target) {
         VolumeRankDto rank = volumeRank(target);
         when(kisApiClient.getVolumeRankStocks(target)).thenReturn(List.of(rank));
         when(kisApiClient.getDailyData(target, rank.exchangeCode(), rank.stockCode(), 60))
                 .thenReturn(List.of(dailyPrice(rank.stockCode())));
-        when(objectMapper.writeValueAsString(any())).thenReturn("[]");
 
         List<StockDataDto> results = service.collectStockData(target);
 
         assertEquals(1, results.size());
         assertEquals(target, results.get(0).target());
         assertEquals(rank.exchangeCode(), results.get(0).exchangeCode());
+        assertEquals(1, results.get(0).dailyPrices().size());
         verify(kisApiClient).getVolumeRankStocks(target);
         verify(kisApiClient).getDailyData(target, rank.exchangeCode(), rank.stockCode(), 60);
-        verify(stockDataRepository).save(any());
-        verify(dailyPriceRepository).saveAll(any());
+        verify(stockDataSaveService).saveBatch(eq(List.of(dailyPrice(rank.stockCode()))), argThat(list -> list.size() == 1));
     }
 
     @Test
     @DisplayName("collectStockData - ALL 대상은 국내와 해외를 모두 수집")
-    void collectStockData_allTarget() throws Exception {
+    void collectStockData_allTarget() {
         VolumeRankDto domesticRank = volumeRank(AnalysisTarget.DOMESTIC);
         VolumeRankDto overseasRank = volumeRank(AnalysisTarget.OVERSEAS);
         when(kisApiClient.getVolumeRankStocks(AnalysisTarget.DOMESTIC)).thenReturn(List.of(domesticRank));
         when(kisApiClient.getVolumeRankStocks(AnalysisTarget.OVERSEAS)).thenReturn(List.of(overseasRank));
         when(kisApiClient.getDailyData(any(), anyString(), anyString(), eq(60)))
                 .thenAnswer(invocation -> List.of(dailyPrice(invocation.getArgument(2))));
-        when(objectMapper.writeValueAsString(any())).thenReturn("[]");
 
         List<StockDataDto> results = service.collectStockData(AnalysisTarget.ALL);
 
@@ -89,6 +78,7 @@ class StockDataCollectionServiceTest {
                 AnalysisTarget.DOMESTIC, domesticRank.exchangeCode(), domesticRank.stockCode(), 60);
         verify(kisApiClient).getDailyData(
                 AnalysisTarget.OVERSEAS, overseasRank.exchangeCode(), overseasRank.stockCode(), 60);
+        verify(stockDataSaveService, times(2)).saveBatch(anyList(), anyList());
     }
 
     private VolumeRankDto volumeRank(AnalysisTarget target) {
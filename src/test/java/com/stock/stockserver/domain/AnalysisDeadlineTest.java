@@ -0,0 +1,75 @@
+package com.stock.stockserver.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisDeadlineTest {
+
+    @Test
+    @DisplayName("cap - 남은 시간이 개별 타임아웃보다 짧으면 남은 시간으로 줄인다")
+    void cap_returnsRemainingWhenShorter() {
+        AnalysisDeadline deadline = AnalysisDeadline.after(Duration.ofSeconds(10));
+
+        assertTrue(deadline.cap(Duration.ofSeconds(45)).compareTo(Duration.ofSeconds(10)) <= 0);
+        assertEquals(Duration.ofSeconds(1), deadline.cap(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("checkNotExpired - 마감 시각이 지나면 예외")
+    void checkNotExpired_throwsWhenExpired() {
+        AnalysisDeadline deadline = AnalysisDeadline.at(Instant.now().minusSeconds(1));
+
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        AnalysisDeadlineExceededException e = assertThrows(AnalysisDeadlineExceededException.class,
+                () -> deadline.checkNotExpired("KIS"));
+        assertEquals("KIS", e.getStage());
+    }
+
+    @Test
+    @DisplayName("callWith - 실행 중에만 현재 스레드에 바인딩되고 이후 복원된다")
+    void callWith_bindsOnlyDuringExecution() {
+        AnalysisDeadline outer = AnalysisDeadline.after(Duration.ofMinutes(1));
+        AnalysisDeadline inner = AnalysisDeadline.after(Duration.ofSeconds(5));
+
+        outer.runWith(() -> {
+            assertSame(outer, AnalysisDeadline.current());
+            inner.runWith(() -> assertSame(inner, AnalysisDeadline.current()));
+            assertSame(outer, AnalysisDeadline.current());
+        });
+
+        assertNotSame(outer, AnalysisDeadline.current());
+    }
+
+    @Test
+    @DisplayName("awaitAll - 마감 시각까지 끝나지 않은 작업은 취소되고 예외")
+    void awaitAll_cancelsPendingFuturesOnTimeout() {
+        AnalysisDeadline deadline = AnalysisDeadline.after(Duration.ofMillis(100));
+        CompletableFuture<String> done = CompletableFuture.completedFuture("done");
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        assertThrows(AnalysisDeadlineExceededException.class,
+                () -> deadline.awaitAll(List.of(done, pending), "LLM 분석"));
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    @DisplayName("awaitAll - 모든 작업이 마감 전에 끝나면 순서대로 결과 반환")
+    void awaitAll_returnsResultsInOrder() {
+        AnalysisDeadline deadline = AnalysisDeadline.after(Duration.ofSeconds(5));
+
+        List<String> results = deadline.awaitAll(List.of(
+                CompletableFuture.completedFuture("a"),
+                CompletableFuture.supplyAsync(() -> "b")
+        ), "LLM 분석");
+
+        assertEquals(List.of("a", "b"), results);
+    }
+}
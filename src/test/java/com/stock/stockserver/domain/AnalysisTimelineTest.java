@@ -0,0 +1,78 @@
+package com.stock.stockserver.domain;
+
+import com.stock.stockserver.domain.AnalysisTimeline.StageTiming;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisTimelineTest {
+
+    @Test
+    @DisplayName("time - 단계가 끝나면 결과와 함께 기록되고, 진행 중 단계에 대기/재시도가 더해진다")
+    void time_recordsStageWithWaitAndRetries() {
+        List<StageTiming> recorded = new ArrayList<>();
+        AnalysisTimeline timeline = AnalysisTimeline.of("test-id", recorded::add);
+
+        String result = timeline.callWith(() -> timeline.time(AnalysisTimeline.COLLECT_STOCK, "005930", () -> {
+            AnalysisTimeline.currentStage().addWait(Duration.ofMillis(30).toNanos());
+            AnalysisTimeline.currentStage().retry();
+            return "ok";
+        }));
+
+        assertEquals("ok", result);
+        assertEquals(1, recorded.size());
+        StageTiming timing = recorded.get(0);
+        assertEquals(AnalysisTimeline.COLLECT_STOCK, timing.stage());
+        assertEquals("005930", timing.subject());
+        assertEquals(AnalysisTimeline.SUCCESS, timing.outcome());
+        assertEquals(30, timing.waitMs());
+        assertEquals(1, timing.retries());
+    }
+
+    @Test
+    @DisplayName("time - 예외로 끝나면 failure, 마감 초과면 deadline 으로 기록")
+    void time_recordsFailureOutcome() {
+        List<StageTiming> recorded = new ArrayList<>();
+        AnalysisTimeline timeline = AnalysisTimeline.of("test-id", recorded::add);
+
+        assertThrows(IllegalStateException.class, () -> timeline.time(AnalysisTimeline.LLM, "AAPL", () -> {
+            throw new IllegalStateException("fail");
+        }));
+        assertThrows(AnalysisDeadlineExceededException.class, () -> timeline.time(AnalysisTimeline.LLM, "AAPL",
+                () -> AnalysisDeadline.at(Instant.now().minusSeconds(1)).checkNotExpired("LLM")));
+
+        assertEquals(List.of(AnalysisTimeline.FAILURE, "deadline"),
+                recorded.stream().map(StageTiming::outcome).toList());
+    }
+
+    @Test
+    @DisplayName("start - 중첩 단계가 끝나면 바깥 단계가 다시 진행 중 단계가 된다")
+    void start_restoresParentStage() {
+        AnalysisTimeline timeline = AnalysisTimeline.of("test-id", timing -> { });
+
+        AnalysisTimeline.Stage outer = timeline.start(AnalysisTimeline.VOLUME_RANK, "DOMESTIC");
+        AnalysisTimeline.Stage inner = timeline.start(AnalysisTimeline.LLM, "005930");
+        assertSame(inner, AnalysisTimeline.currentStage());
+
+        inner.end(AnalysisTimeline.SUCCESS);
+        assertSame(outer, AnalysisTimeline.currentStage());
+
+        outer.end(AnalysisTimeline.SUCCESS);
+        assertNotSame(outer, AnalysisTimeline.currentStage());
+    }
+
+    @Test
+    @DisplayName("current - 바인딩되지 않은 스레드에서는 기록하지 않는다")
+    void current_disabledWhenUnbound() {
+        AnalysisTimeline timeline = AnalysisTimeline.current();
+
+        assertFalse(timeline.isEnabled());
+        assertEquals("ok", timeline.time(AnalysisTimeline.LLM, "005930", () -> "ok"));
+    }
+}
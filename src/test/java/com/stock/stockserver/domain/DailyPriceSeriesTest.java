@@ -0,0 +1,57 @@
+package com.stock.stockserver.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyPriceSeriesTest {
+
+    @Test
+    @DisplayName("encode/decode - 거래일, 가격, 거래량 왕복 보존")
+    void encodeDecode_roundTrip() {
+        LocalDate today = LocalDate.of(2024, 6, 14);
+        DailyPriceSeries.Builder builder = DailyPriceSeries.builder(60);
+        for (int i = 0; i < 60; i++) {
+            builder.add(today.minusDays(i), 182.63 + i, 183.1 + i, 185.0001 + i, 181.5 - i * 0.01, 50_000_000L - i * 1000);
+        }
+        DailyPriceSeries series = builder.build();
+
+        DailyPriceSeries decoded = DailyPriceSeries.decode(series.encode());
+
+        assertEquals(60, decoded.size());
+        for (int i = 0; i < 60; i++) {
+            assertEquals(series.tradeDate(i), decoded.tradeDate(i));
+            assertEquals(series.openPrice(i), decoded.openPrice(i), 1e-9);
+            assertEquals(series.closePrice(i), decoded.closePrice(i), 1e-9);
+            assertEquals(series.highPrice(i), decoded.highPrice(i), 1e-9);
+            assertEquals(series.lowPrice(i), decoded.lowPrice(i), 1e-9);
+            assertEquals(series.volume(i), decoded.volume(i));
+        }
+        assertEquals(series.maxHighPrice(), decoded.maxHighPrice(), 1e-9);
+        assertEquals(series.minLowPrice(), decoded.minLowPrice(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("encode - 60일 일봉이 1KB 미만으로 저장된다")
+    void encode_isCompact() {
+        LocalDate today = LocalDate.of(2024, 6, 14);
+        DailyPriceSeries.Builder builder = DailyPriceSeries.builder(60);
+        for (int i = 0; i < 60; i++) {
+            builder.add(today.minusDays(i), 71_000 + i * 100, 71_500 + i * 100, 72_000 + i * 100, 70_500 + i * 100, 15_000_000L + i * 12_345);
+        }
+
+        assertTrue(builder.build().encode().length < 1024);
+    }
+
+    @Test
+    @DisplayName("decode - 빈 값은 빈 시계열, 손상된 값은 예외")
+    void decode_emptyAndCorrupted() {
+        assertEquals(0, DailyPriceSeries.decode(null).size());
+        assertEquals(0, DailyPriceSeries.decode(DailyPriceSeries.empty().encode()).size());
+        assertThrows(IllegalArgumentException.class, () -> DailyPriceSeries.decode(new byte[]{9, 1, 2}));
+        assertThrows(IllegalArgumentException.class, () -> DailyPriceSeries.decode(new byte[]{1, 1, 2}));
+    }
+}
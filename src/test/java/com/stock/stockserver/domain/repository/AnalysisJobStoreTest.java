@@ -0,0 +1,205 @@
+package com.stock.stockserver.domain.repository;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisJobStoreTest {
+
+    private RedisRepository redisRepository;
+    private AnalysisJobRepository analysisJobRepository;
+    private AnalysisJobStore jobStore;
+
+    @BeforeEach
+    void setUp() {
+        redisRepository = mock(RedisRepository.class);
+        analysisJobRepository = mock(AnalysisJobRepository.class);
+        jobStore = new AnalysisJobStore(redisRepository, analysisJobRepository);
+    }
+
+    @Test
+    @DisplayName("get - Redis 해시 1회 조회로 상태와 오류를 함께 읽는다")
+    void get_readsSingleHash() {
+        when(redisRepository.hGetAll("analysisJobState::job-1"))
+                .thenReturn(Map.of("status", "FAILED", "error", "boom"));
+
+        AnalysisJob job = jobStore.get("job-1");
+
+        assertEquals(AnalysisStatus.FAILED, job.getStatus());
+        assertEquals("boom", job.getErrorMessage());
+        verify(redisRepository, times(1)).hGetAll(anyString());
+        verifyNoInteractions(analysisJobRepository);
+    }
+
+    @Test
+    @DisplayName("get - Redis에 없으면 DB fallback")
+    void get_fallsBackToDatabase() {
+        when(redisRepository.hGetAll("analysisJobState::job-1")).thenReturn(Map.of());
+        when(analysisJobRepository.findById("job-1")).thenReturn(Optional.of(AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build()));
+
+        assertEquals(AnalysisStatus.DONE, jobStore.get("job-1").getStatus());
+    }
+
+    @Test
+    @DisplayName("getStatuses - 파이프라인 1회로 조회하고 누락분만 DB에서 한 번에 조회")
+    void getStatuses_pipelinesAndBatchesMisses() {
+        when(redisRepository.hGetAllPipelined(List.of("analysisJobState::job-1", "analysisJobState::job-2")))
+                .thenReturn(List.of(
+                        Map.of("status", "RUNNING", "completed", "3", "total", "10",
+                                "createdAt", "2024-06-14T00:00:00Z", "updatedAt", "2024-06-14T00:00:05Z"),
+                        Map.of()));
+        when(analysisJobRepository.findAllById(List.of("job-2"))).thenReturn(List.of(AnalysisJob.builder()
+                .analysisId("job-2")
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build()));
+
+        List<AnalysisJobStatusDto> statuses = jobStore.getStatuses(List.of("job-1", "job-2", "job-1"));
+
+        assertEquals(2, statuses.size());
+        assertEquals(AnalysisStatus.RUNNING, statuses.get(0).status());
+        assertEquals(3, statuses.get(0).completed());
+        assertEquals(10, statuses.get(0).total());
+        assertEquals(AnalysisStatus.DONE, statuses.get(1).status());
+        assertNull(statuses.get(1).total());
+    }
+
+    @Test
+    @DisplayName("save - 해시 필드를 한 번에 기록하고 DB에 저장")
+    void save_writesHashAndDatabase() {
+        AnalysisJob job = AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.RUNNING)
+                .errorMessage(null)
+                .build();
+
+        jobStore.save(job);
+
+        verify(redisRepository).hPutAll(eq("analysisJobState::job-1"),
+                argThat(fields -> "RUNNING".equals(fields.get("status")) && !fields.containsKey("error")),
+                argThat(fields -> fields.containsKey("createdAt")),
+                eq(List.of("error")),
+                any());
+        verify(analysisJobRepository).save(job);
+    }
+
+    @Test
+    @DisplayName("save - 재시도로 FAILED 에서 DONE 이 되면 이전 오류 필드를 같은 파이프라인에서 지운다")
+    void save_clearsPreviousErrorOnSuccessfulRetry() {
+        jobStore.save(AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.FAILED)
+                .errorMessage("KIS 장애")
+                .build());
+        jobStore.save(AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build());
+
+        verify(redisRepository).hPutAll(eq("analysisJobState::job-1"),
+                argThat(fields -> "KIS 장애".equals(fields.get("error"))), any(), eq(List.of()), any());
+        verify(redisRepository).hPutAll(eq("analysisJobState::job-1"),
+                argThat(fields -> "DONE".equals(fields.get("status")) && !fields.containsKey("error")),
+                any(), eq(List.of("error")), any());
+    }
+
+    @Test
+    @DisplayName("resetSettledStocks - 이미 저장된 종목을 집계된 것으로 채우고 마무리 기록을 지운다")
+    void resetSettledStocks_seedsCompletedStocks() {
+        jobStore.resetSettledStocks("job-1", List.of("005930"));
+
+        verify(redisRepository).sReplace(eq("analysisJobSettled::job-1"), eq(List.of("005930")), any());
+        verify(redisRepository).delete("analysisJobFinished::job-1");
+    }
+
+    @Test
+    @DisplayName("getCachedJobs - Redis 해시의 생성/수정 시각을 그대로 옮긴다")
+    void getCachedJobs_carriesRedisTimestamps() {
+        when(redisRepository.hGetAllPipelined(List.of("analysisJobState::job-1")))
+                .thenReturn(List.of(Map.of("status", "DONE",
+                        "createdAt", "2024-01-02T00:00:00Z", "updatedAt", "2024-01-02T00:00:05Z")));
+
+        AnalysisJob job = jobStore.getCachedJobs(List.of("job-1")).get(0);
+
+        assertEquals(AnalysisStatus.DONE, job.getStatus());
+        assertEquals(LocalDateTime.ofInstant(Instant.parse("2024-01-02T00:00:00Z"), ZoneId.systemDefault()), job.getCreatedAt());
+        assertEquals(LocalDateTime.ofInstant(Instant.parse("2024-01-02T00:00:05Z"), ZoneId.systemDefault()), job.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("save - write-behind 모드에서는 전역 시퀀스로 dirty 표시만 한다")
+    void save_writeBehindMarksDirtyWithSequence() {
+        ReflectionTestUtils.setField(jobStore, "writeBehind", true);
+
+        jobStore.save(AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build());
+
+        verify(redisRepository).zAddNextSequence("analysisJob:dirty", "analysisJob:dirtySeq", "job-1");
+        verifyNoInteractions(analysisJobRepository);
+    }
+
+    @Test
+    @DisplayName("saveTimeline - write-behind 모드에서 첫 flush 전에 끝난 작업은 행을 만들지 않고 해시에 담아 flush 로 넘긴다")
+    void saveTimeline_writeBehindFinishBeforeFlush() {
+        ReflectionTestUtils.setField(jobStore, "writeBehind", true);
+
+        jobStore.save(AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.FAILED)
+                .errorMessage("KIS 장애")
+                .build());
+        jobStore.saveTimeline("job-1", "{\"analysisId\":\"job-1\"}");
+
+        verify(redisRepository).hPutAll(eq("analysisJobState::job-1"),
+                eq(Map.of("timeline", "{\"analysisId\":\"job-1\"}")), eq(Map.of()), any());
+        verify(redisRepository, times(2)).zAddNextSequence("analysisJob:dirty", "analysisJob:dirtySeq", "job-1");
+        verifyNoInteractions(analysisJobRepository);
+
+        // 이후 flush 가 읽는 작업에는 상태, 오류, timeline, Redis 생성 시각이 함께 담긴다
+        when(redisRepository.hGetAllPipelined(List.of("analysisJobState::job-1")))
+                .thenReturn(List.of(Map.of("status", "FAILED", "error", "KIS 장애",
+                        "timeline", "{\"analysisId\":\"job-1\"}",
+                        "createdAt", "2024-01-02T00:00:00Z", "updatedAt", "2024-01-02T00:00:02Z")));
+
+        AnalysisJob job = jobStore.getCachedJobs(List.of("job-1")).get(0);
+
+        assertEquals(AnalysisStatus.FAILED, job.getStatus());
+        assertEquals("KIS 장애", job.getErrorMessage());
+        assertEquals("{\"analysisId\":\"job-1\"}", job.getTimeline());
+        assertEquals(LocalDateTime.ofInstant(Instant.parse("2024-01-02T00:00:00Z"), ZoneId.systemDefault()), job.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("saveTimeline - 즉시 저장 모드에서는 기존 행의 timeline 컬럼만 갱신한다")
+    void saveTimeline_updatesTimelineColumnOnly() {
+        when(analysisJobRepository.saveTimeline("job-1", "{}")).thenReturn(1);
+
+        jobStore.saveTimeline("job-1", "{}");
+
+        verify(analysisJobRepository).saveTimeline("job-1", "{}");
+        verifyNoInteractions(redisRepository);
+    }
+}
@@ -0,0 +1,27 @@
+package com.stock.stockserver.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisRetryPolicyTest {
+
+    private final AnalysisRetryPolicy retryPolicy = new AnalysisRetryPolicy(4, 30_000L, 10.0, 1_800_000L);
+
+    @Test
+    @DisplayName("delayMs - 지수 증가 후 최대 지연에서 멈춤")
+    void delayMs_exponentialWithCap() {
+        assertEquals(30_000L, retryPolicy.delayMs(1));
+        assertEquals(300_000L, retryPolicy.delayMs(2));
+        assertEquals(1_800_000L, retryPolicy.delayMs(3));
+    }
+
+    @Test
+    @DisplayName("canRetry - 첫 실행 포함 attempts 회까지만 실행")
+    void canRetry_untilAttemptsExhausted() {
+        assertTrue(retryPolicy.canRetry(0));
+        assertTrue(retryPolicy.canRetry(2));
+        assertFalse(retryPolicy.canRetry(3));
+    }
+}
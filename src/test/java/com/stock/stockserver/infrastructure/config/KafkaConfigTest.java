@@ -0,0 +1,69 @@
+package com.stock.stockserver.infrastructure.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class KafkaConfigTest {
+
+    private RetryTopicConfiguration configuration;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        KafkaConfig kafkaConfig = new KafkaConfig();
+
+        configuration = kafkaConfig.analysisRetryTopicConfiguration(mock(KafkaTemplate.class),
+                new AnalysisRetryPolicy(4, 30000L, 10.0, 1800000L));
+    }
+
+    @Test
+    @DisplayName("analysisRetryTopicConfiguration - 30초 → 5분 → 30분 재시도 토픽을 거쳐 .DLT로 간다")
+    void retryTopics_backOffThenDlt() {
+        List<DestinationTopic.Properties> topics = configuration.getDestinationTopicProperties();
+
+        assertEquals(5, topics.size());
+        assertEquals(0L, topics.get(0).delay());
+        assertEquals("", topics.get(0).suffix());
+        assertEquals(30000L, topics.get(1).delay());
+        assertEquals("-retry-0", topics.get(1).suffix());
+        assertEquals(300000L, topics.get(2).delay());
+        assertEquals("-retry-1", topics.get(2).suffix());
+        assertEquals(1800000L, topics.get(3).delay());
+        assertEquals("-retry-2", topics.get(3).suffix());
+        assertTrue(topics.get(4).isDltTopic());
+        assertEquals(".DLT", topics.get(4).suffix());
+        topics.forEach(properties -> assertEquals(4, properties.maxAttempts()));
+    }
+
+    @Test
+    @DisplayName("analysisRetryTopicConfiguration - 메시지 형식 오류는 재시도하지 않고 바로 DLT로 보낸다")
+    void retryTopics_skipRetryOnJsonProcessingException() {
+        DestinationTopic mainTopic = new DestinationTopic("analysis-requests",
+                configuration.getDestinationTopicProperties().get(0));
+        JsonProcessingException malformed = new JsonProcessingException("잘못된 메시지") { };
+
+        assertFalse(mainTopic.shouldRetryOn(1, malformed));
+        assertFalse(mainTopic.shouldRetryOn(1, new ListenerExecutionFailedException("listener failed", malformed)));
+        assertTrue(mainTopic.shouldRetryOn(1, new IllegalStateException("일시 장애")));
+    }
+
+    @Test
+    @DisplayName("analysisRetryTopicConfiguration - DLT 메시지는 dltMessageProcessor.processDltMessage 가 처리한다")
+    void retryTopics_dltHandlerIsDltMessageProcessor() {
+        assertEquals("dltMessageProcessor", configuration.getDltHandlerMethod().getBeanName());
+        assertEquals("processDltMessage", configuration.getDltHandlerMethod().getMethodName());
+        assertTrue(configuration.hasConfigurationForTopics(new String[]{"analysis-requests"}));
+        assertFalse(configuration.hasConfigurationForTopics(new String[]{"analysis-stock-tasks"}));
+    }
+}
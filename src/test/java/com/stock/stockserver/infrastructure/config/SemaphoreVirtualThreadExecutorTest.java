@@ -0,0 +1,88 @@
+package com.stock.stockserver.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SemaphoreVirtualThreadExecutorTest {
+
+    @Test
+    @DisplayName("execute - 동시 실행 수는 maxConcurrency를 넘지 않는다")
+    void execute_limitsConcurrencyBySemaphore() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        try (SemaphoreVirtualThreadExecutor executor = new SemaphoreVirtualThreadExecutor("test-", 3)) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    int current = running.incrementAndGet();
+                    maxObserved.accumulateAndGet(current, Math::max);
+                    sleep(20);
+                    running.decrementAndGet();
+                }, executor));
+            }
+
+            futures.forEach(CompletableFuture::join);
+        }
+
+        assertEquals(3, maxObserved.get());
+    }
+
+    @Test
+    @DisplayName("execute - permit이 모두 사용 중이어도 제출 스레드는 블로킹되지 않는다")
+    void execute_doesNotBlockSubmitterWhenPermitsExhausted() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (SemaphoreVirtualThreadExecutor executor = new SemaphoreVirtualThreadExecutor("test-", 1)) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                executor.execute(() -> await(release));
+            }
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            assertTrue(elapsedMs < 1000, "제출이 블로킹되었습니다: " + elapsedMs + "ms");
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("execute - 작업은 가상 스레드에서 실행된다")
+    void execute_runsOnVirtualThread() {
+        try (SemaphoreVirtualThreadExecutor executor = new SemaphoreVirtualThreadExecutor("test-", 1)) {
+            boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).join();
+
+            assertTrue(virtual);
+        }
+    }
+
+    @Test
+    @DisplayName("생성 - maxConcurrency가 0 이하이면 예외")
+    void constructor_rejectsNonPositiveConcurrency() {
+        assertThrows(IllegalArgumentException.class, () -> new SemaphoreVirtualThreadExecutor("test-", 0));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package com.stock.stockserver.infrastructure.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.application.AnalysisRequestHandler;
 import com.stock.stockserver.domain.AnalysisTarget;
 import com.stock.stockserver.dto.AnalysisEvent;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +15,7 @@ import org.springframework.kafka.support.Acknowledgment;
 import java.time.LocalDateTime;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -25,7 +25,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 class AnalysisConsumerTest {
 
     @Mock
-    private StockAnalysisService analysisService;
+    private AnalysisRequestHandler requestHandler;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -43,11 +43,11 @@ class AnalysisConsumerTest {
         AnalysisEvent event = new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now());
         
         when(objectMapper.readValue(message, AnalysisEvent.class)).thenReturn(event);
+        when(requestHandler.handle(event)).thenReturn(true);
 
         analysisConsumer.consumeAnalysisRequest(message, acknowledgment);
 
-        verify(analysisService, times(1)).saveJob("test-id");
-        verify(analysisService, times(1)).runFullAnalysis("test-id", AnalysisTarget.ALL);
+        verify(requestHandler, times(1)).handle(event);
         verify(acknowledgment, times(1)).acknowledge();
     }
 
@@ -59,14 +59,42 @@ class AnalysisConsumerTest {
         AnalysisEvent event = new AnalysisEvent("test-id", target, LocalDateTime.now());
 
         when(objectMapper.readValue(message, AnalysisEvent.class)).thenReturn(event);
+        when(requestHandler.handle(event)).thenReturn(true);
 
         analysisConsumer.consumeAnalysisRequest(message, acknowledgment);
 
-        verify(analysisService).saveJob("test-id");
-        verify(analysisService).runFullAnalysis("test-id", target);
+        verify(requestHandler).handle(event);
         verify(acknowledgment).acknowledge();
     }
 
+    @Test
+    @DisplayName("consumeAnalysisRequest - 중복 요청도 ACK")
+    void consumeAnalysisRequest_duplicateAcked() throws Exception {
+        String message = "duplicate-message";
+        AnalysisEvent event = new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now());
+
+        when(objectMapper.readValue(message, AnalysisEvent.class)).thenReturn(event);
+        when(requestHandler.handle(event)).thenReturn(false);
+
+        analysisConsumer.consumeAnalysisRequest(message, acknowledgment);
+
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("consumeAnalysisRequest - 처리 실패 시 ACK 하지 않고 예외 전파 (재시도)")
+    void consumeAnalysisRequest_handlerFailure() throws Exception {
+        String message = "failing-message";
+        AnalysisEvent event = new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now());
+
+        when(objectMapper.readValue(message, AnalysisEvent.class)).thenReturn(event);
+        when(requestHandler.handle(event)).thenThrow(new RuntimeException("분석 실패"));
+
+        assertThrows(RuntimeException.class, () -> analysisConsumer.consumeAnalysisRequest(message, acknowledgment));
+
+        verify(acknowledgment, never()).acknowledge();
+    }
+
     @Test
     @DisplayName("consumeAnalysisRequest - 예외 발생 시RuntimeException 발생")
     void consumeAnalysisRequest_exception() throws Exception {
@@ -80,7 +108,7 @@ class AnalysisConsumerTest {
             // 예상된 예외
         }
 
-        verify(analysisService, never()).runFullAnalysis(anyString());
+        verify(requestHandler, never()).handle(any());
     }
 
     private static Stream<AnalysisTarget> analysisTargets() {
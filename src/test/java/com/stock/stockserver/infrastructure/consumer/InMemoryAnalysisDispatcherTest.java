@@ -0,0 +1,103 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stock.stockserver.application.AnalysisRequestHandler;
+import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.config.AnalysisRetryPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InMemoryAnalysisDispatcherTest {
+
+    private AnalysisRequestHandler requestHandler;
+    private DltMessageProcessor dltMessageProcessor;
+    private InMemoryAnalysisDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        requestHandler = mock(AnalysisRequestHandler.class);
+        dltMessageProcessor = mock(DltMessageProcessor.class);
+        dispatcher = new InMemoryAnalysisDispatcher(requestHandler, mock(StockAnalysisService.class),
+                dltMessageProcessor, new ObjectMapper().registerModule(new JavaTimeModule()),
+                new AnalysisRetryPolicy(3, 10L, 2.0, 100L));
+        ReflectionTestUtils.setField(dispatcher, "queueCapacity", 10);
+        ReflectionTestUtils.setField(dispatcher, "concurrency", 1);
+        ReflectionTestUtils.setField(dispatcher, "taskConcurrency", 1);
+        ReflectionTestUtils.setField(dispatcher, "deadlineSeconds", 5L);
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher.isRunning()) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("submit - 요청을 워커에서 바로 실행")
+    void submit_runsRequest() {
+        AnalysisEvent event = AnalysisEvent.of("test-id", AnalysisTarget.ALL);
+
+        dispatcher.submit(event);
+
+        verify(requestHandler, timeout(1000)).handle(event);
+    }
+
+    @Test
+    @DisplayName("submit - 실패하면 지연 후 재시도")
+    void submit_retriesAfterFailure() {
+        AnalysisEvent event = AnalysisEvent.of("test-id", AnalysisTarget.ALL);
+        when(requestHandler.handle(event)).thenThrow(new IllegalStateException("LLM 오류")).thenReturn(true);
+
+        dispatcher.submit(event);
+
+        verify(requestHandler, timeout(1000).times(2)).handle(event);
+        verifyNoInteractions(dltMessageProcessor);
+    }
+
+    @Test
+    @DisplayName("submit - 재시도를 모두 쓰면 DLT 기록")
+    void submit_exhaustedRecordsDlt() {
+        AnalysisEvent event = AnalysisEvent.of("test-id", AnalysisTarget.ALL);
+        when(requestHandler.handle(event)).thenThrow(new IllegalStateException("LLM 오류"));
+
+        dispatcher.submit(event);
+
+        verify(dltMessageProcessor, timeout(1000)).record(contains("test-id"));
+        verify(requestHandler, times(3)).handle(event);
+    }
+
+    @Test
+    @DisplayName("stop - 이미 받은 요청은 끝까지 처리하고, 이후 요청은 거절")
+    void stop_drainsQueuedRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(requestHandler.handle(any(AnalysisEvent.class))).thenAnswer(invocation -> {
+            release.await(1, TimeUnit.SECONDS);
+            return true;
+        });
+        dispatcher.submit(AnalysisEvent.of("first", AnalysisTarget.ALL));
+        dispatcher.submit(AnalysisEvent.of("second", AnalysisTarget.ALL));
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        dispatcher.stop(stopped::countDown);
+        release.countDown();
+
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        verify(requestHandler, times(2)).handle(any(AnalysisEvent.class));
+        assertThrows(IllegalStateException.class,
+                () -> dispatcher.submit(AnalysisEvent.of("third", AnalysisTarget.ALL)));
+    }
+}
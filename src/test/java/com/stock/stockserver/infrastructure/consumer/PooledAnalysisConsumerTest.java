@@ -0,0 +1,114 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.application.AnalysisRequestHandler;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class PooledAnalysisConsumerTest {
+
+    private AnalysisRequestHandler requestHandler;
+    private ObjectMapper objectMapper;
+    private MessageListenerContainer container;
+    private DeadLetterPublishingRecoverer recoverer;
+    private Acknowledgment ack;
+    private PooledAnalysisConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        requestHandler = mock(AnalysisRequestHandler.class);
+        objectMapper = mock(ObjectMapper.class);
+        container = mock(MessageListenerContainer.class);
+        recoverer = mock(DeadLetterPublishingRecoverer.class);
+        ack = mock(Acknowledgment.class);
+
+        KafkaListenerEndpointRegistry registry = mock(KafkaListenerEndpointRegistry.class);
+        when(registry.getListenerContainer(PooledAnalysisConsumer.LISTENER_ID)).thenReturn(container);
+
+        consumer = new PooledAnalysisConsumer(requestHandler, objectMapper, registry, recoverer);
+        ReflectionTestUtils.setField(consumer, "poolSize", 1);
+        ReflectionTestUtils.setField(consumer, "deadlineSeconds", 5L);
+        consumer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.stop();
+    }
+
+    @Test
+    @DisplayName("consumeAnalysisRequest - 워커가 가득 차면 pause, 작업이 끝나면 ACK 후 resume")
+    void consume_pausesWhileWorkersBusy() throws Exception {
+        AnalysisEvent event = new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now());
+        when(objectMapper.readValue("message", AnalysisEvent.class)).thenReturn(event);
+
+        CountDownLatch release = new CountDownLatch(1);
+        when(requestHandler.handle(event)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        consumer.consumeAnalysisRequest(record("message"), ack);
+
+        // listener 스레드는 분석을 기다리지 않고 바로 돌아온다
+        verify(container).pause();
+        verify(ack, never()).acknowledge();
+
+        when(container.isPauseRequested()).thenReturn(true);
+        release.countDown();
+
+        verify(ack, timeout(1000)).acknowledge();
+        verify(container, timeout(1000)).resume();
+        assertEquals(0, consumer.inFlight());
+    }
+
+    @Test
+    @DisplayName("consumeAnalysisRequest - 분석 실패 시 DLT 전송 후 ACK")
+    void consume_failureGoesToDlt() throws Exception {
+        AnalysisEvent event = new AnalysisEvent("test-id", AnalysisTarget.ALL, LocalDateTime.now());
+        when(objectMapper.readValue("message", AnalysisEvent.class)).thenReturn(event);
+        RuntimeException failure = new RuntimeException("분석 실패");
+        when(requestHandler.handle(event)).thenThrow(failure);
+
+        ConsumerRecord<String, String> record = record("message");
+        consumer.consumeAnalysisRequest(record, ack);
+
+        verify(recoverer, timeout(1000)).accept(record, failure);
+        verify(ack, timeout(1000)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("consumeAnalysisRequest - 파싱 실패 메시지는 워커에 넘기지 않고 DLT로 보낸다")
+    void consume_unparsableMessage() throws Exception {
+        RuntimeException parseError = new RuntimeException("Parse error");
+        when(objectMapper.readValue("invalid", AnalysisEvent.class)).thenThrow(parseError);
+
+        ConsumerRecord<String, String> record = record("invalid");
+        consumer.consumeAnalysisRequest(record, ack);
+
+        verify(recoverer).accept(record, parseError);
+        verify(ack).acknowledge();
+        verifyNoInteractions(requestHandler);
+    }
+
+    private ConsumerRecord<String, String> record(String value) {
+        return new ConsumerRecord<>("analysis-requests", 0, 0L, "test-id", value);
+    }
+}
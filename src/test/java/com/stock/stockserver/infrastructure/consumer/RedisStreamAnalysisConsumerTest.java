@@ -0,0 +1,125 @@
+package com.stock.stockserver.infrastructure.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stock.stockserver.application.AnalysisRequestHandler;
+import com.stock.stockserver.application.StockAnalysisService;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.dto.AnalysisEvent;
+import com.stock.stockserver.infrastructure.config.AnalysisRetryPolicy;
+import com.stock.stockserver.infrastructure.persistence.RedisRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class RedisStreamAnalysisConsumerTest {
+
+    private RedisRepository redisRepository;
+    private AnalysisRequestHandler requestHandler;
+    private DltMessageProcessor dltMessageProcessor;
+    private ObjectMapper objectMapper;
+    private RedisStreamAnalysisConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        redisRepository = mock(RedisRepository.class);
+        requestHandler = mock(AnalysisRequestHandler.class);
+        dltMessageProcessor = mock(DltMessageProcessor.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        StreamMessageListenerContainer<String, MapRecord<String, String, String>> container =
+                mock(StreamMessageListenerContainer.class);
+
+        consumer = new RedisStreamAnalysisConsumer(container, redisRepository, requestHandler,
+                mock(StockAnalysisService.class), dltMessageProcessor, objectMapper,
+                new AnalysisRetryPolicy(4, 30_000L, 10.0, 1_800_000L));
+        ReflectionTestUtils.setField(consumer, "group", "test-group");
+    }
+
+    @Test
+    @DisplayName("onRecord - 처리 성공 시 ACK 후 삭제")
+    void onRecord_successAcks() throws Exception {
+        String payload = message("test-id");
+        when(requestHandler.handle(any(AnalysisEvent.class))).thenReturn(true);
+
+        consumer.onRecord("analysis-requests", "1-0", Map.of("payload", payload));
+
+        verify(requestHandler).handle(argThat(event -> event.analysisId().equals("test-id")));
+        verify(redisRepository).xAckAndDelete("analysis-requests", "test-group", "1-0");
+        verify(redisRepository, never()).zAdd(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("onRecord - 처리 실패 시 attempt를 올려 재시도 대기열에 넣고 ACK")
+    void onRecord_failureSchedulesRetry() throws Exception {
+        when(requestHandler.handle(any(AnalysisEvent.class))).thenThrow(new IllegalStateException("LLM 오류"));
+
+        consumer.onRecord("analysis-requests", "1-0", Map.of("payload", message("test-id"), "attempt", "1"));
+
+        ArgumentCaptor<String> member = ArgumentCaptor.forClass(String.class);
+        verify(redisRepository).zAdd(eq(RedisStreamAnalysisConsumer.RETRY_KEY), member.capture(), anyDouble());
+        Map<?, ?> retry = objectMapper.readValue(member.getValue(), Map.class);
+        assertEquals("analysis-requests", retry.get("stream"));
+        assertEquals("2", retry.get("attempt"));
+        verify(redisRepository).xAckAndDelete("analysis-requests", "test-group", "1-0");
+    }
+
+    @Test
+    @DisplayName("onRecord - 재시도 횟수를 모두 쓰면 DLT 스트림으로 이동")
+    void onRecord_exhaustedMovesToDlt() throws Exception {
+        String payload = message("test-id");
+        when(requestHandler.handle(any(AnalysisEvent.class))).thenThrow(new IllegalStateException("LLM 오류"));
+
+        consumer.onRecord("analysis-requests", "1-0", Map.of("payload", payload, "attempt", "3"));
+
+        verify(redisRepository).xAdd("analysis-requests.DLT", Map.of("payload", payload));
+        verify(redisRepository, never()).zAdd(anyString(), anyString(), anyDouble());
+        verify(redisRepository).xAckAndDelete("analysis-requests", "test-group", "1-0");
+    }
+
+    @Test
+    @DisplayName("onRecord - 파싱할 수 없는 메시지는 재시도 없이 DLT로 이동")
+    void onRecord_unparseableMovesToDlt() {
+        consumer.onRecord("analysis-requests", "1-0", Map.of("payload", "not-json"));
+
+        verifyNoInteractions(requestHandler);
+        verify(redisRepository).xAdd("analysis-requests.DLT", Map.of("payload", "not-json"));
+        verify(redisRepository).xAckAndDelete("analysis-requests", "test-group", "1-0");
+    }
+
+    @Test
+    @DisplayName("onRecord - DLT 스트림 항목은 실패 기록으로 저장")
+    void onRecord_dltRecordsFailure() {
+        consumer.onRecord("analysis-requests.DLT", "2-0", Map.of("payload", "{}"));
+
+        verify(dltMessageProcessor).record("{}");
+        verify(redisRepository).xAckAndDelete("analysis-requests.DLT", "test-group", "2-0");
+    }
+
+    @Test
+    @DisplayName("releaseDueRetries - 지연이 지난 항목을 원래 스트림에 다시 추가")
+    void releaseDueRetries_requeuesDueEntries() throws Exception {
+        String member = objectMapper.writeValueAsString(
+                Map.of("stream", "analysis-requests", "payload", "{}", "attempt", "2", "id", "r1"));
+        when(redisRepository.zRangeByScore(eq(RedisStreamAnalysisConsumer.RETRY_KEY), eq(0.0), anyDouble()))
+                .thenReturn(Set.of(member));
+        when(redisRepository.zRemove(RedisStreamAnalysisConsumer.RETRY_KEY, member)).thenReturn(true);
+
+        consumer.releaseDueRetries();
+
+        verify(redisRepository).xAdd("analysis-requests", Map.of("payload", "{}", "attempt", "2"));
+    }
+
+    private String message(String analysisId) throws Exception {
+        return objectMapper.writeValueAsString(AnalysisEvent.of(analysisId, AnalysisTarget.ALL));
+    }
+}
@@ -1,6 +1,9 @@
 package com.stock.stockserver.infrastructure.external;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisDeadline;
+import com.stock.stockserver.domain.AnalysisDeadlineExceededException;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import com.stock.stockserver.infrastructure.persistence.RedisRepository;
 import io.github.resilience4j.core.IntervalFunction;
 import io.github.resilience4j.ratelimiter.RateLimiter;
@@ -39,6 +42,7 @@ class KisApiClientRateLimitTest {
     @Mock private WebClient.RequestBodySpec requestBodySpec;
     @Mock private WebClient.ResponseSpec responseSpec;
     @Mock private RedisRepository redisRepository;
+    @Mock private PipelineMetrics pipelineMetrics;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -58,7 +62,7 @@ class KisApiClientRateLimitTest {
     // ───────────────────────────── helpers ─────────────────────────────
 
     private KisApiClient buildClient(RateLimiter rl, Retry rt) {
-        KisApiClient client = new KisApiClient(webClient, objectMapper, redisRepository, rl, rt);
+        KisApiClient client = new KisApiClient(webClient, objectMapper, redisRepository, rl, rt, pipelineMetrics);
         ReflectionTestUtils.setField(client, "baseUrl", "https://test.kis");
         ReflectionTestUtils.setField(client, "appKey", "test-key");
         ReflectionTestUtils.setField(client, "appSecret", "test-secret");
@@ -99,7 +103,7 @@ class KisApiClientRateLimitTest {
     @SuppressWarnings("unchecked")
     private Map<String, Object> invokeCallApi(KisApiClient client) {
         return (Map<String, Object>) ReflectionTestUtils.invokeMethod(
-                client, "callApi", "GET", "/endpoint", "p=1", "TR001");
+                client, "callApi", "GET", "/endpoint", "p=1", "TR001", "KRX", "005930");
     }
 
     // ───────────────────────────── tests ─────────────────────────────
@@ -283,4 +287,19 @@ class KisApiClientRateLimitTest {
         // 2차 호출은 WebClient까지 도달하지 못하므로 누적 호출 수는 여전히 3
         verify(webClient, times(3)).method(any());
     }
+
+    @Test
+    @DisplayName("callApi - permit 대기는 timeout-ms 가 남았어도 작업 마감 시각을 넘기지 않는다")
+    void callApi_permitWaitIsCappedByDeadline() {
+        // timeout(5000ms) 안에는 permit 이 돌아오지만(2초 후), 마감까지는 200ms 뿐
+        KisApiClient client = buildClient(rateLimiter(1, 2000, 5000), retry(3, 50));
+        invokeCallApi(client);
+
+        long start = System.nanoTime();
+        assertThrows(AnalysisDeadlineExceededException.class,
+                () -> AnalysisDeadline.after(Duration.ofMillis(200)).callWith(() -> invokeCallApi(client)));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+        verify(webClient, times(1)).method(any());
+    }
 }
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock.stockserver.domain.AnalysisTarget;
 import com.stock.stockserver.dto.DailyPriceDto;
 import com.stock.stockserver.dto.VolumeRankDto;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import com.stock.stockserver.infrastructure.persistence.RedisRepository;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.retry.Retry;
@@ -28,7 +29,8 @@ class KisApiClientRoutingTest {
                 mock(ObjectMapper.class),
                 mock(RedisRepository.class),
                 mock(RateLimiter.class),
-                mock(Retry.class)
+                mock(Retry.class),
+                mock(PipelineMetrics.class)
         ));
     }
 
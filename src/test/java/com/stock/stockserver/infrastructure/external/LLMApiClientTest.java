@@ -3,9 +3,11 @@ package com.stock.stockserver.infrastructure.external;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.DailyPriceSeries;
 import com.stock.stockserver.domain.RecommendationStatus;
 import com.stock.stockserver.dto.LLMAnalysisResponseDto;
 import com.stock.stockserver.dto.StockDataDto;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
 import com.stock.stockserver.infrastructure.strategy.LLMAnalysisStrategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -37,6 +39,9 @@ class LLMApiClientTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private PipelineMetrics pipelineMetrics;
+
     @Mock
     private LLMAnalysisStrategy mockGptStrategy;
 
@@ -64,7 +69,7 @@ class LLMApiClientTest {
                 new BigDecimal("80000"),
                 new BigDecimal("50000"),
                 LocalDate.now(),
-                "[]"
+                DailyPriceSeries.empty()
         );
 
         when(mockGptStrategy.getProviderName()).thenReturn("gpt");
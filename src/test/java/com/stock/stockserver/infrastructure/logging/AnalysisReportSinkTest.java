@@ -0,0 +1,128 @@
+package com.stock.stockserver.infrastructure.logging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.RecommendationStatus;
+import com.stock.stockserver.domain.entity.LLMAnalysisResult;
+import com.stock.stockserver.infrastructure.logging.AnalysisReportSink.ResultRecord;
+import com.stock.stockserver.infrastructure.logging.AnalysisReportSink.SummaryRecord;
+import com.stock.stockserver.infrastructure.metrics.PipelineMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisReportSinkTest {
+
+    private final PipelineMetrics pipelineMetrics = mock(PipelineMetrics.class);
+    private AnalysisReportSink sink;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (sink != null) {
+            sink.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("요약 줄 뒤에 종목별 본문을 남기고, 긴 본문은 body-max-chars 에서 자른다")
+    void toRecords_truncatesLongBody() {
+        sink = sink(true, 10, 5, 1.0);
+
+        List<Object> records = sink.toRecords("analysis-id", List.of(
+                result("005930", "0123456789"),
+                result("000660", "abc")));
+
+        assertEquals(3, records.size());
+        SummaryRecord summary = assertInstanceOf(SummaryRecord.class, records.get(0));
+        assertEquals(2, summary.count());
+        assertEquals("BUY", summary.results().get(0).recommendation());
+
+        ResultRecord truncated = assertInstanceOf(ResultRecord.class, records.get(1));
+        assertTrue(truncated.truncated());
+        assertEquals(10, truncated.analysisLength());
+        assertEquals("01234", truncated.analysis());
+
+        ResultRecord intact = assertInstanceOf(ResultRecord.class, records.get(2));
+        assertFalse(intact.truncated());
+        assertEquals("abc", intact.analysis());
+    }
+
+    @Test
+    @DisplayName("body-sample-rate 가 0이면 요약 줄만 남긴다")
+    void toRecords_sampleRateZeroKeepsSummaryOnly() {
+        sink = sink(true, 10, 100, 0.0);
+
+        List<Object> records = sink.toRecords("analysis-id", List.of(result("005930", "analysis")));
+
+        assertEquals(1, records.size());
+        assertInstanceOf(SummaryRecord.class, records.get(0));
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 리포트를 버리고 센다")
+    void submit_countsDroppedWhenQueueFull() {
+        sink = sink(true, 1, 100, 1.0);
+        CountDownLatch release = new CountDownLatch(1);
+        // 기록 스레드를 붙잡아 두고 대기열 1칸을 채운다
+        executor(sink).execute(() -> awaitQuietly(release));
+
+        sink.submit("analysis-1", List.of(result("005930", "analysis")));
+        sink.submit("analysis-2", List.of(result("005930", "analysis")));
+        sink.submit("analysis-3", List.of(result("005930", "analysis")));
+        release.countDown();
+
+        verify(pipelineMetrics, times(2)).countReportDropped();
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 대기열에 넣지 않는다")
+    void submit_disabled() {
+        sink = sink(false, 1, 100, 1.0);
+
+        sink.submit("analysis-id", List.of(result("005930", "analysis")));
+
+        assertEquals(0, executor(sink).getTaskCount());
+        verifyNoInteractions(pipelineMetrics);
+    }
+
+    private AnalysisReportSink sink(boolean enabled, int queueCapacity, int bodyMaxChars, double sampleRate) {
+        AnalysisReportSink reportSink = new AnalysisReportSink(new ObjectMapper(), pipelineMetrics);
+        ReflectionTestUtils.setField(reportSink, "enabled", enabled);
+        ReflectionTestUtils.setField(reportSink, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(reportSink, "bodyMaxChars", bodyMaxChars);
+        ReflectionTestUtils.setField(reportSink, "bodySampleRate", sampleRate);
+        reportSink.start();
+        return reportSink;
+    }
+
+    private ThreadPoolExecutor executor(AnalysisReportSink reportSink) {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(reportSink, "executor");
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private LLMAnalysisResult result(String stockCode, String analysis) {
+        return LLMAnalysisResult.builder()
+                .stockCode(stockCode)
+                .stockName("name-" + stockCode)
+                .target(AnalysisTarget.DOMESTIC)
+                .recommendation(RecommendationStatus.BUY)
+                .confidence(0.8)
+                .llmAnalysis(analysis)
+                .build();
+    }
+}
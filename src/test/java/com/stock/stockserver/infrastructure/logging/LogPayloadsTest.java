@@ -0,0 +1,17 @@
+package com.stock.stockserver.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogPayloadsTest {
+
+    @Test
+    @DisplayName("최대 길이를 넘으면 앞부분만 남기고 잘린 길이를 붙인다")
+    void truncate() {
+        assertNull(LogPayloads.truncate(null));
+        assertEquals("short", LogPayloads.truncate("short", 10));
+        assertEquals("01234...(+5 chars)", LogPayloads.truncate("0123456789", 5));
+    }
+}
@@ -0,0 +1,81 @@
+package com.stock.stockserver.infrastructure.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PipelineMetrics pipelineMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pipelineMetrics = new PipelineMetrics(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("recordKisCall - 거래소/TR/결과 태그별로 호출 시간을 기록한다")
+    void recordKisCall_taggedByExchangeAndOutcome() {
+        pipelineMetrics.recordKisCall("KRX", "FHPST01710000", PipelineMetrics.SUCCESS, TimeUnit.MILLISECONDS.toNanos(120));
+        pipelineMetrics.recordKisCall("NAS", "HHDFS76410000", "http_429", TimeUnit.MILLISECONDS.toNanos(80));
+
+        Timer domestic = meterRegistry.get("kis.api.calls").tags("exchange", "KRX", "outcome", "success").timer();
+        assertEquals(1, domestic.count());
+        assertEquals(120, domestic.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertEquals(1, meterRegistry.get("kis.api.calls").tags("exchange", "NAS", "outcome", "http_429").timer().count());
+    }
+
+    @Test
+    @DisplayName("recordDbSaveOnCompletion - 트랜잭션 완료 시점에 결과와 행 수를 기록한다")
+    void recordDbSaveOnCompletion_recordsAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        pipelineMetrics.recordDbSaveOnCompletion("stock_data", 42);
+        assertNull(meterRegistry.find("db.save").timer());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(1, meterRegistry.get("db.save").tags("entity", "stock_data", "outcome", "failure").timer().count());
+        DistributionSummary rows = meterRegistry.get("db.save.rows").tag("entity", "stock_data").summary();
+        assertEquals(42, rows.totalAmount(), 0.001);
+    }
+
+    @Test
+    @DisplayName("recordDbSaveOnCompletion - 트랜잭션 밖에서는 기록하지 않는다")
+    void recordDbSaveOnCompletion_outsideTransaction() {
+        pipelineMetrics.recordDbSaveOnCompletion("analysis_result", 1);
+
+        assertNull(meterRegistry.find("db.save").timer());
+    }
+
+    @Test
+    @DisplayName("recordJobDuration - 시계 차이로 음수가 나오면 0으로 기록한다")
+    void recordJobDuration_clampsNegative() {
+        pipelineMetrics.recordJobDuration("DOMESTIC", "full", PipelineMetrics.SUCCESS, Duration.ofMillis(-5));
+
+        Timer timer = meterRegistry.get("analysis.job.duration").tags("target", "DOMESTIC", "mode", "full").timer();
+        assertEquals(1, timer.count());
+        assertEquals(0, timer.totalTime(TimeUnit.MILLISECONDS), 0.001);
+    }
+}
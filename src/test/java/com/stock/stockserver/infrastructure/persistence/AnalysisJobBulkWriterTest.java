@@ -0,0 +1,94 @@
+package com.stock.stockserver.infrastructure.persistence;
+
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnalysisJobBulkWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AnalysisJobBulkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        writer = new AnalysisJobBulkWriter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("upsertAll - 늦게 읽은 상태는 Redis 에 기록된 시각으로 쓰여 더 새로운 DB 행을 덮지 않는다")
+    void upsertAll_staleWriteKeepsNewerRow() {
+        // 느린 노드가 DONE 기록 이전에 읽은 RUNNING
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 9, 0, 0);
+        LocalDateTime staleUpdatedAt = LocalDateTime.of(2024, 1, 2, 9, 0, 1);
+        AnalysisJob stale = AnalysisJob.cached("job-1", AnalysisStatus.RUNNING, null, null, createdAt, staleUpdatedAt);
+
+        writer.upsertAll(List.of(stale));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sqlCaptor.capture(), argsCaptor.capture());
+
+        Object[] args = argsCaptor.getValue();
+        assertEquals(Timestamp.valueOf(createdAt), args[4]);
+        assertEquals(Timestamp.valueOf(staleUpdatedAt), args[5]);
+
+        String sql = sqlCaptor.getValue();
+        assertTrue(sql.contains("status = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at, VALUES(status), status)"));
+        assertTrue(sql.contains("error_message = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at"));
+        assertTrue(sql.contains("updated_at = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at"));
+        assertFalse(sql.contains("created_at = "));
+    }
+
+    @Test
+    @DisplayName("upsertAll - Redis 시각이 없으면 flush 시각으로 채운다")
+    void upsertAll_fallsBackToNow() {
+        AnalysisJob job = AnalysisJob.builder()
+                .analysisId("job-1")
+                .status(AnalysisStatus.DONE)
+                .errorMessage(null)
+                .build();
+
+        writer.upsertAll(List.of(job));
+
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), argsCaptor.capture());
+        assertNotNull(argsCaptor.getValue()[4]);
+        assertNotNull(argsCaptor.getValue()[5]);
+    }
+
+    @Test
+    @DisplayName("upsertAll - 첫 flush 전에 끝난 작업은 상태, 오류, timeline 을 Redis 시각으로 한 행에 기록한다")
+    void upsertAll_finishedBeforeFirstFlushWritesOneRow() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 9, 0, 0);
+        LocalDateTime failedAt = LocalDateTime.of(2024, 1, 2, 9, 0, 2);
+        AnalysisJob failed = AnalysisJob.cached("job-1", AnalysisStatus.FAILED, "KIS 장애",
+                "{\"analysisId\":\"job-1\"}", createdAt, failedAt);
+
+        writer.upsertAll(List.of(failed));
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sqlCaptor.capture(), argsCaptor.capture());
+
+        assertArrayEquals(new Object[]{"job-1", "FAILED", "KIS 장애", "{\"analysisId\":\"job-1\"}",
+                Timestamp.valueOf(createdAt), Timestamp.valueOf(failedAt)}, argsCaptor.getValue());
+
+        // updated_at 을 바꾸기 전에 timeline 을 같은 조건으로 기록하고, 값이 없으면 기존 값을 둔다
+        String sql = sqlCaptor.getValue();
+        int timelineAt = sql.indexOf("timeline = IF(updated_at IS NULL OR VALUES(updated_at) >= updated_at, COALESCE(VALUES(timeline), timeline), timeline)");
+        assertTrue(timelineAt > 0);
+        assertTrue(timelineAt < sql.indexOf("updated_at = IF("));
+    }
+}
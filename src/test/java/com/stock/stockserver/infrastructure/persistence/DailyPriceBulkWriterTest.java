@@ -0,0 +1,75 @@
+package com.stock.stockserver.infrastructure.persistence;
+
+import com.stock.stockserver.dto.DailyPriceDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class DailyPriceBulkWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DailyPriceBulkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        writer = new DailyPriceBulkWriter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("upsertAll - 빈 목록은 DB를 호출하지 않는다")
+    void upsertAll_emptyList() {
+        assertEquals(0, writer.upsertAll(List.of()));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("upsertAll - 문장당 최대 행 수 단위로 나누어 다중 행 upsert")
+    void upsertAll_splitsIntoMultiRowStatements() {
+        int rows = DailyPriceBulkWriter.ROWS_PER_STATEMENT + 10;
+        List<DailyPriceDto> prices = IntStream.range(0, rows)
+                .mapToObj(i -> dailyPrice(LocalDate.of(2024, 1, 1).plusDays(i)))
+                .toList();
+
+        int statements = writer.upsertAll(prices);
+
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(sqlCaptor.capture(), argsCaptor.capture());
+
+        assertEquals(2, statements);
+        assertEquals(DailyPriceBulkWriter.ROWS_PER_STATEMENT * 9, argsCaptor.getAllValues().get(0).length);
+        assertEquals(10 * 9, argsCaptor.getAllValues().get(1).length);
+        assertTrue(sqlCaptor.getAllValues().get(0).contains("ON DUPLICATE KEY UPDATE"));
+    }
+
+    @Test
+    @DisplayName("buildSql - 행 수만큼 플레이스홀더 생성")
+    void buildSql_placeholderCount() {
+        String sql = DailyPriceBulkWriter.buildSql(3);
+
+        assertEquals(27, sql.chars().filter(c -> c == '?').count());
+    }
+
+    private DailyPriceDto dailyPrice(LocalDate tradeDate) {
+        return DailyPriceDto.builder()
+                .stockCode("005930")
+                .tradeDate(tradeDate)
+                .openPrice(90.0)
+                .closePrice(100.0)
+                .highPrice(110.0)
+                .lowPrice(80.0)
+                .volume(1000L)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.stock.stockserver.domain.entity.AnalysisOutboxEvent;
+import com.stock.stockserver.domain.repository.AnalysisOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AnalysisOutboxRelayTest {
+
+    private AnalysisOutboxRepository outboxRepository;
+    private KafkaTemplate<String, String> outboxKafkaTemplate;
+    private AnalysisOutboxRelay relay;
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(AnalysisOutboxRepository.class);
+        outboxKafkaTemplate = mock(KafkaTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            } finally {
+                inTransaction.set(false);
+            }
+        });
+
+        relay = new AnalysisOutboxRelay(outboxRepository, outboxKafkaTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "claimTtlMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("relayBatch - claim 한 행을 트랜잭션 밖에서 한꺼번에 전송하고, ack 받은 행을 삭제")
+    void relayBatch_sendsOutsideTransactionAndDeletes() {
+        AnalysisOutboxEvent first = event(1L, "id-1");
+        AnalysisOutboxEvent second = event(2L, "id-2");
+        when(outboxRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(first, second));
+        when(outboxKafkaTemplate.send(eq("analysis-requests"), anyString(), anyString())).thenAnswer(invocation -> {
+            assertFalse(inTransaction.get(), "브로커 전송 중에는 트랜잭션(커넥션, 행 잠금)을 잡지 않는다");
+            return CompletableFuture.completedFuture(null);
+        });
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        String relayId = (String) ReflectionTestUtils.getField(relay, "relayId");
+        assertEquals(relayId, first.getClaimedBy());
+        assertTrue(first.getClaimedUntil().isAfter(LocalDateTime.now()));
+        verify(outboxKafkaTemplate).send("analysis-requests", "id-1", "{\"analysisId\":\"id-1\"}");
+        verify(outboxKafkaTemplate).send("analysis-requests", "id-2", "{\"analysisId\":\"id-2\"}");
+        verify(outboxKafkaTemplate).flush();
+        verify(outboxRepository).deleteClaimed(List.of(1L, 2L), relayId);
+        verify(outboxRepository, never()).releaseClaimed(any(), any());
+    }
+
+    @Test
+    @DisplayName("relayBatch - 전송 실패한 행은 삭제하지 않고 claim 을 풀어 남긴다")
+    void relayBatch_releasesFailedEvents() {
+        when(outboxRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(event(1L, "id-1"), event(2L, "id-2")));
+        when(outboxKafkaTemplate.send("analysis-requests", "id-1", "{\"analysisId\":\"id-1\"}"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(outboxKafkaTemplate.send("analysis-requests", "id-2", "{\"analysisId\":\"id-2\"}"))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(-1, relayed);
+        String relayId = (String) ReflectionTestUtils.getField(relay, "relayId");
+        verify(outboxRepository).deleteClaimed(List.of(1L), relayId);
+        verify(outboxRepository).releaseClaimed(List.of(2L), relayId);
+    }
+
+    @Test
+    @DisplayName("relayBatch - ack 대기는 행마다가 아니라 배치 전체에 send-timeout-ms 를 적용한다")
+    void relayBatch_boundsAckWaitPerBatch() {
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 200L);
+        when(outboxRepository.lockClaimable(any(), eq(2))).thenReturn(List.of(event(1L, "id-1"), event(2L, "id-2")));
+        when(outboxKafkaTemplate.send(eq("analysis-requests"), anyString(), anyString()))
+                .thenAnswer(invocation -> new CompletableFuture<>());
+
+        long start = System.nanoTime();
+        assertEquals(-1, relay.relayBatch());
+
+        assertTrue(System.nanoTime() - start < 390_000_000L);
+        verify(outboxRepository).releaseClaimed(eq(List.of(1L, 2L)), any());
+    }
+
+    @Test
+    @DisplayName("relay - 배치가 가득 차면 outbox가 빌 때까지 이어서 전송")
+    void relay_drainsWhileBatchFull() {
+        when(outboxRepository.lockClaimable(any(), eq(2)))
+                .thenReturn(List.of(event(1L, "id-1"), event(2L, "id-2")))
+                .thenReturn(List.of(event(3L, "id-3")));
+        when(outboxKafkaTemplate.send(eq("analysis-requests"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(outboxRepository, times(2)).lockClaimable(any(), eq(2));
+        verify(outboxKafkaTemplate, times(3)).send(eq("analysis-requests"), anyString(), anyString());
+    }
+
+    private AnalysisOutboxEvent event(Long id, String analysisId) {
+        AnalysisOutboxEvent event = AnalysisOutboxEvent.builder()
+                .topic("analysis-requests")
+                .messageKey(analysisId)
+                .payload("{\"analysisId\":\"" + analysisId + "\"}")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
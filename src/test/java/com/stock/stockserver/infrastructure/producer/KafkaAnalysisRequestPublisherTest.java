@@ -63,6 +63,22 @@ class KafkaAnalysisRequestPublisherTest {
         assertEquals(target, event.target());
     }
 
+    @ParameterizedTest
+    @MethodSource("analysisTargets")
+    @DisplayName("publishAsync - Kafka ack 시 완료되는 future 반환")
+    void publishAsync_byTarget(AnalysisTarget target) throws Exception {
+        when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        publisher.publishAsync("analysis-id", target).get();
+
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(kafkaTemplate).send(eq("analysis-requests"), eq("analysis-id"), messageCaptor.capture());
+
+        AnalysisEvent event = objectMapper.readValue(messageCaptor.getValue(), AnalysisEvent.class);
+        assertEquals(target, event.target());
+    }
+
     private static Stream<AnalysisTarget> analysisTargets() {
         return Stream.of(AnalysisTarget.DOMESTIC, AnalysisTarget.OVERSEAS, AnalysisTarget.ALL);
     }
@@ -0,0 +1,104 @@
+package com.stock.stockserver.infrastructure.producer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.domain.AnalysisTarget;
+import com.stock.stockserver.domain.entity.AnalysisJob;
+import com.stock.stockserver.domain.entity.AnalysisOutboxEvent;
+import com.stock.stockserver.domain.repository.AnalysisJobRepository;
+import com.stock.stockserver.domain.repository.AnalysisJobStore;
+import com.stock.stockserver.domain.repository.AnalysisOutboxRepository;
+import com.stock.stockserver.dto.AnalysisEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboxAnalysisRequestPublisherTest {
+
+    private AnalysisOutboxRepository outboxRepository;
+    private AnalysisJobRepository analysisJobRepository;
+    private AnalysisJobStore jobStore;
+    private ObjectMapper objectMapper;
+    private OutboxAnalysisRequestPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(AnalysisOutboxRepository.class);
+        analysisJobRepository = mock(AnalysisJobRepository.class);
+        jobStore = mock(AnalysisJobStore.class);
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        // 콜백을 실행하고, 정상 종료면 커밋 후 동기화(afterCommit)를 호출한다. 예외면 롤백으로 본다
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+                List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+                return result;
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        });
+
+        publisher = new OutboxAnalysisRequestPublisher(outboxRepository, analysisJobRepository, jobStore,
+                objectMapper, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("publish - 작업 행(RUNNING)과 outbox 행을 한 트랜잭션에 쓰고, Redis 해시는 커밋 후에 갱신")
+    void publish_writesJobAndOutboxEvent() throws Exception {
+        when(outboxRepository.save(any())).thenAnswer(invocation -> {
+            verifyNoInteractions(jobStore);
+            return invocation.getArgument(0);
+        });
+
+        publisher.publish("analysis-id", AnalysisTarget.OVERSEAS);
+
+        ArgumentCaptor<AnalysisJob> job = ArgumentCaptor.forClass(AnalysisJob.class);
+        verify(analysisJobRepository).save(job.capture());
+        assertEquals("analysis-id", job.getValue().getAnalysisId());
+        assertEquals(AnalysisStatus.RUNNING, job.getValue().getStatus());
+        verify(jobStore).cache(job.getValue());
+        verify(jobStore, never()).save(any());
+
+        ArgumentCaptor<AnalysisOutboxEvent> outbox = ArgumentCaptor.forClass(AnalysisOutboxEvent.class);
+        verify(outboxRepository).save(outbox.capture());
+        assertEquals("analysis-requests", outbox.getValue().getTopic());
+        assertEquals("analysis-id", outbox.getValue().getMessageKey());
+
+        AnalysisEvent event = objectMapper.readValue(outbox.getValue().getPayload(), AnalysisEvent.class);
+        assertEquals("analysis-id", event.analysisId());
+        assertEquals(AnalysisTarget.OVERSEAS, event.target());
+    }
+
+    @Test
+    @DisplayName("publish - outbox 기록이 실패해 롤백되면 Redis 에 RUNNING 을 남기지 않는다")
+    void publish_rollbackLeavesNoCachedStatus() {
+        when(outboxRepository.save(any())).thenThrow(new IllegalStateException("insert failed"));
+
+        assertThrows(IllegalStateException.class, () -> publisher.publish("analysis-id", AnalysisTarget.ALL));
+
+        verifyNoInteractions(jobStore);
+    }
+
+    @Test
+    @DisplayName("publishAsync - outbox 기록 후 완료된 future 반환")
+    void publishAsync_completesAfterOutboxWrite() {
+        assertTrue(publisher.publishAsync("analysis-id", AnalysisTarget.ALL).isDone());
+        verify(outboxRepository).save(any(AnalysisOutboxEvent.class));
+    }
+}
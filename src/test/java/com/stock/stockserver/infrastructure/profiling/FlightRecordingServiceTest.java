@@ -0,0 +1,92 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import com.stock.stockserver.dto.ProfilingRecordingDto;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingServiceTest {
+
+    private FlightRecordingService recordingService;
+
+    @BeforeEach
+    void setUp() {
+        recordingService = new FlightRecordingService();
+        ReflectionTestUtils.setField(recordingService, "continuousEnabled", false);
+        ReflectionTestUtils.setField(recordingService, "onDemandMaxDurationSeconds", 30L);
+        ReflectionTestUtils.setField(recordingService, "onDemandMaxSizeMb", 64L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingService.close();
+    }
+
+    @Test
+    @DisplayName("start/stop - 기록 중 발생한 도메인 이벤트가 파일에 남는다")
+    void startAndStop_recordsDomainEvents() throws Exception {
+        recordingService.start(Duration.ofSeconds(10), "default");
+
+        KisCallEvent.start("KRX", "FHKST03010100", "005930").finish("success", 1);
+        LlmCallEvent.start("gpt", "005930").finish("success", 1200);
+
+        Path file = recordingService.stop();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            RecordedEvent kisCall = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.stock.stockserver.KisCall"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals("005930", kisCall.getString("stockCode"));
+            assertEquals("FHKST03010100", kisCall.getString("trId"));
+            assertEquals(1, kisCall.getInt("retries"));
+            assertTrue(events.stream()
+                    .anyMatch(event -> event.getEventType().getName().equals("com.stock.stockserver.LlmCall")));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("start - 최대 시간을 넘는 요청은 최대 시간으로 줄이고, 실행 중에는 다시 시작할 수 없다")
+    void start_boundsDurationAndRejectsConcurrentRecording() throws Exception {
+        ProfilingRecordingDto status = recordingService.start(Duration.ofHours(1), "default");
+
+        assertEquals(Duration.ofSeconds(30), status.duration());
+        assertEquals(64L * 1024 * 1024, status.maxSizeBytes());
+        assertThrows(IllegalStateException.class, () -> recordingService.start(Duration.ofSeconds(10), "default"));
+        assertThrows(IllegalArgumentException.class, () -> recordingService.start(Duration.ofSeconds(10), "custom"));
+
+        Files.deleteIfExists(recordingService.stop());
+        assertNull(recordingService.stop());
+    }
+
+    @Test
+    @DisplayName("start - 환경 변수/시스템 프로퍼티/JVM 정보 이벤트는 기록하지 않는다")
+    void start_excludesSensitiveEvents() throws Exception {
+        recordingService.start(Duration.ofSeconds(10), "profile");
+
+        Path file = recordingService.stop();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+            assertFalse(events.isEmpty());
+            assertTrue(events.stream().noneMatch(event ->
+                    FlightRecordingService.SENSITIVE_EVENTS.contains(event.getEventType().getName())));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.stock.stockserver.infrastructure.profiling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordingCacheTest {
+
+    @Test
+    @DisplayName("조회/저장/삭제는 감싼 캐시에 그대로 위임된다")
+    void delegatesToTargetCache() {
+        ConcurrentMapCache target = new ConcurrentMapCache("kisDailyCache");
+        Cache cache = new RecordingCache(target);
+
+        assertNull(cache.get("005930"));
+        cache.put("005930", "daily");
+
+        assertEquals("kisDailyCache", cache.getName());
+        assertEquals("daily", cache.get("005930", String.class));
+        assertEquals("daily", target.get("005930", String.class));
+        assertEquals("daily", cache.putIfAbsent("005930", "other").get());
+
+        assertTrue(cache.evictIfPresent("005930"));
+        assertNull(target.get("005930"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.stock.stockserver.presentation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminTokenInterceptorTest {
+
+    @Test
+    @DisplayName("토큰이 설정되지 않았으면 모든 요청을 403으로 거부한다")
+    void rejectsAllWhenTokenMissing() {
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/profiling/continuous");
+        request.addHeader(AdminTokenInterceptor.HEADER, "");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("X-Admin-Token 이 일치할 때만 통과시킨다")
+    void requiresMatchingToken() {
+        AdminTokenInterceptor interceptor = new AdminTokenInterceptor("secret");
+
+        MockHttpServletResponse missing = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/admin/profiling/continuous"),
+                missing, new Object()));
+        assertEquals(401, missing.getStatus());
+
+        MockHttpServletRequest wrong = new MockHttpServletRequest("GET", "/api/admin/profiling/continuous");
+        wrong.addHeader(AdminTokenInterceptor.HEADER, "guess");
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(wrong, rejected, new Object()));
+        assertEquals(401, rejected.getStatus());
+
+        MockHttpServletRequest valid = new MockHttpServletRequest("GET", "/api/admin/profiling/continuous");
+        valid.addHeader(AdminTokenInterceptor.HEADER, "secret");
+        assertTrue(interceptor.preHandle(valid, new MockHttpServletResponse(), new Object()));
+    }
+}
@@ -1,12 +1,18 @@
 package com.stock.stockserver.presentation;
 
-import com.stock.stockserver.application.AnalysisRequestPublisher;
+import com.stock.stockserver.application.AnalysisRequestService;
+import com.stock.stockserver.application.AnalysisTimelineService;
 import com.stock.stockserver.application.StockAnalysisService;
 import com.stock.stockserver.domain.AnalysisTarget;
 import com.stock.stockserver.domain.entity.AnalysisJob;
 import com.stock.stockserver.domain.AnalysisStatus;
+import com.stock.stockserver.dto.AnalysisJobStatusDto;
+import com.stock.stockserver.dto.AnalysisProgressEvent;
 import com.stock.stockserver.dto.AnalysisResultDto;
+import com.stock.stockserver.dto.AnalysisResultPageDto;
+import com.stock.stockserver.dto.AnalysisResultSummaryDto;
 import com.stock.stockserver.dto.AnalysisStatusDto;
+import com.stock.stockserver.dto.PostAnalysisDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +22,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,7 +40,13 @@ class AnalysisControllerTest {
     private StockAnalysisService analysisService;
 
     @Mock
-    private AnalysisRequestPublisher analysisRequestPublisher;
+    private AnalysisRequestService analysisRequestService;
+
+    @Mock
+    private AnalysisProgressEmitters progressEmitters;
+
+    @Mock
+    private AnalysisTimelineService timelineService;
 
     @InjectMocks
     private AnalysisController analysisController;
@@ -40,46 +54,66 @@ class AnalysisControllerTest {
     @Test
     @DisplayName("runAnalysis - 분석 요청 시 200 응답")
     void runAnalysis_success() {
-        ResponseEntity<?> response = analysisController.runAnalysis(AnalysisTarget.ALL);
+        when(analysisRequestService.submit(AnalysisTarget.ALL))
+                .thenReturn(new PostAnalysisDto("test-id", AnalysisStatus.RUNNING));
+
+        ResponseEntity<PostAnalysisDto> response = analysisController.runAnalysis(AnalysisTarget.ALL);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(analysisRequestPublisher, times(1)).publish(anyString(), eq(AnalysisTarget.ALL));
+        assertEquals("test-id", response.getBody().analysisId());
+        verify(analysisRequestService).submit(AnalysisTarget.ALL);
     }
 
     @Test
     @DisplayName("runAnalysis - 국내 분석 요청")
     void runAnalysis_domestic() {
-        ResponseEntity<?> response = analysisController.runAnalysis(AnalysisTarget.DOMESTIC);
+        when(analysisRequestService.submit(AnalysisTarget.DOMESTIC))
+                .thenReturn(new PostAnalysisDto("test-id", AnalysisStatus.RUNNING));
+
+        ResponseEntity<PostAnalysisDto> response = analysisController.runAnalysis(AnalysisTarget.DOMESTIC);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(analysisRequestPublisher).publish(anyString(), eq(AnalysisTarget.DOMESTIC));
+        assertEquals("test-id", response.getBody().analysisId());
+        verify(analysisRequestService).submit(AnalysisTarget.DOMESTIC);
     }
 
     @Test
     @DisplayName("runAnalysis - 해외 분석 요청")
     void runAnalysis_overseas() {
-        ResponseEntity<?> response = analysisController.runAnalysis(AnalysisTarget.OVERSEAS);
+        when(analysisRequestService.submit(AnalysisTarget.OVERSEAS))
+                .thenReturn(new PostAnalysisDto("test-id", AnalysisStatus.RUNNING));
+
+        ResponseEntity<PostAnalysisDto> response = analysisController.runAnalysis(AnalysisTarget.OVERSEAS);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(analysisRequestPublisher).publish(anyString(), eq(AnalysisTarget.OVERSEAS));
+        assertEquals("test-id", response.getBody().analysisId());
+        verify(analysisRequestService).submit(AnalysisTarget.OVERSEAS);
     }
 
     @Test
     @DisplayName("runDomesticAnalysis - 국내 전용 API")
     void runDomesticAnalysis_success() {
-        ResponseEntity<?> response = analysisController.runDomesticAnalysis();
+        when(analysisRequestService.submit(AnalysisTarget.DOMESTIC))
+                .thenReturn(new PostAnalysisDto("test-id", AnalysisStatus.RUNNING));
+
+        ResponseEntity<PostAnalysisDto> response = analysisController.runDomesticAnalysis();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(analysisRequestPublisher).publish(anyString(), eq(AnalysisTarget.DOMESTIC));
+        assertEquals("test-id", response.getBody().analysisId());
+        verify(analysisRequestService).submit(AnalysisTarget.DOMESTIC);
     }
 
     @Test
     @DisplayName("runOverseasAnalysis - 해외 전용 API")
     void runOverseasAnalysis_success() {
-        ResponseEntity<?> response = analysisController.runOverseasAnalysis();
+        when(analysisRequestService.submit(AnalysisTarget.OVERSEAS))
+                .thenReturn(new PostAnalysisDto("test-id", AnalysisStatus.RUNNING));
+
+        ResponseEntity<PostAnalysisDto> response = analysisController.runOverseasAnalysis();
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(analysisRequestPublisher).publish(anyString(), eq(AnalysisTarget.OVERSEAS));
+        assertEquals("test-id", response.getBody().analysisId());
+        verify(analysisRequestService).submit(AnalysisTarget.OVERSEAS);
     }
 
     @Test
@@ -106,6 +140,76 @@ class AnalysisControllerTest {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
+    @Test
+    @DisplayName("getStatuses - 여러 작업 상태 일괄 조회")
+    void getStatuses_success() {
+        List<String> ids = List.of("job-1", "job-2");
+        when(analysisService.getJobStatuses(ids)).thenReturn(List.of(
+                new AnalysisJobStatusDto("job-1", AnalysisStatus.RUNNING, null, 3, 10, null, null)));
+
+        ResponseEntity<List<AnalysisJobStatusDto>> response = analysisController.getStatuses(ids);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+    }
+
+    @Test
+    @DisplayName("getStatuses - 조회 개수 제한 초과 시 400 응답")
+    void getStatuses_tooManyIds() {
+        List<String> ids = java.util.stream.IntStream.range(0, 101).mapToObj(String::valueOf).toList();
+
+        ResponseEntity<List<AnalysisJobStatusDto>> response = analysisController.getStatuses(ids);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(analysisService);
+    }
+
+    @Test
+    @DisplayName("streamProgress - 구독 후 현재 상태를 첫 이벤트로 전송")
+    void streamProgress_sendsSnapshot() {
+        SseEmitter emitter = new SseEmitter();
+        when(progressEmitters.subscribe("job-1")).thenReturn(emitter);
+        when(analysisService.getJobStatuses(List.of("job-1"))).thenReturn(List.of(
+                new AnalysisJobStatusDto("job-1", AnalysisStatus.RUNNING, null, 3, 10, null, null)));
+
+        ResponseEntity<SseEmitter> response = analysisController.streamProgress("job-1");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(emitter, response.getBody());
+        verify(progressEmitters).sendTo(eq("job-1"), eq(emitter), argThat(event ->
+                event.type() == AnalysisProgressEvent.Type.PROGRESS && event.completed() == 3));
+    }
+
+    @Test
+    @DisplayName("streamProgress - 분석 작업이 없는 경우 404 응답")
+    void streamProgress_notFound() {
+        SseEmitter emitter = new SseEmitter();
+        when(progressEmitters.subscribe("job-1")).thenReturn(emitter);
+        when(analysisService.getJobStatuses(List.of("job-1"))).thenReturn(List.of());
+
+        ResponseEntity<SseEmitter> response = analysisController.streamProgress("job-1");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(progressEmitters).unsubscribe("job-1", emitter);
+        verify(progressEmitters, never()).sendTo(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("streamProgress - 404 응답 후 구독 목록에 emitter 가 남지 않는다")
+    void streamProgress_notFoundLeavesNoSubscriber() {
+        AnalysisProgressEmitters emitters = new AnalysisProgressEmitters();
+        ReflectionTestUtils.setField(emitters, "timeoutMs", 60_000L);
+        AnalysisController controller = new AnalysisController(
+                analysisService, analysisRequestService, emitters, timelineService);
+        when(analysisService.getJobStatuses(List.of("unknown"))).thenReturn(List.of());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(HttpStatus.NOT_FOUND, controller.streamProgress("unknown").getStatusCode());
+        }
+
+        assertEquals(0, emitters.subscriberCount("unknown"));
+    }
+
     @Test
     @DisplayName("getResult - 분석 결과 조회")
     void getResult_success() {
@@ -114,7 +218,10 @@ class AnalysisControllerTest {
         when(job.getStatus()).thenReturn(AnalysisStatus.DONE);
         when(analysisService.getAnalysisJob(analysisId)).thenReturn(job);
 
-        ResponseEntity<List<AnalysisResultDto>> response = analysisController.getResult(analysisId);
+        when(analysisService.getAnalysisResults(analysisId, null, 20))
+                .thenReturn(new AnalysisResultPageDto(List.of(), null));
+
+        ResponseEntity<AnalysisResultPageDto> response = analysisController.getResult(analysisId, null, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
     }
@@ -127,7 +234,7 @@ class AnalysisControllerTest {
         when(job.getStatus()).thenReturn(AnalysisStatus.RUNNING);
         when(analysisService.getAnalysisJob(analysisId)).thenReturn(job);
 
-        ResponseEntity<List<AnalysisResultDto>> response = analysisController.getResult(analysisId);
+        ResponseEntity<AnalysisResultPageDto> response = analysisController.getResult(analysisId, null, 20);
 
         assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
     }
@@ -138,29 +245,59 @@ class AnalysisControllerTest {
         String analysisId = "non-existent-id";
         when(analysisService.getAnalysisJob(analysisId)).thenReturn(null);
 
-        ResponseEntity<List<AnalysisResultDto>> response = analysisController.getResult(analysisId);
+        ResponseEntity<AnalysisResultPageDto> response = analysisController.getResult(analysisId, null, 20);
 
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
 
     @Test
-    @DisplayName("getLatestAnalysis - 최근 분석 결과 조회")
-    void getLatestAnalysis_success() {
+    @DisplayName("getStockResult - 종목별 분석 본문 조회")
+    void getStockResult_success() {
         AnalysisResultDto dto = new AnalysisResultDto(
                 AnalysisTarget.DOMESTIC,
-                "005930", 
-                "Samsung", 
-                null, 
-                "Analysis text", 
+                "005930",
+                "Samsung",
+                null,
+                "Analysis text",
                 com.stock.stockserver.domain.RecommendationStatus.BUY
         );
-        List<AnalysisResultDto> mockResults = Arrays.asList(dto);
-        when(analysisService.getLatestAnalysis()).thenReturn(mockResults);
+        when(analysisService.getAnalysisResult("test-id", "005930")).thenReturn(dto);
+
+        ResponseEntity<AnalysisResultDto> response = analysisController.getStockResult("test-id", "005930");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Analysis text", response.getBody().llmAnalysis());
+    }
+
+    @Test
+    @DisplayName("getStockResult - 결과가 없는 경우 404 응답")
+    void getStockResult_notFound() {
+        when(analysisService.getAnalysisResult("test-id", "005930")).thenReturn(null);
+
+        ResponseEntity<AnalysisResultDto> response = analysisController.getStockResult("test-id", "005930");
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("getLatestAnalysis - 최근 분석 결과 조회")
+    void getLatestAnalysis_success() {
+        AnalysisResultSummaryDto dto = new AnalysisResultSummaryDto(
+                1L,
+                AnalysisTarget.DOMESTIC,
+                "005930",
+                "Samsung",
+                null,
+                com.stock.stockserver.domain.RecommendationStatus.BUY,
+                0.8
+        );
+        List<AnalysisResultSummaryDto> mockResults = Arrays.asList(dto);
+        when(analysisService.getLatestAnalysis(null, 20)).thenReturn(new AnalysisResultPageDto(mockResults, null));
 
-        ResponseEntity<List<AnalysisResultDto>> response = analysisController.getLatestAnalysis();
+        ResponseEntity<AnalysisResultPageDto> response = analysisController.getLatestAnalysis(null, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(1, response.getBody().size());
+        assertEquals(1, response.getBody().items().size());
     }
 }
@@ -0,0 +1,43 @@
+package com.stock.stockserver.presentation;
+
+import com.stock.stockserver.dto.AnalysisProgressEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AnalysisProgressEmittersTest {
+
+    private AnalysisProgressEmitters emitters;
+
+    @BeforeEach
+    void setUp() {
+        emitters = new AnalysisProgressEmitters();
+        ReflectionTestUtils.setField(emitters, "timeoutMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("dispatch - 진행 이벤트는 구독을 유지하고 종료 이벤트는 구독을 정리한다")
+    void dispatch_removesSubscribersOnTerminalEvent() {
+        emitters.subscribe("job-1");
+        emitters.subscribe("job-1");
+        emitters.subscribe("job-2");
+
+        emitters.dispatch(AnalysisProgressEvent.progress("job-1", 1, 10));
+        assertEquals(2, emitters.subscriberCount("job-1"));
+
+        emitters.dispatch(AnalysisProgressEvent.done("job-1"));
+        assertEquals(0, emitters.subscriberCount("job-1"));
+        assertEquals(1, emitters.subscriberCount("job-2"));
+    }
+
+    @Test
+    @DisplayName("dispatch - 구독자가 없는 작업의 이벤트는 무시한다")
+    void dispatch_ignoresUnknownJob() {
+        emitters.dispatch(AnalysisProgressEvent.failed("unknown", "error"));
+
+        assertEquals(0, emitters.subscriberCount("unknown"));
+    }
+}